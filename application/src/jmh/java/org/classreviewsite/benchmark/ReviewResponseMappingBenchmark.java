@@ -0,0 +1,94 @@
+package org.classreviewsite.benchmark;
+
+import org.classreviewsite.domain.review.ReviewSummary;
+import org.classreviewsite.review.controller.data.Response.ReviewResponse;
+import org.classreviewsite.user.controller.data.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수강후기 500개 한 페이지를 ReviewResponse 로 매핑하는 비용.
+ * legacy 는 String.format 으로 반올림하고 작성일을 매번 이어 붙이던 이전 매핑, current 는 NumberFormat, DateFormat 을 쓰는 지금 매핑이다.
+ * ./gradlew :application:jmh 로 실행하며, gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 페이지당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewResponseMappingBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewResponseMappingBenchmark.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    private List<ReviewSummary> page;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 6, 1, 9, 0);
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(new ReviewSummary(
+                    (long) i,
+                    "제목 " + i,
+                    "내용 " + i,
+                    (random.nextInt(9) + 2) / 2.0,
+                    random.nextInt(50),
+                    base.minusDays(random.nextInt(30)).plusMinutes(i),
+                    20200000 + i,
+                    "닉네임" + i
+            ));
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (ReviewSummary review : page) {
+            blackhole.consume(legacyFrom(review));
+        }
+    }
+
+    @Benchmark
+    public void current(Blackhole blackhole) {
+        for (ReviewSummary review : page) {
+            blackhole.consume(ReviewResponse.from(review));
+        }
+    }
+
+    private static ReviewResponse legacyFrom(ReviewSummary review) {
+        return new ReviewResponse(
+                review.getReviewId(),
+                review.getPostTitle(),
+                review.getPostContent(),
+                legacyFormat(review.getStarLating()),
+                review.getLikes(),
+                review.getCreatedDate().getYear()+"-"+review.getCreatedDate().getMonth().getValue()+"-"+review.getCreatedDate().getDayOfMonth(),
+                UserResponse.of(review.getUserNumber(), review.getNickname())
+        );
+    }
+
+    private static Double legacyFormat(Double number) {
+        log.info("data: {}", String.format("%.1f", number));
+        return Double.valueOf(String.format("%.1f", number));
+    }
+}
@@ -1,6 +1,9 @@
 package org.classreviewsite.config;
 
+import org.classreviewsite.domain.lecture.LectureDataRepository;
 import org.classreviewsite.domain.review.ClassReviewDataRepository;
+import org.classreviewsite.domain.user.UserDataRepository;
+import org.classreviewsite.lecture.service.LectureRatingService;
 import org.classreviewsite.review.service.*;
 import org.classreviewsite.user.service.UserService;
 import org.springframework.context.annotation.Bean;
@@ -10,22 +13,22 @@ import org.springframework.context.annotation.Configuration;
 public class ReviewConfig {
 
     @Bean
-    public ReviewWriter reviewWriter(ClassReviewDataRepository classReviewDataRepository) {
-        return new ReviewWriter(classReviewDataRepository);
+    public ReviewWriter reviewWriter(ClassReviewDataRepository classReviewDataRepository, LectureDataRepository lectureDataRepository, UserDataRepository userDataRepository) {
+        return new ReviewWriter(classReviewDataRepository, lectureDataRepository, userDataRepository);
     }
 
     @Bean
-    public ReviewEditor reviewEditor(ReviewDataService reviewDataService, ReviewHistoryValidator reviewHistoryValidator) {
-        return new ReviewEditor(reviewDataService, reviewHistoryValidator);
+    public ReviewEditor reviewEditor(ReviewDataService reviewDataService, ReviewHistoryValidator reviewHistoryValidator, LectureRatingService lectureRatingService, ReviewViewCache reviewViewCache) {
+        return new ReviewEditor(reviewDataService, reviewHistoryValidator, lectureRatingService, reviewViewCache);
     }
 
     @Bean
-    public ReviewDeletor reviewDeletor(UserService userService, ReviewDataService reviewDataService, LikeStatusCheckor likeStatusCheckor) {
-        return new ReviewDeletor(userService, reviewDataService, likeStatusCheckor);
+    public ReviewDeletor reviewDeletor(UserService userService, ReviewDataService reviewDataService, LikeStatusCheckor likeStatusCheckor, LectureRatingService lectureRatingService, ReviewViewCache reviewViewCache) {
+        return new ReviewDeletor(userService, reviewDataService, likeStatusCheckor, lectureRatingService, reviewViewCache);
     }
 
     @Bean
-    public ReviewFinder reviewFinder() {
-        return new ReviewFinder();
+    public ReviewFinder reviewFinder(ReviewDataService reviewDataService, ReviewViewCache reviewViewCache) {
+        return new ReviewFinder(reviewDataService, reviewViewCache);
     }
 }
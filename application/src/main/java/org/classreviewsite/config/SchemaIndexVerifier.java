@@ -0,0 +1,176 @@
+package org.classreviewsite.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기동 시 조회 경로가 기대는 인덱스가 실제 DB 에 있는지 확인하고, 하나라도 없으면 기동을 멈춘다.
+ * 인덱스 이름은 환경마다 다를 수 있으므로(ddl-auto 로 만든 DB 등) 테이블과 선두 컬럼 순서로만 비교한다.
+ * 인덱스는 db/migration 의 V3__covering_indexes.sql 로 만든다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "schema.index-verification.enabled", havingValue = "true")
+public class SchemaIndexVerifier implements ApplicationRunner {
+
+    public static final List<ExpectedIndex> EXPECTED_INDEXES = List.of(
+            ExpectedIndex.of("Lectures", "universityId", "lectureId"),
+            ExpectedIndex.of("Lectures", "university", "weighted_rating"),
+            ExpectedIndex.of("Lectures", "lectureName"),
+            ExpectedIndex.of("ClassReview", "lecId", "starLating"),
+            ExpectedIndex.of("ClassReview", "lecId", "likes"),
+            ExpectedIndex.of("ClassReview", "lecId", "createDate"),
+            ExpectedIndex.unique("ClassReview", "userNumber", "lecId"),
+            ExpectedIndex.unique("Likes", "reviewId", "userNumber"),
+            ExpectedIndex.of("Enrollment", "userNumber", "lecture_lectureId"),
+            ExpectedIndex.unique("LectureSemesterRating", "lectureId", "ratingYear", "semester")
+    );
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<ExpectedIndex> missing;
+        try (Connection connection = dataSource.getConnection()) {
+            missing = findMissing(connection.getMetaData(), connection.getCatalog());
+        }
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("필수 인덱스가 없습니다. db/migration 마이그레이션 적용 여부를 확인하세요. " + missing);
+        }
+        log.info("인덱스 확인 완료. count: {}", EXPECTED_INDEXES.size());
+    }
+
+    public List<ExpectedIndex> findMissing(DatabaseMetaData metaData, String catalog) throws SQLException {
+        Map<String, List<ExistingIndex>> indexesByTable = new LinkedHashMap<>();
+        List<ExpectedIndex> missing = new ArrayList<>();
+
+        for (ExpectedIndex expected : EXPECTED_INDEXES) {
+            List<ExistingIndex> existing = indexesByTable.get(expected.getTable());
+            if (existing == null) {
+                existing = readIndexes(metaData, catalog, expected.getTable());
+                indexesByTable.put(expected.getTable(), existing);
+            }
+
+            if (existing.stream().noneMatch(expected::isSatisfiedBy)) {
+                missing.add(expected);
+            }
+        }
+        return missing;
+    }
+
+    private List<ExistingIndex> readIndexes(DatabaseMetaData metaData, String catalog, String table) throws SQLException {
+        Map<String, ExistingIndex> indexes = new LinkedHashMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(catalog, null, storedIdentifier(metaData, table), false, false)) {
+            while (rows.next()) {
+                String indexName = rows.getString("INDEX_NAME");
+                String columnName = rows.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                indexes.computeIfAbsent(indexName, name -> new ExistingIndex())
+                        .add(rows.getShort("ORDINAL_POSITION"), columnName, !rows.getBoolean("NON_UNIQUE"));
+            }
+        }
+        return new ArrayList<>(indexes.values());
+    }
+
+    /**
+     * 따옴표 없는 식별자를 대문자(H2 등)나 소문자(lower_case_table_names=1 인 MySQL)로 저장하는 DB 에 맞춰 테이블명을 바꾼다.
+     */
+    private String storedIdentifier(DatabaseMetaData metaData, String identifier) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return identifier.toUpperCase(Locale.ROOT);
+        }
+        if (metaData.storesLowerCaseIdentifiers()) {
+            return identifier.toLowerCase(Locale.ROOT);
+        }
+        return identifier;
+    }
+
+    @Getter
+    public static final class ExpectedIndex {
+
+        private final String table;
+        private final List<String> columns;
+        private final boolean unique;
+
+        private ExpectedIndex(String table, List<String> columns, boolean unique) {
+            this.table = table;
+            this.columns = columns;
+            this.unique = unique;
+        }
+
+        public static ExpectedIndex of(String table, String... columns) {
+            return new ExpectedIndex(table, List.of(columns), false);
+        }
+
+        public static ExpectedIndex unique(String table, String... columns) {
+            return new ExpectedIndex(table, List.of(columns), true);
+        }
+
+        /**
+         * 일반 인덱스는 선두 컬럼이 같으면 충분하고, 유니크 인덱스는 컬럼 구성이 정확히 같아야 한다.
+         */
+        private boolean isSatisfiedBy(ExistingIndex index) {
+            List<String> actual = index.columns();
+            if (unique) {
+                return index.unique && matches(actual, columns.size()) && actual.size() == columns.size();
+            }
+            return matches(actual, columns.size());
+        }
+
+        private boolean matches(List<String> actual, int length) {
+            if (actual.size() < length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (!actual.get(i).equalsIgnoreCase(columns.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return table + (unique ? " UNIQUE" : "") + columns;
+        }
+    }
+
+    private static final class ExistingIndex {
+
+        private final Map<Short, String> columnsByPosition = new TreeMap<>();
+        private boolean unique;
+
+        private void add(short position, String column, boolean unique) {
+            columnsByPosition.put(position, column);
+            this.unique = unique;
+        }
+
+        private List<String> columns() {
+            return new ArrayList<>(columnsByPosition.values());
+        }
+    }
+}
@@ -99,6 +99,11 @@ public class ControllerAdvice {
         return new Result(204, null, exception.getMessage());
     }
 
+    @ExceptionHandler(value = RepairNotAllowedException.class)
+    protected Result RepairNotAllowedException(RepairNotAllowedException exception){
+        return new Result(409, null, exception.getMessage());
+    }
+
     @ExceptionHandler(value = UpdateFailedException.class)
     protected Result UpdateFailedException(UpdateFailedException exception){
         return new Result(500, null, exception.getMessage());
@@ -0,0 +1,7 @@
+package org.classreviewsite.handler.exception;
+
+public class RepairNotAllowedException extends RuntimeException{
+    public RepairNotAllowedException(String message){
+        super(message);
+    }
+}
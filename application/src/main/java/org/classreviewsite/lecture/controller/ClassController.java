@@ -4,15 +4,31 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.service.CatalogResponseCache;
 import org.classreviewsite.lecture.service.EnrollmentDataService;
+import org.classreviewsite.lecture.service.LecturePageService;
+import org.classreviewsite.lecture.service.LectureTrendService;
+import org.classreviewsite.lecture.service.LectureVersionRegistry;
 import org.classreviewsite.review.controller.data.Response.ClassListResponse;
 import org.classreviewsite.review.controller.data.Response.ClassListWithProfessorResponse;
+import org.classreviewsite.review.controller.data.Response.FacetedClassListResponse;
 import org.classreviewsite.lecture.controller.data.response.EnrollmentResponse;
+import org.classreviewsite.lecture.controller.data.response.LecturePageResponse;
+import org.classreviewsite.lecture.controller.data.response.LectureSuggestResponse;
+import org.classreviewsite.lecture.controller.data.response.LectureTrendResponse;
 import org.classreviewsite.review.service.ClassListAndDetailService;
+import org.classreviewsite.review.service.ImageUrlService;
+import org.classreviewsite.util.CursorPage;
 import org.classreviewsite.util.Result;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,18 +39,107 @@ public class ClassController {
 
     private final EnrollmentDataService enrollmentDataService;
     private final ClassListAndDetailService classListAndDetailService;
+    private final LectureVersionRegistry lectureVersionRegistry;
+    private final CatalogResponseCache catalogResponseCache;
+    private final LecturePageService lecturePageService;
+    private final LectureTrendService lectureTrendService;
+    private final ImageUrlService imageUrlService;
 
     @GetMapping("/class")
-    @Operation(summary = "전체 강의 정보", description = "university(학교이름)을 param으로 요청하시면 해당 학교의 강의정보가 조회됩니다. 해당 학교의 강의정보가 없을경우 401 상태번호를 반환합니다.")
+    @Operation(summary = "전체 강의 정보", description = "university(학교이름)을 param으로 요청하시면 해당 학교의 강의정보가 조회됩니다. 해당 학교의 강의정보가 없을경우 401 상태번호를 반환합니다. size 또는 cursor 를 함께 주면 lectureId 순 페이지 단위로 조회되며(size 최대 100), 응답의 nextCursor 를 다음 요청의 cursor 로 전달하시면 됩니다. department(학과), lectureType(강의 유형), ratingBand(평균 별점 정수부 0~4) 를 주면 해당 조건으로 거른 강의와 조건별 강의 수(facets)를 반환합니다. 같은 조건을 여러 번 주면 OR, 서로 다른 조건은 AND 로 결합됩니다. 응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 304 를 반환합니다. gzip 으로 받은 전체 목록의 ETag 에는 -gz 가 붙습니다.")
     @ApiResponse(responseCode = "200", description = "전체 강의 목록입니다.")
+    @ApiResponse(responseCode = "304", description = "이전 응답 이후 변경되지 않았습니다.")
     @ApiResponse(responseCode = "401", description = "해당 학교의 강의가 존재하지 않습니다.")
-    public Result classList(@RequestParam(value = "university") String university, @RequestParam(value = "lectureId", required = false) Long lectureId){
+    @ApiResponse(responseCode = "403", description = "잘못된 커서입니다.")
+    public ResponseEntity<?> classList(@RequestParam(value = "university") String university,
+                                       @RequestParam(value = "lectureId", required = false) Long lectureId,
+                                       @RequestParam(value = "cursor", required = false) String cursor,
+                                       @RequestParam(value = "size", required = false) Integer size,
+                                       @RequestParam(value = "department", required = false) List<String> departments,
+                                       @RequestParam(value = "lectureType", required = false) List<LectureType> lectureTypes,
+                                       @RequestParam(value = "ratingBand", required = false) List<Integer> ratingBands,
+                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                       WebRequest webRequest){
+        String eTag = lectureId == null ? lectureVersionRegistry.universityETag(university) : detailETag(lectureId);
+        boolean wholeCatalog = lectureId == null && departments == null && lectureTypes == null && ratingBands == null && cursor == null && size == null;
+        ResponseEntity<byte[]> cached = wholeCatalog ? catalogResponseCache.findCatalog(university, eTag, acceptEncoding) : null;
+        String responseETag = cached == null ? eTag : cached.getHeaders().getETag();
+        if (responseETag != null && webRequest.checkNotModified(responseETag)) {
+            return null;
+        }
+        if (cached != null) {
+            return cached;
+        }
+        if (lectureId == null && (departments != null || lectureTypes != null || ratingBands != null)) {
+            FacetedClassListResponse response = classListAndDetailService.filter(university, departments, lectureTypes, ratingBands, cursor, size);
+            return ResponseEntity.ok(Result.success(response, "조건에 맞는 강의 목록입니다."));
+        }
+        if (lectureId == null && (cursor != null || size != null)) {
+            CursorPage<ClassListResponse> response = classListAndDetailService.get(university, cursor, size);
+            return ResponseEntity.ok(Result.success(response, "전체 강의 목록입니다."));
+        }
         if (lectureId == null) {
             List<ClassListResponse> response = classListAndDetailService.get(university);
-            return Result.success(response, "전체 강의 목록입니다.");
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(Result.success(response, CatalogResponseCache.CATALOG_MESSAGE));
         }
         ClassListWithProfessorResponse.ClassListWithProfessorNameInDetail response = classListAndDetailService.detail(lectureId);
-        return Result.success(response, "강의 상세 정보 조회입니다.");
+        return ResponseEntity.ok(Result.success(response, "강의 상세 정보 조회입니다."));
+    }
+
+    @GetMapping("/class/search")
+    @Operation(summary = "강의 검색", description = "university(학교이름)과 keyword(검색어)를 param으로 요청하시면 강의명, 교수명, 학과명에서 검색어와 일치하는 강의를 관련도순으로 조회합니다. size(최대 100)와 응답의 nextCursor 를 cursor 로 전달해 다음 페이지를 조회하시면 됩니다.")
+    @ApiResponse(responseCode = "200", description = "강의 검색 결과입니다.")
+    @ApiResponse(responseCode = "401", description = "해당 대학의 강의가 존재하지 않습니다.")
+    @ApiResponse(responseCode = "403", description = "검색어를 입력해주세요.")
+    public Result searchClass(@RequestParam("university") String university,
+                              @RequestParam("keyword") String keyword,
+                              @RequestParam(value = "cursor", required = false) String cursor,
+                              @RequestParam(value = "size", required = false) Integer size){
+        CursorPage<ClassListResponse> response = classListAndDetailService.search(university, keyword, cursor, size);
+        return Result.success(response, "강의 검색 결과입니다.");
+    }
+
+    @GetMapping("/class/top")
+    @Operation(summary = "강의 순위", description = "university(학교이름)을 param으로 요청하시면 가중 별점(후기가 적은 강의는 대학 평균 쪽으로 보정한 별점)이 높은 순(같으면 후기 수가 많은 순)으로 강의를 limit(기본 10, 최대 50)개 조회합니다. department(학과), lectureType(강의 유형)을 주면 해당 조건 안에서의 순위를 조회합니다. 후기가 없는 강의는 포함되지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "강의 순위입니다.")
+    public Result topClass(@RequestParam("university") String university,
+                           @RequestParam(value = "department", required = false) String department,
+                           @RequestParam(value = "lectureType", required = false) LectureType lectureType,
+                           @RequestParam(value = "limit", required = false) Integer limit){
+        List<ClassListResponse> response = classListAndDetailService.top(university, department, lectureType, limit);
+        return Result.success(response, "강의 순위입니다.");
+    }
+
+    @GetMapping("/class/suggest")
+    @Operation(summary = "강의명 자동완성", description = "university(학교이름)과 keyword(입력 중인 검색어)를 param으로 요청하시면 강의명이 keyword 로 시작하는 강의를 후기 많은 순으로 최대 limit(기본 10, 최대 10)개 조회합니다. 조합 중인 글자(예: \"자료\" 입력 중의 \"잘\")와 초성(예: \"ㅈㄹㄱㅈ\")으로도 검색됩니다.")
+    @ApiResponse(responseCode = "200", description = "강의명 자동완성 결과입니다.")
+    public Result suggestClass(@RequestParam("university") String university,
+                               @RequestParam("keyword") String keyword,
+                               @RequestParam(value = "limit", required = false) Integer limit){
+        List<LectureSuggestResponse> response = classListAndDetailService.suggest(university, keyword, limit);
+        return Result.success(response, "강의명 자동완성 결과입니다.");
+    }
+
+    @GetMapping("/class/{lectureId}/page")
+    @Operation(summary = "강의 화면", description = "강의 상세 정보, 최신순 수강후기 첫 페이지(size 기본 20, 최대 100), userNumber(학번)를 주면 해당 학생이 이 강의에서 좋아요한 수강후기 id 목록을 한 번에 조회합니다. 수강후기 다음 페이지는 reviews.nextCursor 로 이어서 조회하시면 됩니다.")
+    @ApiResponse(responseCode = "200", description = "강의 화면 정보입니다.")
+    @ApiResponse(responseCode = "401", description = "존재하지 않는 강의입니다.")
+    public Result lecturePage(@PathVariable("lectureId") Long lectureId,
+                              @RequestParam(value = "userNumber", required = false) Integer userNumber,
+                              @RequestParam(value = "size", required = false) Integer size){
+        LecturePageResponse response = lecturePageService.page(lectureId, userNumber, size);
+        return Result.success(response, "강의 화면 정보입니다.");
+    }
+
+    @GetMapping("/class/{lectureId}/trend")
+    @Operation(summary = "강의 별점 추이", description = "학기별 후기 수와 평균 별점을 오래된 학기부터 조회합니다. 후기는 작성일 기준으로 3~8월은 그해 1학기, 9~12월은 그해 2학기, 1~2월은 전년도 2학기로 묶이며, 후기가 없는 학기는 포함되지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "강의 별점 추이입니다.")
+    @ApiResponse(responseCode = "401", description = "존재하지 않는 강의입니다.")
+    public Result lectureTrend(@PathVariable("lectureId") Long lectureId){
+        List<LectureTrendResponse> response = lectureTrendService.trend(lectureId);
+        return Result.success(response, "강의 별점 추이입니다.");
     }
 
     @GetMapping("/class/me")
@@ -46,4 +151,11 @@ public class ClassController {
         return Result.success(response, "해당 학생의 수강한 강의 목록입니다.");
     }
 
+    /**
+     * 상세 응답에는 교수 이미지 주소도 들어가므로, 이미지 목록 버전을 강의 버전 뒤에 붙인다.
+     */
+    private String detailETag(Long lectureId) {
+        String eTag = lectureVersionRegistry.lectureETag(lectureId);
+        return eTag == null ? null : eTag + "-" + imageUrlService.version();
+    }
 }
@@ -0,0 +1,27 @@
+package org.classreviewsite.lecture.controller.data.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.classreviewsite.review.controller.data.Response.ClassListWithProfessorResponse;
+import org.classreviewsite.review.controller.data.Response.ReviewResponse;
+import org.classreviewsite.util.CursorPage;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LecturePageResponse {
+
+    private ClassListWithProfessorResponse.ClassListWithProfessorNameInDetail lecture;
+
+    /**
+     * 최신순 첫 페이지. nextCursor 로 다음 페이지를 이어서 조회한다.
+     */
+    private CursorPage<ReviewResponse> reviews;
+
+    /**
+     * 요청한 학생이 이 강의에서 좋아요한 수강후기 id. userNumber 를 주지 않으면 빈 목록이다.
+     */
+    private List<Long> likedReviewIds;
+
+}
@@ -0,0 +1,28 @@
+package org.classreviewsite.lecture.controller.data.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.classreviewsite.domain.lecture.LectureSummary;
+
+@Getter
+@AllArgsConstructor
+public class LectureSuggestResponse {
+
+    private Long lectureId;
+
+    private String lectureName;
+
+    private String professor;
+
+    private String department;
+
+    public static LectureSuggestResponse from(LectureSummary lecture){
+        return new LectureSuggestResponse(
+                lecture.getLectureId(),
+                lecture.getLectureName(),
+                lecture.getProfessor(),
+                lecture.getDepartment()
+        );
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.classreviewsite.lecture.controller.data.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.classreviewsite.domain.lecture.LectureSemesterRating;
+
+@Getter
+@AllArgsConstructor
+public class LectureTrendResponse {
+
+    private Integer year;
+
+    /**
+     * 1학기는 1, 2학기는 2. 여름 계절학기(7~8월)는 1학기, 겨울 계절학기(1~2월)는 전년도 2학기에 포함된다.
+     */
+    private Integer semester;
+
+    private Long reviewCount;
+
+    private Double averageRating;
+
+    public static LectureTrendResponse from(LectureSemesterRating rating){
+        return new LectureTrendResponse(
+                rating.getRatingYear(),
+                rating.getSemester(),
+                rating.getReviewCount(),
+                rating.getAverageRating()
+        );
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.classreviewsite.lecture.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.classreviewsite.domain.lecture.LectureSummary;
+
+import java.util.List;
+
+/**
+ * 대학 하나의 강의 카탈로그가 DB 에서 새로 로딩되었음을 알리는 이벤트.
+ * 검색 색인처럼 카탈로그에서 파생되는 구조는 이 이벤트를 받아 해당 대학분을 다시 만든다.
+ */
+@Getter
+@AllArgsConstructor
+public class LectureCatalogLoadedEvent {
+
+    private final String university;
+    private final List<LectureSummary> lectures;
+
+}
@@ -0,0 +1,7 @@
+package org.classreviewsite.lecture.event;
+
+/**
+ * 별점 쓰기 지연 버퍼가 상한에 가까워졌음을 알리는 이벤트. 주기를 기다리지 않고 바로 반영하라는 신호다.
+ */
+public class LectureRatingBufferFullEvent {
+}
@@ -0,0 +1,16 @@
+package org.classreviewsite.lecture.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 강의 별점(StarRating)이 변경되었음을 알리는 이벤트.
+ * 변경된 값은 담지 않는다. 구독자는 커밋 이후 DB 에서 최신 값을 다시 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class LectureRatingChangedEvent {
+
+    private final Long lectureId;
+
+}
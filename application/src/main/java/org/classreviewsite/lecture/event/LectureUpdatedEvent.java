@@ -0,0 +1,16 @@
+package org.classreviewsite.lecture.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.classreviewsite.domain.lecture.LectureSummary;
+
+/**
+ * 카탈로그 스냅샷의 강의 한 건이 교체되었음을 알리는 이벤트.
+ */
+@Getter
+@AllArgsConstructor
+public class LectureUpdatedEvent {
+
+    private final LectureSummary lecture;
+
+}
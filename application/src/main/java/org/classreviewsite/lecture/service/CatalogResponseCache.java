@@ -0,0 +1,212 @@
+package org.classreviewsite.lecture.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.classreviewsite.review.controller.data.Response.ClassListResponse;
+import org.classreviewsite.review.service.ClassListAndDetailService;
+import org.classreviewsite.util.Result;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 강의 목록(/class?university=) 응답 바이트 캐시.
+ * Result 로 감싼 응답을 미리 JSON 으로 직렬화하고 gzip 으로도 압축해 두었다가, 요청의 Accept-Encoding 에 맞는 바이트 배열을 그대로 내려준다.
+ * 항목마다 만들 때의 카탈로그 ETag 를 기록해 두고 현재 ETag 와 같을 때만 사용한다.
+ * gzip 본문은 JSON 본문과 바이트가 다르므로 강한 ETag 가 겹치지 않도록 카탈로그 ETag 뒤에 -gz 를 붙여 내려준다.
+ * 카탈로그가 바뀌면 백그라운드 스레드에서 다시 만들며, 그동안의 요청은 일반 경로로 응답한다.
+ */
+@Component
+@Slf4j
+public class CatalogResponseCache {
+
+    public static final String CATALOG_MESSAGE = "전체 강의 목록입니다.";
+
+    private static final String CATALOG_ENDPOINT = "/class";
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private final ClassListAndDetailService classListAndDetailService;
+    private final LectureVersionRegistry lectureVersionRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+    private final Set<String> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-response-cache");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CatalogResponseCache(ClassListAndDetailService classListAndDetailService,
+                                LectureVersionRegistry lectureVersionRegistry,
+                                ObjectMapper objectMapper) {
+        this.classListAndDetailService = classListAndDetailService;
+        this.lectureVersionRegistry = lectureVersionRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onCatalogLoaded(LectureCatalogLoadedEvent event) {
+        refreshIfCached(event.getUniversity());
+    }
+
+    @EventListener
+    public void onLectureUpdated(LectureUpdatedEvent event) {
+        refreshIfCached(event.getLecture().getUniversity());
+    }
+
+    /**
+     * 응답에는 내려주는 본문의 ETag 를 넣으므로, 호출 측은 그 값으로 WebRequest.checkNotModified 를 확인하면 된다.
+     * @return 현재 ETag 로 만들어진 응답이 없으면 null. 이 경우 백그라운드에서 새로 만든다.
+     */
+    public ResponseEntity<byte[]> findCatalog(String university, String eTag, String acceptEncoding) {
+        if (eTag == null) {
+            return null;
+        }
+        String key = key(CATALOG_ENDPOINT, university);
+        CachedResponse cached = responses.get(key);
+        if (cached == null || !cached.eTag.equals(eTag)) {
+            scheduleRebuild(university);
+            return null;
+        }
+        return cached.toResponseEntity(acceptEncoding);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void refreshIfCached(String university) {
+        if (responses.containsKey(key(CATALOG_ENDPOINT, university))) {
+            scheduleRebuild(university);
+        }
+    }
+
+    private void scheduleRebuild(String university) {
+        if (!pendingRebuilds.add(university)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            pendingRebuilds.remove(university);
+            try {
+                rebuild(university);
+            } catch (RuntimeException e) {
+                log.warn("강의 목록 응답 캐시 생성 실패. university: {}", university, e);
+                responses.remove(key(CATALOG_ENDPOINT, university));
+            }
+        });
+    }
+
+    /**
+     * ETag 를 먼저 읽고 본문을 만든다. 그 사이 카탈로그가 바뀌면 본문이 ETag 보다 새로울 뿐이고, 바뀐 이벤트로 곧 다시 만들어진다.
+     */
+    public void rebuild(String university) {
+        String eTag = lectureVersionRegistry.universityETag(university);
+        if (eTag == null) {
+            return;
+        }
+        List<ClassListResponse> lectures = classListAndDetailService.get(university);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Result.success(lectures, CATALOG_MESSAGE));
+            responses.put(key(CATALOG_ENDPOINT, university), new CachedResponse(eTag, json, gzip(json)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("강의 목록 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static String key(String endpoint, String university) {
+        return endpoint + "?" + university;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static final class CachedResponse {
+
+        private final String eTag;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        private CachedResponse(String eTag, byte[] json, byte[] gzip) {
+            this.eTag = eTag;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        private ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(acceptEncoding)) {
+                return builder.eTag(eTag + GZIP_ETAG_SUFFIX).header(HttpHeaders.CONTENT_ENCODING, "gzip").contentLength(gzip.length).body(gzip);
+            }
+            return builder.eTag(eTag).contentLength(json.length).body(json);
+        }
+    }
+
+    /**
+     * Accept-Encoding 의 q 값을 따른다. gzip;q=0 처럼 거부한 경우는 물론, identity 를 더 높게 준 경우에도 압축하지 않는다.
+     * gzip(x-gzip) 이 없으면 * 의 q 값을 쓴다.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        Double identity = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = qualityOf(params);
+            switch (name) {
+                case "gzip", "x-gzip" -> gzip = quality;
+                case "*" -> any = quality;
+                case "identity" -> identity = quality;
+                default -> { }
+            }
+        }
+        double gzipQuality = gzip != null ? gzip : any != null ? any : 0.0;
+        return gzipQuality > 0 && (identity == null || gzipQuality >= identity);
+    }
+
+    private static double qualityOf(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
@@ -3,9 +3,11 @@ package org.classreviewsite.lecture.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.classreviewsite.domain.lecture.Enrollment;
+import org.classreviewsite.domain.lecture.EnrollmentCheck;
 import org.classreviewsite.domain.lecture.EnrollmentDataRepository;
 import org.classreviewsite.handler.exception.*;
 import org.classreviewsite.lecture.controller.data.response.EnrollmentResponse;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,4 +37,9 @@ public class EnrollmentDataService {
             return enrollmentDataRepository.findByUserNumber_UserNumberAndLecture_LectureName(userNumber, lectureName);
         }
 
+        @Transactional(readOnly = true)
+        public Optional<EnrollmentCheck> findWriteCheck(int userNumber, String lectureName){
+            return enrollmentDataRepository.findWriteCheck(userNumber, lectureName, PageRequest.of(0, 1)).stream().findFirst();
+        }
+
 }
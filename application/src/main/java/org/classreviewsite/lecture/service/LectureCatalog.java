@@ -0,0 +1,277 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.handler.exception.LectureNotFoundException;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureRatingChangedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대학별 강의 카탈로그 인메모리 스냅샷.
+ * 강의 메타데이터는 학기 중 거의 바뀌지 않으므로, 대학 단위로 처음 조회될 때 한 번 읽어 불변 리스트로 들고 있다가 TTL 이 지나면 다시 읽는다.
+ * 별점이 바뀐 강의는 커밋 이후 해당 강의 한 건만 다시 읽어 스냅샷을 교체한다.
+ * 로딩/교체 결과는 LectureCatalogLoadedEvent, LectureUpdatedEvent 로 알려 파생 색인들이 따라오게 한다.
+ * 스냅샷은 University 사전 id 로 구분하고, 강의의 대학명/학과명은 LectureDictionary 의 문자열로 맞춰 둔다.
+ * 사전에 없는 대학은 LectureDictionaryBackfill 로 한 번 사전을 채운 뒤 다시 찾는다.
+ * 별점 쓰기 지연 모드에서는 DB 에 아직 반영되지 않은 변화량을 LectureRatingBuffer 에서 더해 둔다.
+ * 같은 대학을 동시에 적재해야 하면 한 요청만 DB 를 읽고 나머지는 그 결과를 기다려, 로딩 이벤트도 한 번만 나간다.
+ * 적재하는 동안 별점 변경이 스냅샷에 반영되면 적재 결과가 그보다 오래된 것이므로 넣지 않고 다시 읽는다.
+ */
+@Service
+@Slf4j
+public class LectureCatalog {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final LectureDataService lectureDataService;
+    private final LectureDictionary lectureDictionary;
+    private final LectureDictionaryBackfill lectureDictionaryBackfill;
+    private final LectureRatingBuffer lectureRatingBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration timeToLive;
+
+    private final Map<Integer, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> universityByLectureId = new ConcurrentHashMap<>();
+
+    /**
+     * 대학별 스냅샷 변경 횟수. 적재 전후로 값이 같을 때만 적재 결과를 넣는다.
+     */
+    private final Map<Integer, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 대학별 진행 중인 적재. 먼저 온 요청이 넣고 끝나면 뺀다.
+     */
+    private final Map<Integer, CompletableFuture<Snapshot>> loading = new ConcurrentHashMap<>();
+
+    public LectureCatalog(LectureDataService lectureDataService,
+                          LectureDictionary lectureDictionary,
+                          LectureDictionaryBackfill lectureDictionaryBackfill,
+                          LectureRatingBuffer lectureRatingBuffer,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${lecture.catalog.ttl-seconds:600}") long ttlSeconds) {
+        this.lectureDataService = lectureDataService;
+        this.lectureDictionary = lectureDictionary;
+        this.lectureDictionaryBackfill = lectureDictionaryBackfill;
+        this.lectureRatingBuffer = lectureRatingBuffer;
+        this.eventPublisher = eventPublisher;
+        this.timeToLive = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 기동 직후 모든 대학의 카탈로그를 미리 로딩해, 첫 요청 지연 없이 검색 색인 등이 만들어지도록 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            for (String university : lectureDictionary.universities()) {
+                loadOnce(universityId(university));
+            }
+        } catch (RuntimeException e) {
+            log.warn("강의 카탈로그 사전 로딩 실패, 첫 조회 시 로딩합니다.", e);
+        }
+    }
+
+    /**
+     * @return 해당 대학의 전체 강의 (lectureId 오름차순, 수정 불가)
+     */
+    public List<LectureSummary> findByUniversity(String university) {
+        return snapshot(universityId(university)).lectures;
+    }
+
+    /**
+     * @return afterLectureId 다음 강의부터 최대 count 개
+     */
+    public List<LectureSummary> findPageByUniversity(String university, long afterLectureId, int count) {
+        Snapshot snapshot = snapshot(universityId(university));
+        int from = snapshot.indexAfter(afterLectureId);
+        int to = Math.min(from + count, snapshot.lectures.size());
+        return snapshot.lectures.subList(from, to);
+    }
+
+    public LectureSummary findByLectureId(Long lectureId) {
+        Integer universityId = universityByLectureId.get(lectureId);
+        if (universityId == null) {
+            universityId = universityId(lectureDataService.findSummaryByLectureId(lectureId).getUniversity());
+        }
+
+        LectureSummary lecture = snapshot(universityId).find(lectureId);
+        if (lecture == null) {
+            throw new LectureNotFoundException("존재하지 않는 강의입니다.");
+        }
+        return lecture;
+    }
+
+    /**
+     * 해당 대학의 스냅샷을 바로 다시 읽는다. LectureCatalogLoadedEvent 가 발행되므로 순위 등 파생 색인도 함께 새 값으로 바뀐다.
+     * 이미 진행 중인 적재는 이보다 먼저 읽었을 수 있으므로 합류하지 않고, 그 결과가 이 적재를 덮어쓰지 못하게 변경 횟수를 올린다.
+     */
+    public void reload(String university) {
+        Integer universityId = lectureDictionary.findUniversityId(university);
+        if (universityId != null) {
+            version(universityId).incrementAndGet();
+            load(universityId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRatingChanged(LectureRatingChangedEvent event) {
+        Integer universityId = universityByLectureId.get(event.getLectureId());
+        if (universityId == null) {
+            return;
+        }
+        version(universityId).incrementAndGet();
+        if (!snapshots.containsKey(universityId)) {
+            return;
+        }
+
+        try {
+            LectureSummary changed = lectureRatingBuffer.merge(lectureDictionary.intern(lectureDataService.findSummaryByLectureId(event.getLectureId())));
+            if (snapshots.computeIfPresent(universityId, (key, snapshot) -> snapshot.replace(changed)) != null) {
+                eventPublisher.publishEvent(new LectureUpdatedEvent(changed));
+            }
+        } catch (RuntimeException e) {
+            log.warn("강의 카탈로그 갱신 실패, 스냅샷을 폐기합니다. lectureId: {}", event.getLectureId(), e);
+            snapshots.remove(universityId);
+        }
+    }
+
+    /**
+     * 기동 이후 SQL 로 들어온 대학은 사전에 없으므로, 한 번 사전을 채운 뒤 다시 찾는다.
+     */
+    private Integer universityId(String university) {
+        Integer universityId = lectureDictionary.findUniversityId(university);
+        if (universityId == null) {
+            universityId = lectureDictionaryBackfill.resolveUniversity(university);
+        }
+        if (universityId == null) {
+            throw new LectureNotFoundException("해당 대학의 강의가 존재하지 않습니다.");
+        }
+        return universityId;
+    }
+
+    private Snapshot snapshot(Integer universityId) {
+        Snapshot current = snapshots.get(universityId);
+        if (current != null && !current.isExpired(timeToLive)) {
+            return current;
+        }
+        return loadOnce(universityId);
+    }
+
+    /**
+     * 이미 같은 대학을 적재 중인 요청이 있으면 새로 읽지 않고 그 결과를 쓴다.
+     */
+    private Snapshot loadOnce(Integer universityId) {
+        CompletableFuture<Snapshot> mine = new CompletableFuture<>();
+        CompletableFuture<Snapshot> running = loading.putIfAbsent(universityId, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            Snapshot loaded = load(universityId);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(universityId, mine);
+        }
+    }
+
+    /**
+     * 읽는 동안 변경 횟수가 바뀌었으면 넣지 않고 다시 읽는다.
+     * MAX_LOAD_ATTEMPTS 번 모두 밀리면 이미 있는 스냅샷을 그대로 돌려주고(다음 요청에서 다시 적재), 스냅샷이 아예 없을 때만 마지막 결과를 넣는다.
+     */
+    private Snapshot load(Integer universityId) {
+        String university = lectureDictionary.universityName(universityId);
+        AtomicLong version = version(universityId);
+        for (int attempt = 1; ; attempt++) {
+            long stamp = version.get();
+            List<LectureSummary> lectures = lectureDataService.findSummariesByUniversityId(universityId).stream()
+                    .map(lectureDictionary::intern)
+                    .map(lectureRatingBuffer::merge)
+                    .toList();
+            Snapshot loaded = new Snapshot(lectures, Instant.now());
+            for (LectureSummary lecture : loaded.lectures) {
+                universityByLectureId.put(lecture.getLectureId(), universityId);
+            }
+            boolean lastAttempt = attempt >= MAX_LOAD_ATTEMPTS;
+            Snapshot installed = snapshots.compute(universityId, (key, current) ->
+                    version.get() == stamp || (lastAttempt && current == null) ? loaded : current);
+            if (installed == loaded) {
+                eventPublisher.publishEvent(new LectureCatalogLoadedEvent(university, loaded.lectures));
+                log.info("강의 카탈로그 로딩 완료. university: {}, size: {}", university, loaded.lectures.size());
+                return loaded;
+            }
+            if (lastAttempt) {
+                return installed;
+            }
+            log.debug("강의 카탈로그 적재 중 별점이 바뀌어 다시 읽습니다. university: {}", university);
+        }
+    }
+
+    private AtomicLong version(Integer universityId) {
+        return versions.computeIfAbsent(universityId, key -> new AtomicLong());
+    }
+
+    private static final class Snapshot {
+
+        private final List<LectureSummary> lectures;
+        private final long[] lectureIds;
+        private final Instant loadedAt;
+
+        private Snapshot(List<LectureSummary> lectures, Instant loadedAt) {
+            this.lectures = List.copyOf(lectures);
+            this.lectureIds = this.lectures.stream().mapToLong(LectureSummary::getLectureId).toArray();
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(Duration timeToLive) {
+            return loadedAt.plus(timeToLive).isBefore(Instant.now());
+        }
+
+        private int indexAfter(long lectureId) {
+            int index = Arrays.binarySearch(lectureIds, lectureId);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        private LectureSummary find(long lectureId) {
+            int index = Arrays.binarySearch(lectureIds, lectureId);
+            return index >= 0 ? lectures.get(index) : null;
+        }
+
+        private Snapshot replace(LectureSummary changed) {
+            List<LectureSummary> copy = new ArrayList<>(lectures);
+            int index = Arrays.binarySearch(lectureIds, changed.getLectureId());
+            if (index >= 0) {
+                copy.set(index, changed);
+            } else {
+                copy.add(-index - 1, changed);
+            }
+            return new Snapshot(copy, loadedAt);
+        }
+    }
+}
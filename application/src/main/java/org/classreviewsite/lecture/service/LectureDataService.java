@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.classreviewsite.domain.lecture.Lecture;
 import org.classreviewsite.domain.lecture.LectureDataRepository;
+import org.classreviewsite.domain.lecture.LectureSummary;
 import org.classreviewsite.handler.exception.LectureNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,14 +29,44 @@ public class LectureDataService {
     }
 
     @Transactional(readOnly = true)
-    public List<Lecture> findByUniversity(String university){
-        List<Lecture> list = lectureDataRepository.findByUniversity(university);
+    public List<LectureSummary> findSummariesByUniversityId(Integer universityId){
+        List<LectureSummary> list = lectureDataRepository.findSummariesByUniversityId(universityId);
         if(list.isEmpty()){
             throw new LectureNotFoundException("해당 대학의 강의가 존재하지 않습니다.");
         }
         return list;
     }
 
+    @Transactional(readOnly = true)
+    public boolean existsByUniversity(String university){
+        return lectureDataRepository.existsByUniversity(university);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findUniversities(){
+        return lectureDataRepository.findUniversities();
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findDepartments(){
+        return lectureDataRepository.findDepartments();
+    }
+
+    @Transactional
+    public int assignUniversityId(String university, Integer universityId){
+        return lectureDataRepository.assignUniversityId(university, universityId);
+    }
+
+    @Transactional
+    public int assignDepartmentId(String department, Integer departmentId){
+        return lectureDataRepository.assignDepartmentId(department, departmentId);
+    }
+
+    @Transactional(readOnly = true)
+    public LectureSummary findSummaryByLectureId(Long lectureId){
+        return lectureDataRepository.findSummaryByLectureId(lectureId).orElseThrow(() -> new LectureNotFoundException("존재하지 않는 강의입니다."));
+    }
+
     @Transactional(readOnly = true)
     public Lecture findByLectureId(Long lectureId) {
         return lectureDataRepository.findByLectureId(lectureId).orElseThrow(() -> new LectureNotFoundException("존재하지 않는 강의입니다."));
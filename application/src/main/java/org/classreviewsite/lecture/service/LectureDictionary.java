@@ -0,0 +1,116 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import org.classreviewsite.domain.lecture.Department;
+import org.classreviewsite.domain.lecture.DepartmentDataRepository;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.University;
+import org.classreviewsite.domain.lecture.UniversityDataRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대학명/학과명 <-> 정수 id 인메모리 사전.
+ * DB 조회는 정수 id 로 하고, 캐시에 올라가는 강의의 대학명/학과명은 사전이 가진 문자열 인스턴스 하나로 맞춰 행마다 중복된 String 을 들고 있지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LectureDictionary {
+
+    private final UniversityDataRepository universityDataRepository;
+    private final DepartmentDataRepository departmentDataRepository;
+
+    private final Map<String, Integer> universityIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> universityNames = new ConcurrentHashMap<>();
+    private final Map<String, Integer> departmentIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> departmentNames = new ConcurrentHashMap<>();
+
+    public void load() {
+        for (University university : universityDataRepository.findAll()) {
+            putUniversity(university);
+        }
+        for (Department department : departmentDataRepository.findAll()) {
+            putDepartment(department);
+        }
+    }
+
+    /**
+     * @return 사전에 없는 대학이면 null
+     */
+    public Integer findUniversityId(String university) {
+        return university == null ? null : universityIds.get(university);
+    }
+
+    public String universityName(Integer universityId) {
+        return universityNames.get(universityId);
+    }
+
+    public List<String> universities() {
+        return List.copyOf(universityIds.keySet());
+    }
+
+    /**
+     * 사전에 없으면 University 행을 만들고 id 를 반환한다.
+     */
+    public Integer registerUniversity(String university) {
+        Integer universityId = universityIds.get(university);
+        if (universityId != null) {
+            return universityId;
+        }
+        University saved = universityDataRepository.findByName(university)
+                .orElseGet(() -> universityDataRepository.save(University.of(university)));
+        putUniversity(saved);
+        return saved.getUniversityId();
+    }
+
+    /**
+     * 사전에 없으면 Department 행을 만들고 id 를 반환한다.
+     */
+    public Integer registerDepartment(String department) {
+        Integer departmentId = departmentIds.get(department);
+        if (departmentId != null) {
+            return departmentId;
+        }
+        Department saved = departmentDataRepository.findByName(department)
+                .orElseGet(() -> departmentDataRepository.save(Department.of(department)));
+        putDepartment(saved);
+        return saved.getDepartmentId();
+    }
+
+    /**
+     * 대학명/학과명을 사전의 문자열 인스턴스로 바꾼 강의를 반환한다. 사전에 없는 이름은 그대로 둔다.
+     */
+    public LectureSummary intern(LectureSummary lecture) {
+        String university = canonical(lecture.getUniversity(), universityIds, universityNames);
+        String department = canonical(lecture.getDepartment(), departmentIds, departmentNames);
+        if (university == lecture.getUniversity() && department == lecture.getDepartment()) {
+            return lecture;
+        }
+        return new LectureSummary(lecture.getLectureId(), lecture.getLectureName(), department, university,
+                lecture.getProfessor(), lecture.getLectureType(), lecture.getAverageRating(), lecture.getTotalRating(),
+                lecture.getReviewCount(), lecture.getWeightedRating(), lecture.getRatingCount1(), lecture.getRatingCount2(),
+                lecture.getRatingCount3(), lecture.getRatingCount4(), lecture.getRatingCount5());
+    }
+
+    private void putUniversity(University university) {
+        universityNames.putIfAbsent(university.getUniversityId(), university.getName());
+        universityIds.putIfAbsent(universityNames.get(university.getUniversityId()), university.getUniversityId());
+    }
+
+    private void putDepartment(Department department) {
+        departmentNames.putIfAbsent(department.getDepartmentId(), department.getName());
+        departmentIds.putIfAbsent(departmentNames.get(department.getDepartmentId()), department.getDepartmentId());
+    }
+
+    private static String canonical(String name, Map<String, Integer> ids, Map<Integer, String> names) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = ids.get(name);
+        String canonical = id == null ? null : names.get(id);
+        return canonical == null ? name : canonical;
+    }
+}
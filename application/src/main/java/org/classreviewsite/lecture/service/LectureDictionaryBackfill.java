@@ -0,0 +1,82 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lectures 에 등장하는 대학/학과명 중 사전에 없는 것을 등록한 뒤 universityId/departmentId 가 비어 있거나 어긋난 행을 채운다.
+ * 강의는 애플리케이션 밖에서 SQL 로 들어오므로 기동 시 한 번 실행하고, 카탈로그가 사전에 없는 대학을 조회하면 그 자리에서 한 번 더 실행한다(resolveUniversity).
+ * 기동 이후 들어오는 강의의 id 는 Lectures 트리거(V8)가 채우므로, 주기 실행은 Lectures 를 훑지 않고 트리거가 만든 University/Department 행만 사전에 올린다.
+ * 기동 시 실행은 카탈로그 사전 로딩(LectureCatalog.warmUp)보다 먼저 실행되어야 하므로 가장 높은 우선순위로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LectureDictionaryBackfill {
+
+    private final LectureDictionary lectureDictionary;
+    private final LectureDataService lectureDataService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onReady() {
+        try {
+            lectureDictionary.load();
+        } catch (RuntimeException e) {
+            log.error("대학/학과 사전 로딩 실패", e);
+        }
+        backfill();
+    }
+
+    @Scheduled(initialDelayString = "${lecture.dictionary.backfill-ms:300000}",
+               fixedDelayString = "${lecture.dictionary.backfill-ms:300000}")
+    public void refresh() {
+        try {
+            lectureDictionary.load();
+        } catch (RuntimeException e) {
+            log.error("대학/학과 사전 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 사전에 없는 대학명을 id 로 바꾼다. Lectures 에 그 대학의 강의가 있을 때만 사전을 채우고,
+     * 없는 이름으로 들어온 요청이 University 행을 만들지 않게 한다.
+     *
+     * @return 해당 대학의 강의가 없으면 null
+     */
+    public Integer resolveUniversity(String university) {
+        Integer universityId = lectureDictionary.findUniversityId(university);
+        if (universityId != null || university == null || !lectureDataService.existsByUniversity(university)) {
+            return universityId;
+        }
+        backfill();
+        return lectureDictionary.findUniversityId(university);
+    }
+
+    /**
+     * 실패는 기록만 하고 다음 주기에 다시 시도한다.
+     */
+    public synchronized void backfill() {
+        try {
+            int universities = 0;
+            for (String university : lectureDataService.findUniversities()) {
+                universities += lectureDataService.assignUniversityId(university, lectureDictionary.registerUniversity(university));
+            }
+            int departments = 0;
+            for (String department : lectureDataService.findDepartments()) {
+                departments += lectureDataService.assignDepartmentId(department, lectureDictionary.registerDepartment(department));
+            }
+            if (universities > 0 || departments > 0) {
+                log.info("대학/학과 사전 반영 완료. universityId: {} 건, departmentId: {} 건", universities, departments);
+            }
+        } catch (RuntimeException e) {
+            log.error("대학/학과 사전 반영 실패", e);
+        }
+    }
+}
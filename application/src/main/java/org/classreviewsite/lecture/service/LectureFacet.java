@@ -0,0 +1,44 @@
+package org.classreviewsite.lecture.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+
+import java.util.function.Function;
+
+/**
+ * 강의 목록 필터링에 쓰는 패싯.
+ * 대학은 카탈로그 자체가 대학 단위로 나뉘어 있으므로 패싯이 아니라 색인의 분할 기준으로 쓴다.
+ */
+public enum LectureFacet {
+
+    DEPARTMENT("department", LectureSummary::getDepartment),
+    LECTURE_TYPE("lectureType", lecture -> lecture.getLectureType() == null ? null : lecture.getLectureType().name()),
+    RATING_BAND("ratingBand", lecture -> String.valueOf(ratingBand(lecture.getAverageRating())));
+
+    public static final int MAX_RATING_BAND = 4;
+
+    private final String key;
+    private final Function<LectureSummary, String> extractor;
+
+    LectureFacet(String key, Function<LectureSummary, String> extractor) {
+        this.key = key;
+        this.extractor = extractor;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    String valueOf(LectureSummary lecture) {
+        return extractor.apply(lecture);
+    }
+
+    /**
+     * 평균 별점의 정수부. 3.0 이상 4.0 미만은 3, 만점(5.0)은 4 구간에 포함한다. 후기가 없으면 0.
+     */
+    public static int ratingBand(Double averageRating) {
+        if (averageRating == null || averageRating <= 0) {
+            return 0;
+        }
+        return Math.min((int) Math.floor(averageRating), MAX_RATING_BAND);
+    }
+}
@@ -0,0 +1,207 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대학별 강의 패싯 비트맵 색인.
+ * 카탈로그 스냅샷의 위치(lectureId 오름차순)를 강의 순번으로 삼아 패싯 값마다 BitSet 하나를 둔다.
+ * 같은 패싯 안의 선택은 OR, 패싯 사이는 AND 로 비트 연산만으로 필터링과 패싯별 개수 집계를 한다.
+ * 색인은 불변이며, 강의가 교체되면 값이 바뀐 비트맵만 복사해 새 색인으로 바꿔 끼운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LectureFacetIndex {
+
+    private final LectureCatalog lectureCatalog;
+
+    private final Map<String, FacetSet> facetSets = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onCatalogLoaded(LectureCatalogLoadedEvent event) {
+        facetSets.put(event.getUniversity(), FacetSet.build(event.getLectures()));
+    }
+
+    @EventListener
+    public void onLectureUpdated(LectureUpdatedEvent event) {
+        String university = event.getLecture().getUniversity();
+        FacetSet current = facetSets.get(university);
+        while (current != null) {
+            FacetSet replaced = current.replace(event.getLecture());
+            if (replaced == null) {
+                // 새로 추가된 강의는 뒤따르는 순번을 모두 밀어내므로 대학 단위로 다시 만든다.
+                replaced = FacetSet.build(lectureCatalog.findByUniversity(university));
+            }
+            if (facetSets.replace(university, current, replaced)) {
+                return;
+            }
+            current = facetSets.get(university);
+        }
+    }
+
+    /**
+     * @param selected 패싯별 선택 값. 비어 있는 패싯은 조건 없음
+     * @return afterLectureId 다음부터 최대 count 개의 일치 강의와 패싯별 개수
+     */
+    public LectureFacetResult filter(String university, Map<LectureFacet, Set<String>> selected, long afterLectureId, int count) {
+        return facetSet(university).filter(selected, afterLectureId, count);
+    }
+
+    private FacetSet facetSet(String university) {
+        FacetSet facetSet = facetSets.get(university);
+        if (facetSet != null) {
+            return facetSet;
+        }
+        List<LectureSummary> lectures = lectureCatalog.findByUniversity(university);
+        return facetSets.computeIfAbsent(university, key -> FacetSet.build(lectures));
+    }
+
+    private static final class FacetSet {
+
+        private final LectureSummary[] lectures;
+        private final long[] lectureIds;
+        private final Map<LectureFacet, Map<String, BitSet>> bitmaps;
+
+        private FacetSet(LectureSummary[] lectures, Map<LectureFacet, Map<String, BitSet>> bitmaps) {
+            this.lectures = lectures;
+            this.lectureIds = Arrays.stream(lectures).mapToLong(LectureSummary::getLectureId).toArray();
+            this.bitmaps = bitmaps;
+        }
+
+        private static FacetSet build(List<LectureSummary> catalog) {
+            LectureSummary[] lectures = catalog.toArray(LectureSummary[]::new);
+            Map<LectureFacet, Map<String, BitSet>> bitmaps = new EnumMap<>(LectureFacet.class);
+            for (LectureFacet facet : LectureFacet.values()) {
+                Map<String, BitSet> values = new HashMap<>();
+                for (int ordinal = 0; ordinal < lectures.length; ordinal++) {
+                    String value = facet.valueOf(lectures[ordinal]);
+                    if (value != null) {
+                        values.computeIfAbsent(value, key -> new BitSet(lectures.length)).set(ordinal);
+                    }
+                }
+                bitmaps.put(facet, values);
+            }
+            return new FacetSet(lectures, bitmaps);
+        }
+
+        /**
+         * @return 같은 순번에 강의가 없으면(새 강의) null
+         */
+        private FacetSet replace(LectureSummary changed) {
+            int ordinal = Arrays.binarySearch(lectureIds, changed.getLectureId());
+            if (ordinal < 0) {
+                return null;
+            }
+            LectureSummary[] copy = lectures.clone();
+            LectureSummary previous = copy[ordinal];
+            copy[ordinal] = changed;
+
+            Map<LectureFacet, Map<String, BitSet>> patched = new EnumMap<>(bitmaps);
+            for (LectureFacet facet : LectureFacet.values()) {
+                String before = facet.valueOf(previous);
+                String after = facet.valueOf(changed);
+                if (Objects.equals(before, after)) {
+                    continue;
+                }
+                Map<String, BitSet> values = new HashMap<>(bitmaps.get(facet));
+                if (before != null) {
+                    BitSet cleared = (BitSet) values.get(before).clone();
+                    cleared.clear(ordinal);
+                    if (cleared.isEmpty()) {
+                        values.remove(before);
+                    } else {
+                        values.put(before, cleared);
+                    }
+                }
+                if (after != null) {
+                    BitSet current = values.get(after);
+                    BitSet set = current == null ? new BitSet(copy.length) : (BitSet) current.clone();
+                    set.set(ordinal);
+                    values.put(after, set);
+                }
+                patched.put(facet, values);
+            }
+            return new FacetSet(copy, patched);
+        }
+
+        private LectureFacetResult filter(Map<LectureFacet, Set<String>> selected, long afterLectureId, int count) {
+            Map<LectureFacet, BitSet> unions = new EnumMap<>(LectureFacet.class);
+            for (Map.Entry<LectureFacet, Set<String>> selection : selected.entrySet()) {
+                if (!selection.getValue().isEmpty()) {
+                    unions.put(selection.getKey(), union(selection.getKey(), selection.getValue()));
+                }
+            }
+
+            BitSet matched = intersect(unions, null);
+            List<LectureSummary> page = new ArrayList<>(Math.min(count, matched.cardinality()));
+            int ordinal = matched.nextSetBit(indexAfter(afterLectureId));
+            while (ordinal >= 0 && page.size() < count) {
+                page.add(lectures[ordinal]);
+                ordinal = matched.nextSetBit(ordinal + 1);
+            }
+            return new LectureFacetResult(page, matched.cardinality(), ordinal >= 0, counts(unions));
+        }
+
+        private BitSet union(LectureFacet facet, Set<String> values) {
+            BitSet union = new BitSet(lectures.length);
+            Map<String, BitSet> bitmapsByValue = bitmaps.get(facet);
+            for (String value : values) {
+                BitSet bitmap = bitmapsByValue.get(value);
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            return union;
+        }
+
+        /**
+         * excluded 패싯을 뺀 나머지 선택 조건의 교집합. 선택이 하나도 없으면 전체.
+         */
+        private BitSet intersect(Map<LectureFacet, BitSet> unions, LectureFacet excluded) {
+            BitSet result = new BitSet(lectures.length);
+            result.set(0, lectures.length);
+            for (Map.Entry<LectureFacet, BitSet> union : unions.entrySet()) {
+                if (union.getKey() != excluded) {
+                    result.and(union.getValue());
+                }
+            }
+            return result;
+        }
+
+        private Map<LectureFacet, Map<String, Integer>> counts(Map<LectureFacet, BitSet> unions) {
+            Map<LectureFacet, Map<String, Integer>> counts = new EnumMap<>(LectureFacet.class);
+            for (LectureFacet facet : LectureFacet.values()) {
+                BitSet base = intersect(unions, facet);
+                Map<String, Integer> valueCounts = new TreeMap<>();
+                for (Map.Entry<String, BitSet> value : bitmaps.get(facet).entrySet()) {
+                    BitSet bitmap = (BitSet) value.getValue().clone();
+                    bitmap.and(base);
+                    valueCounts.put(value.getKey(), bitmap.cardinality());
+                }
+                counts.put(facet, valueCounts);
+            }
+            return counts;
+        }
+
+        private int indexAfter(long lectureId) {
+            int index = Arrays.binarySearch(lectureIds, lectureId);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.classreviewsite.domain.lecture.LectureSummary;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 필터링 결과.
+ * counts 는 패싯마다 "그 패싯의 선택만 풀었을 때" 각 값에 해당하는 강의 수다. 같은 패싯 안에서 다른 값을 추가 선택했을 때의 결과 수를 미리 보여줄 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class LectureFacetResult {
+
+    private final List<LectureSummary> lectures;
+    private final int totalCount;
+    private final boolean hasNext;
+    private final Map<LectureFacet, Map<String, Integer>> counts;
+
+}
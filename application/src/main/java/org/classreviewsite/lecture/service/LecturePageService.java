@@ -0,0 +1,131 @@
+package org.classreviewsite.lecture.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.handler.exception.ReviewNotFoundException;
+import org.classreviewsite.lecture.controller.data.response.LecturePageResponse;
+import org.classreviewsite.review.controller.data.Response.ClassListWithProfessorResponse;
+import org.classreviewsite.review.controller.data.Response.ReviewResponse;
+import org.classreviewsite.review.service.ClassListAndDetailService;
+import org.classreviewsite.review.service.LikeHistoryManager;
+import org.classreviewsite.review.service.ReviewFinder;
+import org.classreviewsite.review.service.ReviewSort;
+import org.classreviewsite.util.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 강의 화면 한 장에 필요한 데이터(강의 상세, 수강후기 첫 페이지, 요청자의 좋아요 목록)를 동시에 읽어 한 번에 돌려준다.
+ * 각 조회는 서로 의존하지 않으므로 전용 스레드 풀에서 병렬로 실행하고, 응답 시간은 가장 느린 조회 하나에 맞춰진다.
+ * 풀과 대기열이 모두 차면 요청 스레드에서 직접 실행해, 부하가 몰려도 작업을 버리지 않고 순차 실행으로 물러선다.
+ */
+@Service
+@Slf4j
+public class LecturePageService {
+
+    private final ClassListAndDetailService classListAndDetailService;
+    private final ReviewFinder reviewFinder;
+    private final LikeHistoryManager likeHistoryManager;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public LecturePageService(ClassListAndDetailService classListAndDetailService,
+                              ReviewFinder reviewFinder,
+                              LikeHistoryManager likeHistoryManager,
+                              @Value("${lecture.page.pool-size:8}") int poolSize,
+                              @Value("${lecture.page.queue-capacity:64}") int queueCapacity,
+                              @Value("${lecture.page.timeout-ms:3000}") long timeoutMillis) {
+        this.classListAndDetailService = classListAndDetailService;
+        this.reviewFinder = reviewFinder;
+        this.likeHistoryManager = likeHistoryManager;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "lecture-page-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public LecturePageResponse page(Long lectureId, Integer userNumber, Integer size) {
+        int limit = CursorPage.limit(size);
+
+        CompletableFuture<ClassListWithProfessorResponse.ClassListWithProfessorNameInDetail> lecture =
+                submit(() -> classListAndDetailService.detail(lectureId));
+        CompletableFuture<CursorPage<ReviewResponse>> reviews =
+                submit(() -> firstReviewPage(lectureId, limit));
+        CompletableFuture<List<Long>> likedReviewIds = userNumber == null
+                ? CompletableFuture.completedFuture(List.of())
+                : submit(() -> likeHistoryManager.findLikedReviewIds(userNumber, lectureId));
+
+        try {
+            CompletableFuture.allOf(lecture, reviews, likedReviewIds).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (TimeoutException e) {
+            cancel(lecture, reviews, likedReviewIds);
+            throw new IllegalStateException("강의 화면 조회 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(lecture, reviews, likedReviewIds);
+            throw new IllegalStateException("강의 화면 조회가 중단되었습니다.", e);
+        }
+
+        return new LecturePageResponse(lecture.join(), reviews.join(), likedReviewIds.join());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 후기 목록 API 와 같은 ReviewFinder 를 써서 ReviewViewCache 를 거친다. 후기가 없는 강의도 화면은 그려야 하므로 빈 페이지로 돌려준다.
+     */
+    private CursorPage<ReviewResponse> firstReviewPage(Long lectureId, int limit) {
+        try {
+            return reviewFinder.findPage(lectureId, ReviewSort.RECENT, null, limit);
+        } catch (ReviewNotFoundException e) {
+            return CursorPage.last(List.of());
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    private void cancel(CompletableFuture<?>... futures) {
+        for (CompletableFuture<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * 하위 조회에서 난 예외(LectureNotFoundException 등)를 그대로 던져 ControllerAdvice 가 기존과 같은 응답을 내도록 한다.
+     */
+    private RuntimeException unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("강의 화면 조회 중 오류가 발생했습니다.", cause);
+    }
+}
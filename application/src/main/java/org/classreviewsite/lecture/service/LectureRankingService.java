@@ -0,0 +1,137 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대학별 강의 순위.
+ * (학과 | 전체, 강의 유형 | 전체) 조합마다 가중 별점(weightedRating), 후기 수 순으로 정렬된 집합을 유지해, 상위 N 개 조회가 정렬이나 DB 조회 없이 앞에서부터 읽는 것으로 끝난다.
+ * 별점이 바뀐 강의는 LectureUpdatedEvent 로 받아 해당 강의가 속한 네 개의 그룹에서만 빼고 다시 넣는다.
+ * 후기가 없는 강의는 순위에 넣지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LectureRankingService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final String ALL = "*";
+
+    private static final Comparator<LectureSummary> RANKING_ORDER = Comparator
+            .comparingDouble((LectureSummary lecture) -> lecture.getWeightedRating() == null ? 0.0 : lecture.getWeightedRating()).reversed()
+            .thenComparing(Comparator.comparingLong((LectureSummary lecture) -> lecture.getReviewCount() == null ? 0L : lecture.getReviewCount()).reversed())
+            .thenComparing(LectureSummary::getLectureId);
+
+    private final LectureCatalog lectureCatalog;
+
+    private final Map<String, UniversityRanking> rankings = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onCatalogLoaded(LectureCatalogLoadedEvent event) {
+        rankings.put(event.getUniversity(), UniversityRanking.build(event.getLectures()));
+    }
+
+    @EventListener
+    public void onLectureUpdated(LectureUpdatedEvent event) {
+        UniversityRanking ranking = rankings.get(event.getLecture().getUniversity());
+        if (ranking != null) {
+            ranking.update(event.getLecture());
+        }
+    }
+
+    /**
+     * @param department null 이면 전체 학과
+     * @param lectureType null 이면 전체 강의 유형
+     */
+    public List<LectureSummary> top(String university, String department, LectureType lectureType, int limit) {
+        return ranking(university).top(groupKey(department, lectureType), Math.min(limit, MAX_LIMIT));
+    }
+
+    private UniversityRanking ranking(String university) {
+        UniversityRanking ranking = rankings.get(university);
+        if (ranking != null) {
+            return ranking;
+        }
+        List<LectureSummary> lectures = lectureCatalog.findByUniversity(university);
+        return rankings.computeIfAbsent(university, key -> UniversityRanking.build(lectures));
+    }
+
+    private static String groupKey(String department, LectureType lectureType) {
+        return (department == null ? ALL : department) + "|" + (lectureType == null ? ALL : lectureType.name());
+    }
+
+    private static List<String> groupKeys(LectureSummary lecture) {
+        return List.of(
+                groupKey(null, null),
+                groupKey(lecture.getDepartment(), null),
+                groupKey(null, lecture.getLectureType()),
+                groupKey(lecture.getDepartment(), lecture.getLectureType())
+        );
+    }
+
+    private static final class UniversityRanking {
+
+        private final Map<String, NavigableSet<LectureSummary>> groups = new HashMap<>();
+        private final Map<Long, LectureSummary> ranked = new HashMap<>();
+
+        private static UniversityRanking build(List<LectureSummary> lectures) {
+            UniversityRanking ranking = new UniversityRanking();
+            for (LectureSummary lecture : lectures) {
+                ranking.add(lecture);
+            }
+            return ranking;
+        }
+
+        private synchronized void update(LectureSummary lecture) {
+            LectureSummary previous = ranked.remove(lecture.getLectureId());
+            if (previous != null) {
+                for (String key : groupKeys(previous)) {
+                    NavigableSet<LectureSummary> group = groups.get(key);
+                    group.remove(previous);
+                    if (group.isEmpty()) {
+                        groups.remove(key);
+                    }
+                }
+            }
+            add(lecture);
+        }
+
+        private synchronized List<LectureSummary> top(String key, int limit) {
+            NavigableSet<LectureSummary> group = groups.get(key);
+            if (group == null) {
+                return List.of();
+            }
+            List<LectureSummary> top = new ArrayList<>(Math.min(limit, group.size()));
+            Iterator<LectureSummary> iterator = group.iterator();
+            while (iterator.hasNext() && top.size() < limit) {
+                top.add(iterator.next());
+            }
+            return top;
+        }
+
+        private void add(LectureSummary lecture) {
+            if (lecture.getReviewCount() == null || lecture.getReviewCount() == 0) {
+                return;
+            }
+            ranked.put(lecture.getLectureId(), lecture);
+            for (String key : groupKeys(lecture)) {
+                groups.computeIfAbsent(key, k -> new TreeSet<>(RANKING_ORDER)).add(lecture);
+            }
+        }
+    }
+}
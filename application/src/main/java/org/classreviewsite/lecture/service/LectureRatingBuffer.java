@@ -0,0 +1,212 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.Getter;
+import org.classreviewsite.domain.lecture.AcademicTerm;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.StarRating;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 별점 쓰기 지연(write-behind) 버퍼.
+ * 시험 기간처럼 인기 강의 한 곳에 후기가 몰리면 별점 UPDATE 가 같은 Lectures 행 잠금에서 줄을 서므로,
+ * 켜져 있으면 강의별 (후기 수, 별점 합, 별점 분포) 변화량을 메모리에 모았다가 LectureRatingFlushJob 이 강의당 한 번의 UPDATE 로 반영한다.
+ * 후기가 작성된 학기의 추이(LectureSemesterRating) 변화량도 같은 Delta 에 학기별로 모아 Lectures 와 같은 트랜잭션에서 함께 반영한다.
+ * 강의별 누적값은 불변 객체로 두고 ConcurrentHashMap 의 키 단위 compute 로 교체해, 서로 다른 강의끼리는 경합하지 않고 후기 수, 별점 합, 별점 분포는 항상 함께 움직인다.
+ * 아직 반영되지 않은 변화량은 merge 로 조회 결과에 더해, 반영 전에도 평균 별점이 최신 상태로 보이게 한다.
+ */
+@Component
+public class LectureRatingBuffer {
+
+    private final boolean enabled;
+    private final int maxPendingLectures;
+    private final double maxHeapUsage;
+
+    private final Map<Long, Delta> pending = new ConcurrentHashMap<>();
+
+    public LectureRatingBuffer(@Value("${lecture.rating.write-behind.enabled:false}") boolean enabled,
+                               @Value("${lecture.rating.write-behind.max-pending-lectures:10000}") int maxPendingLectures,
+                               @Value("${lecture.rating.write-behind.max-heap-usage:0.9}") double maxHeapUsage) {
+        this.enabled = enabled;
+        this.maxPendingLectures = maxPendingLectures;
+        this.maxHeapUsage = maxHeapUsage;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 별점 하나의 추가, 제거, 수정을 누적한다. 추가는 removedRating 이, 제거는 addedRating 이 null 이다.
+     * prior 는 반영 전 조회에서 weightedRating 을 계산할 때 쓴다.
+     * writtenAt 은 후기 작성 시각으로, 같은 변화량을 그 학기의 추이에도 쌓는다. 작성 시각이 없으면 추이에는 넣지 않는다.
+     */
+    public void add(Long lectureId, Double addedRating, Double removedRating, RatingPrior prior, LocalDateTime writtenAt) {
+        long[] histogram = new long[5];
+        long countDelta = 0L;
+        long totalTenthsDelta = 0L;
+        if (addedRating != null) {
+            histogram[StarRating.bucketOf(addedRating) - 1]++;
+            countDelta++;
+            totalTenthsDelta += StarRating.toTenths(addedRating);
+        }
+        if (removedRating != null) {
+            histogram[StarRating.bucketOf(removedRating) - 1]--;
+            countDelta--;
+            totalTenthsDelta -= StarRating.toTenths(removedRating);
+        }
+        Map<AcademicTerm, TermDelta> terms = new HashMap<>();
+        if (writtenAt != null) {
+            AcademicTerm term = AcademicTerm.of(writtenAt);
+            terms.put(term, new TermDelta(term, countDelta, totalTenthsDelta));
+        }
+        accumulate(new Delta(lectureId, countDelta, totalTenthsDelta, histogram, prior, terms));
+    }
+
+    /**
+     * 반영 대기 중인 강의 수가 상한을 넘었거나 힙 사용률이 높으면 true. 이때는 주기를 기다리지 않고 바로 반영한다.
+     */
+    public boolean isUnderPressure() {
+        if (pending.size() >= maxPendingLectures) {
+            return true;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        double used = runtime.totalMemory() - runtime.freeMemory();
+        return used / runtime.maxMemory() >= maxHeapUsage;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 변화량을 모두 꺼낸다. 강의마다 원자적으로 꺼내므로, 꺼낸 뒤에 들어온 변화량은 다음 반영으로 넘어간다.
+     */
+    public List<Delta> drain() {
+        List<Delta> drained = new ArrayList<>();
+        for (Long lectureId : pending.keySet()) {
+            Delta delta = pending.remove(lectureId);
+            if (delta != null) {
+                drained.add(delta);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 변화량을 되돌려 다음 반영 때 다시 시도한다.
+     */
+    public void restore(Delta delta) {
+        accumulate(delta);
+    }
+
+    private void accumulate(Delta added) {
+        pending.compute(added.getLectureId(), (key, delta) -> delta == null ? added : delta.plus(added));
+    }
+
+    /**
+     * @return 대기 중인 변화량을 더한 강의. 대기 중인 변화량이 없으면 lecture 그대로
+     */
+    public LectureSummary merge(LectureSummary lecture) {
+        Delta delta = pending.get(lecture.getLectureId());
+        if (delta == null) {
+            return lecture;
+        }
+        return delta.applyTo(lecture);
+    }
+
+    @Getter
+    public static final class Delta {
+
+        private final Long lectureId;
+        private final long count;
+        private final long totalTenths;
+        private final long[] histogram;
+        private final RatingPrior prior;
+        private final Map<AcademicTerm, TermDelta> terms;
+
+        private Delta(Long lectureId, long count, long totalTenths, long[] histogram, RatingPrior prior, Map<AcademicTerm, TermDelta> terms) {
+            this.lectureId = lectureId;
+            this.count = count;
+            this.totalTenths = totalTenths;
+            this.histogram = histogram;
+            this.prior = prior == null ? RatingPrior.DEFAULT : prior;
+            this.terms = terms;
+        }
+
+        /**
+         * @return 별점 합 변화량
+         */
+        public double getTotal() {
+            return totalTenths / 10.0;
+        }
+
+        /**
+         * @return 1점부터 5점까지 구간별 후기 수 변화량
+         */
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        /**
+         * @return 후기가 작성된 학기별 추이 변화량
+         */
+        public Collection<TermDelta> getTerms() {
+            return Collections.unmodifiableCollection(terms.values());
+        }
+
+        private Delta plus(Delta other) {
+            long[] summed = new long[histogram.length];
+            for (int i = 0; i < summed.length; i++) {
+                summed[i] = histogram[i] + other.histogram[i];
+            }
+            Map<AcademicTerm, TermDelta> summedTerms = new HashMap<>(terms);
+            other.terms.forEach((term, delta) -> summedTerms.merge(term, delta, TermDelta::plus));
+            return new Delta(lectureId, count + other.count, totalTenths + other.totalTenths, summed,
+                    other.prior == null ? prior : other.prior, summedTerms);
+        }
+
+        private LectureSummary applyTo(LectureSummary lecture) {
+            long reviewCount = Math.max((lecture.getReviewCount() == null ? 0L : lecture.getReviewCount()) + count, 0L);
+            long baseTenths = lecture.getTotalRating() == null ? 0L : StarRating.toTenths(lecture.getTotalRating());
+            long totalTenths = reviewCount == 0 ? 0L : Math.max(baseTenths + this.totalTenths, 0L);
+            double totalRating = totalTenths / 10.0;
+            double averageRating = StarRating.averageOf(totalTenths, reviewCount);
+            double weightedRating = (prior.getWeight() * prior.getMean() + totalRating) / (prior.getWeight() + reviewCount);
+            List<Long> counts = lecture.getRatingHistogram();
+            return new LectureSummary(lecture.getLectureId(), lecture.getLectureName(), lecture.getDepartment(),
+                    lecture.getUniversity(), lecture.getProfessor(), lecture.getLectureType(),
+                    averageRating, totalRating, reviewCount, weightedRating,
+                    Math.max(counts.get(0) + histogram[0], 0L), Math.max(counts.get(1) + histogram[1], 0L),
+                    Math.max(counts.get(2) + histogram[2], 0L), Math.max(counts.get(3) + histogram[3], 0L),
+                    Math.max(counts.get(4) + histogram[4], 0L));
+        }
+    }
+
+    @Getter
+    public static final class TermDelta {
+
+        private final AcademicTerm term;
+        private final long count;
+        private final long totalTenths;
+
+        private TermDelta(AcademicTerm term, long count, long totalTenths) {
+            this.term = term;
+            this.count = count;
+            this.totalTenths = totalTenths;
+        }
+
+        private TermDelta plus(TermDelta other) {
+            return new TermDelta(term, count + other.count, totalTenths + other.totalTenths);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.classreviewsite.lecture.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.lecture.event.LectureRatingBufferFullEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 별점 쓰기 지연 버퍼를 DB 에 반영하는 작업.
+ * 짧은 주기로, 버퍼가 상한에 다다랐을 때, 종료 직전에 한 번씩 강의당 UPDATE 한 번으로 반영한다.
+ * 반영에 실패한 강의의 변화량은 버퍼로 되돌려 다음 주기에 다시 시도한다.
+ */
+@Component
+@Slf4j
+public class LectureRatingFlushJob {
+
+    private final LectureRatingBuffer lectureRatingBuffer;
+    private final LectureRatingService lectureRatingService;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lecture-rating-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LectureRatingFlushJob(LectureRatingBuffer lectureRatingBuffer, LectureRatingService lectureRatingService) {
+        this.lectureRatingBuffer = lectureRatingBuffer;
+        this.lectureRatingService = lectureRatingService;
+    }
+
+    @Scheduled(fixedDelayString = "${lecture.rating.write-behind.flush-ms:1000}")
+    public void flush() {
+        if (!lectureRatingBuffer.isEnabled()) {
+            return;
+        }
+
+        List<LectureRatingBuffer.Delta> deltas = lectureRatingBuffer.drain();
+        int failed = 0;
+        for (LectureRatingBuffer.Delta delta : deltas) {
+            try {
+                lectureRatingService.applyDelta(delta);
+            } catch (RuntimeException e) {
+                failed++;
+                lectureRatingBuffer.restore(delta);
+                log.warn("별점 반영 실패, 다음 주기에 다시 시도합니다. lectureId: {}", delta.getLectureId(), e);
+            }
+        }
+        if (!deltas.isEmpty()) {
+            log.debug("별점 반영 완료. lectures: {}, failed: {}", deltas.size(), failed);
+        }
+    }
+
+    /**
+     * 요청 스레드를 붙잡지 않도록 별도 스레드에서 반영한다. 이미 대기 중인 반영이 있으면 합친다.
+     */
+    @EventListener
+    public void onBufferFull(LectureRatingBufferFullEvent event) {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        flushExecutor.execute(() -> {
+            flushRequested.set(false);
+            flush();
+        });
+    }
+
+    /**
+     * 웹 서버가 멈춘 뒤 빈이 정리될 때 남은 변화량을 모두 반영한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdownNow();
+        flush();
+        if (lectureRatingBuffer.size() > 0) {
+            log.error("종료 전 반영하지 못한 별점 변화량이 남았습니다. lectures: {}", lectureRatingBuffer.size());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.lecture.LectureDataRepository;
+import org.classreviewsite.domain.lecture.LectureRatingAggregate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대학별 베이지안 사전값을 다시 계산하는 주기 작업.
+ * 사전값이 바뀐 대학만 weightedRating 을 일괄 재계산하고, 카탈로그 스냅샷을 바로 다시 읽어 /class/top 순위까지 새 점수로 바꾼다.
+ * 첫 실행에서는 University 에 저장된 사전값부터 올려, 재기동할 때마다 모든 대학을 다시 계산하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LectureRatingPriorJob {
+
+    private final LectureDataRepository lectureDataRepository;
+    private final LectureRatingPriors lectureRatingPriors;
+    private final LectureRatingService lectureRatingService;
+    private final LectureCatalog lectureCatalog;
+
+    private volatile boolean storedLoaded;
+
+    @Scheduled(initialDelayString = "${lecture.rating.prior-initial-delay-ms:0}",
+               fixedDelayString = "${lecture.rating.prior-refresh-ms:3600000}")
+    public void refresh() {
+        if (!storedLoaded) {
+            lectureRatingPriors.loadStored();
+            storedLoaded = true;
+        }
+        for (LectureRatingAggregate aggregate : lectureDataRepository.findRatingAggregates()) {
+            RatingPrior prior = RatingPrior.from(aggregate);
+            if (!lectureRatingPriors.update(aggregate.getUniversity(), prior)) {
+                continue;
+            }
+            try {
+                int updated = lectureRatingService.refreshWeightedRatings(aggregate.getUniversity(), prior);
+                lectureCatalog.reload(aggregate.getUniversity());
+                log.info("가중 별점 재계산 완료. university: {}, prior: {}, updated: {}", aggregate.getUniversity(), prior, updated);
+            } catch (RuntimeException e) {
+                log.warn("가중 별점 재계산 실패. university: {}", aggregate.getUniversity(), e);
+            }
+        }
+    }
+}
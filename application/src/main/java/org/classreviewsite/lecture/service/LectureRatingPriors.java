@@ -0,0 +1,64 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.lecture.University;
+import org.classreviewsite.domain.lecture.UniversityDataRepository;
+import org.classreviewsite.handler.exception.LectureNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대학별 베이지안 사전값 보관소. 값은 LectureRatingPriorJob 이 주기적으로 갱신한다.
+ * 일괄 재계산에 쓴 값은 University 에 저장해 두고, 재기동 후에는 그 값부터 올려 같은 값으로 다시 계산하지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LectureRatingPriors {
+
+    private final LectureCatalog lectureCatalog;
+    private final UniversityDataRepository universityDataRepository;
+
+    private final Map<String, RatingPrior> priors = new ConcurrentHashMap<>();
+
+    public RatingPrior of(String university) {
+        return priors.getOrDefault(university, RatingPrior.DEFAULT);
+    }
+
+    public RatingPrior forLecture(Long lectureId) {
+        try {
+            return of(lectureCatalog.findByLectureId(lectureId).getUniversity());
+        } catch (LectureNotFoundException e) {
+            return RatingPrior.DEFAULT;
+        }
+    }
+
+    /**
+     * University 에 저장된 사전값을 올린다. 이미 계산된 대학은 덮어쓰지 않는다.
+     */
+    public void loadStored() {
+        for (University university : universityDataRepository.findAll()) {
+            if (university.getPriorWeight() != null && university.getPriorMean() != null) {
+                priors.putIfAbsent(university.getName(), new RatingPrior(university.getPriorWeight(), university.getPriorMean()));
+            }
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 University 에 사전값을 저장한다.
+     */
+    public void save(String university, RatingPrior prior) {
+        universityDataRepository.updatePrior(university, prior.getWeight(), prior.getMean());
+    }
+
+    /**
+     * @return 이전 값과 달라졌으면 true
+     */
+    public boolean update(String university, RatingPrior prior) {
+        RatingPrior previous = priors.put(university, prior);
+        return !prior.equals(previous);
+    }
+}
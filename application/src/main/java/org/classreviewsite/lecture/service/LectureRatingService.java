@@ -0,0 +1,175 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.lecture.LectureDataRepository;
+import org.classreviewsite.domain.lecture.StarRating;
+import org.classreviewsite.handler.exception.UpdateFailedException;
+import org.classreviewsite.lecture.event.LectureRatingBufferFullEvent;
+import org.classreviewsite.lecture.event.LectureRatingChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 강의 별점 변경의 단일 진입점.
+ * 엔티티를 수정하지 않고 LectureDataRepository 의 Atomic Update 로 반영한 뒤, 카탈로그 등 캐시가 갱신될 수 있도록 이벤트를 발행한다.
+ * weightedRating 도 같은 쿼리에서 강의가 속한 대학의 사전값으로 함께 계산하고, 별점 분포는 StarRating.bucketOf 구간으로 센다.
+ * 별점은 StarRating.toTenths 로 0.1점 단위 정수로 바꿔 넘기므로 반복해서 더하고 빼도 오차가 쌓이지 않는다.
+ * 쓰기 지연 모드(lecture.rating.write-behind.enabled)에서는 UPDATE 대신 커밋 이후 LectureRatingBuffer 에 변화량을 쌓고,
+ * LectureRatingFlushJob 이 applyDelta 로 강의당 한 번씩 반영한다.
+ * 후기가 작성된 학기의 별점 추이(LectureTrendService)는 Lectures 보다 먼저 같은 트랜잭션에서 반영하며,
+ * 쓰기 지연 모드에서는 추이 변화량도 같은 버퍼에 쌓아 applyDelta 에서 강의 변화량과 함께 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LectureRatingService {
+
+    private final LectureDataRepository lectureDataRepository;
+    private final LectureRatingPriors lectureRatingPriors;
+    private final LectureRatingBuffer lectureRatingBuffer;
+    private final LectureTrendService lectureTrendService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void addRating(Long lectureId, Double rating, LocalDateTime writtenAt) {
+        RatingPrior prior = lectureRatingPriors.forLecture(lectureId);
+        if (lectureRatingBuffer.isEnabled()) {
+            bufferAfterCommit(lectureId, rating, null, prior, writtenAt);
+            return;
+        }
+        lectureTrendService.apply(lectureId, writtenAt, 1L, StarRating.toTenths(rating));
+        int updated = lectureDataRepository.addStarRatingAtomic(lectureId, StarRating.toTenths(rating), StarRating.bucketOf(rating), prior.getWeight(), prior.getMean());
+        if (updated == 0) {
+            throw new UpdateFailedException("별점 반영에 실패했습니다.");
+        }
+        eventPublisher.publishEvent(new LectureRatingChangedEvent(lectureId));
+    }
+
+    /**
+     * 같은 강의에 같은 시각 작성된 후기 여러 개의 별점을 후기 수, 별점 합, 별점 분포로 합쳐 한 번의 UPDATE 로 반영한다.
+     */
+    @Transactional
+    public void addRatings(Long lectureId, List<Double> ratings, LocalDateTime writtenAt) {
+        if (ratings.isEmpty()) {
+            return;
+        }
+        long totalTenths = 0L;
+        long[] histogram = new long[5];
+        for (Double rating : ratings) {
+            totalTenths += StarRating.toTenths(rating);
+            histogram[StarRating.bucketOf(rating) - 1]++;
+        }
+        RatingPrior prior = lectureRatingPriors.forLecture(lectureId);
+        if (lectureRatingBuffer.isEnabled()) {
+            afterCommit(lectureId, () -> ratings.forEach(rating -> lectureRatingBuffer.add(lectureId, rating, null, prior, writtenAt)));
+            return;
+        }
+        lectureTrendService.apply(lectureId, writtenAt, ratings.size(), totalTenths);
+        int updated = lectureDataRepository.applyStarRatingDelta(lectureId, (long) ratings.size(), totalTenths,
+                histogram[0], histogram[1], histogram[2], histogram[3], histogram[4], prior.getWeight(), prior.getMean());
+        if (updated == 0) {
+            throw new UpdateFailedException("별점 반영에 실패했습니다.");
+        }
+        eventPublisher.publishEvent(new LectureRatingChangedEvent(lectureId));
+    }
+
+    @Transactional
+    public void removeRating(Long lectureId, Double rating, LocalDateTime writtenAt) {
+        RatingPrior prior = lectureRatingPriors.forLecture(lectureId);
+        if (lectureRatingBuffer.isEnabled()) {
+            bufferAfterCommit(lectureId, null, rating, prior, writtenAt);
+            return;
+        }
+        lectureTrendService.apply(lectureId, writtenAt, -1L, -StarRating.toTenths(rating));
+        int updated = lectureDataRepository.removeStarRatingAtomic(lectureId, StarRating.toTenths(rating), StarRating.bucketOf(rating), prior.getWeight(), prior.getMean());
+        if (updated == 0) {
+            log.warn("별점 제거 대상이 없습니다. lectureId: {}", lectureId);
+            return;
+        }
+        eventPublisher.publishEvent(new LectureRatingChangedEvent(lectureId));
+    }
+
+    @Transactional
+    public void updateRating(Long lectureId, Double oldRating, Double newRating, LocalDateTime writtenAt) {
+        if (oldRating.equals(newRating)) {
+            return;
+        }
+        RatingPrior prior = lectureRatingPriors.forLecture(lectureId);
+        if (lectureRatingBuffer.isEnabled()) {
+            bufferAfterCommit(lectureId, newRating, oldRating, prior, writtenAt);
+            return;
+        }
+        lectureTrendService.apply(lectureId, writtenAt, 0L, StarRating.toTenths(newRating) - StarRating.toTenths(oldRating));
+        int updated = lectureDataRepository.updateStarRatingAtomic(lectureId, StarRating.toTenths(oldRating), StarRating.toTenths(newRating),
+                StarRating.bucketOf(oldRating), StarRating.bucketOf(newRating), prior.getWeight(), prior.getMean());
+        if (updated == 0) {
+            log.warn("별점 수정 대상이 없습니다. lectureId: {}", lectureId);
+            return;
+        }
+        eventPublisher.publishEvent(new LectureRatingChangedEvent(lectureId));
+    }
+
+    /**
+     * 사전값이 바뀐 대학의 weightedRating 을 일괄 재계산하고, 같은 트랜잭션에서 사용한 사전값을 저장한다.
+     */
+    @Transactional
+    public int refreshWeightedRatings(String university, RatingPrior prior) {
+        int updated = lectureDataRepository.refreshWeightedRatings(university, prior.getWeight(), prior.getMean());
+        lectureRatingPriors.save(university, prior);
+        return updated;
+    }
+
+    /**
+     * 쓰기 지연 버퍼에 모인 변화량을 학기별 추이와 함께 한 트랜잭션에서 반영한다. Lectures 는 한 번의 UPDATE 이며, 사전값은 반영 시점의 값을 쓴다.
+     */
+    @Transactional
+    public void applyDelta(LectureRatingBuffer.Delta delta) {
+        for (LectureRatingBuffer.TermDelta term : delta.getTerms()) {
+            lectureTrendService.apply(delta.getLectureId(), term.getTerm(), term.getCount(), term.getTotalTenths());
+        }
+        RatingPrior prior = lectureRatingPriors.forLecture(delta.getLectureId());
+        long[] histogram = delta.getHistogram();
+        int updated = lectureDataRepository.applyStarRatingDelta(delta.getLectureId(), delta.getCount(), delta.getTotalTenths(),
+                histogram[0], histogram[1], histogram[2], histogram[3], histogram[4], prior.getWeight(), prior.getMean());
+        if (updated == 0) {
+            log.warn("별점 반영 대상이 없습니다. lectureId: {}", delta.getLectureId());
+            return;
+        }
+        eventPublisher.publishEvent(new LectureRatingChangedEvent(delta.getLectureId()));
+    }
+
+    /**
+     * 후기 저장이 롤백되면 별점도 반영되면 안 되므로 버퍼에는 커밋 이후에 쌓는다.
+     * 변경 이벤트는 지금 발행하지만 구독자는 커밋 이후에 실행되며, 먼저 등록된 버퍼 적재가 그보다 앞서 실행된다.
+     */
+    private void bufferAfterCommit(Long lectureId, Double addedRating, Double removedRating, RatingPrior prior, LocalDateTime writtenAt) {
+        afterCommit(lectureId, () -> lectureRatingBuffer.add(lectureId, addedRating, removedRating, prior, writtenAt));
+    }
+
+    private void afterCommit(Long lectureId, Runnable add) {
+        Runnable buffer = () -> {
+            add.run();
+            if (lectureRatingBuffer.isUnderPressure()) {
+                eventPublisher.publishEvent(new LectureRatingBufferFullEvent());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer.run();
+                }
+            });
+        } else {
+            buffer.run();
+        }
+        eventPublisher.publishEvent(new LectureRatingChangedEvent(lectureId));
+    }
+}
@@ -0,0 +1,191 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 강의명/교수명/학과명 인메모리 역색인.
+ * 한글은 형태소 분석 없이도 음절 bigram 으로 부분 일치 검색이 잘 되므로, 공백으로 나눈 단어마다 음절 bigram(한 글자 단어는 unigram)을 색인한다.
+ * 대학별로 카탈로그가 로딩될 때 새로 만들고, 강의가 교체되면 해당 강의만 다시 색인한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LectureSearchIndex {
+
+    private static final int LECTURE_NAME_WEIGHT = 3;
+    private static final int PROFESSOR_WEIGHT = 2;
+    private static final int DEPARTMENT_WEIGHT = 1;
+
+    private final LectureCatalog lectureCatalog;
+
+    private final Map<String, UniversityIndex> indexes = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onCatalogLoaded(LectureCatalogLoadedEvent event) {
+        indexes.put(event.getUniversity(), UniversityIndex.build(event.getLectures()));
+    }
+
+    @EventListener
+    public void onLectureUpdated(LectureUpdatedEvent event) {
+        UniversityIndex index = indexes.get(event.getLecture().getUniversity());
+        if (index != null) {
+            index.upsert(event.getLecture());
+        }
+    }
+
+    /**
+     * 검색어 gram 의 절반 이상이 일치하는 강의를 일치한 gram 수, 필드 가중치 합, 후기 수 순으로 정렬해 반환한다.
+     */
+    public List<LectureSummary> search(String university, String query) {
+        Set<String> grams = grams(query);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+        return index(university).search(grams);
+    }
+
+    private UniversityIndex index(String university) {
+        UniversityIndex index = indexes.get(university);
+        if (index != null) {
+            return index;
+        }
+        List<LectureSummary> lectures = lectureCatalog.findByUniversity(university);
+        return indexes.computeIfAbsent(university, key -> UniversityIndex.build(lectures));
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            String token = normalize(word);
+            if (token.length() == 1) {
+                grams.add(token);
+            }
+            for (int i = 0; i + 1 < token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String word) {
+        StringBuilder token = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+            }
+        }
+        return token.toString();
+    }
+
+    private static final class UniversityIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, LectureSummary> lectures = new HashMap<>();
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+        private static UniversityIndex build(List<LectureSummary> lectures) {
+            UniversityIndex index = new UniversityIndex();
+            for (LectureSummary lecture : lectures) {
+                index.add(lecture);
+            }
+            return index;
+        }
+
+        private void upsert(LectureSummary lecture) {
+            lock.writeLock().lock();
+            try {
+                LectureSummary previous = lectures.get(lecture.getLectureId());
+                if (previous != null) {
+                    remove(previous);
+                }
+                add(lecture);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private List<LectureSummary> search(Set<String> queryGrams) {
+            int minimumMatch = (queryGrams.size() + 1) / 2;
+            Map<Long, int[]> matches = new HashMap<>();
+
+            lock.readLock().lock();
+            try {
+                for (String gram : queryGrams) {
+                    Map<Long, Integer> posting = postings.get(gram);
+                    if (posting == null) {
+                        continue;
+                    }
+                    posting.forEach((lectureId, weight) -> {
+                        int[] match = matches.computeIfAbsent(lectureId, id -> new int[2]);
+                        match[0]++;
+                        match[1] += weight;
+                    });
+                }
+
+                List<LectureSummary> result = new ArrayList<>();
+                matches.forEach((lectureId, match) -> {
+                    if (match[0] >= minimumMatch) {
+                        result.add(lectures.get(lectureId));
+                    }
+                });
+                result.sort(Comparator
+                        .comparingInt((LectureSummary lecture) -> matches.get(lecture.getLectureId())[0]).reversed()
+                        .thenComparing(Comparator.comparingInt((LectureSummary lecture) -> matches.get(lecture.getLectureId())[1]).reversed())
+                        .thenComparing(Comparator.comparingLong(LectureSearchIndex::reviewCount).reversed())
+                        .thenComparing(LectureSummary::getLectureId));
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void add(LectureSummary lecture) {
+            lectures.put(lecture.getLectureId(), lecture);
+            post(lecture.getLectureId(), lecture.getLectureName(), LECTURE_NAME_WEIGHT);
+            post(lecture.getLectureId(), lecture.getProfessor(), PROFESSOR_WEIGHT);
+            post(lecture.getLectureId(), lecture.getDepartment(), DEPARTMENT_WEIGHT);
+        }
+
+        private void remove(LectureSummary lecture) {
+            lectures.remove(lecture.getLectureId());
+            for (String field : new String[]{lecture.getLectureName(), lecture.getProfessor(), lecture.getDepartment()}) {
+                for (String gram : grams(field)) {
+                    Map<Long, Integer> posting = postings.get(gram);
+                    if (posting != null && posting.remove(lecture.getLectureId()) != null && posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        private void post(Long lectureId, String field, int weight) {
+            for (String gram : grams(field)) {
+                postings.computeIfAbsent(gram, key -> new HashMap<>()).merge(lectureId, weight, Integer::sum);
+            }
+        }
+    }
+
+    private static long reviewCount(LectureSummary lecture) {
+        return lecture.getReviewCount() == null ? 0L : lecture.getReviewCount();
+    }
+}
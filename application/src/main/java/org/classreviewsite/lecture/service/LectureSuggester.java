@@ -0,0 +1,188 @@
+package org.classreviewsite.lecture.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.classreviewsite.util.Hangul;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 강의명 자동완성.
+ * 대학별로 강의명을 자모로 분해한 키와 초성 키를 각각 트라이에 넣고, 노드마다 상위 MAX_LIMIT 개 후보를 미리 계산해 둔다.
+ * 조회는 입력을 같은 방식으로 분해한 뒤 트라이를 내려가기만 하므로 DB 나 정렬 없이 메모리에서 끝난다.
+ * 트라이는 불변이며, 카탈로그가 바뀌면 백그라운드 스레드에서 새로 만들어 교체한다.
+ */
+@Service
+@Slf4j
+public class LectureSuggester {
+
+    public static final int MAX_LIMIT = 10;
+
+    private static final Comparator<LectureSummary> SUGGEST_ORDER = Comparator
+            .comparingLong((LectureSummary lecture) -> lecture.getReviewCount() == null ? 0L : lecture.getReviewCount()).reversed()
+            .thenComparingInt(lecture -> lecture.getLectureName().length())
+            .thenComparing(LectureSummary::getLectureId);
+
+    private final LectureCatalog lectureCatalog;
+    private final Map<String, Suggestions> suggestions = new ConcurrentHashMap<>();
+    private final Set<String> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "lecture-suggester");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LectureSuggester(LectureCatalog lectureCatalog) {
+        this.lectureCatalog = lectureCatalog;
+    }
+
+    @EventListener
+    public void onCatalogLoaded(LectureCatalogLoadedEvent event) {
+        List<LectureSummary> lectures = event.getLectures();
+        rebuildExecutor.execute(() -> suggestions.put(event.getUniversity(), Suggestions.build(lectures)));
+    }
+
+    /**
+     * 후기 수가 바뀌면 후보 순위가 바뀔 수 있으므로 대학 단위로 다시 만든다. 이미 대기 중인 재생성이 있으면 합친다.
+     */
+    @EventListener
+    public void onLectureUpdated(LectureUpdatedEvent event) {
+        String university = event.getLecture().getUniversity();
+        if (!suggestions.containsKey(university) || !pendingRebuilds.add(university)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            pendingRebuilds.remove(university);
+            try {
+                suggestions.put(university, Suggestions.build(lectureCatalog.findByUniversity(university)));
+            } catch (RuntimeException e) {
+                log.warn("자동완성 색인 재생성 실패. university: {}", university, e);
+            }
+        });
+    }
+
+    public List<LectureSummary> suggest(String university, String keyword, int limit) {
+        Suggestions current = suggestions.get(university);
+        if (current == null) {
+            current = suggestions.computeIfAbsent(university, key -> Suggestions.build(lectureCatalog.findByUniversity(key)));
+        }
+        return current.find(keyword, Math.min(limit, MAX_LIMIT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private static final class Suggestions {
+
+        private final LectureSummary[] lectures;
+        private final Node jamoRoot;
+        private final Node chosungRoot;
+
+        private Suggestions(LectureSummary[] lectures, Node jamoRoot, Node chosungRoot) {
+            this.lectures = lectures;
+            this.jamoRoot = jamoRoot;
+            this.chosungRoot = chosungRoot;
+        }
+
+        /**
+         * 순위순으로 정렬한 뒤 삽입하므로, 각 노드는 먼저 들어온 MAX_LIMIT 개만 기억하면 곧 상위 후보가 된다.
+         * 강의명 전체뿐 아니라 띄어쓰기로 나뉜 각 단어의 시작 위치부터도 삽입해 "프로그래밍" 으로 "컴퓨터 프로그래밍" 을 찾을 수 있게 한다.
+         */
+        private static Suggestions build(List<LectureSummary> catalog) {
+            LectureSummary[] lectures = catalog.stream().sorted(SUGGEST_ORDER).toArray(LectureSummary[]::new);
+            Node jamoRoot = new Node();
+            Node chosungRoot = new Node();
+
+            for (int ordinal = 0; ordinal < lectures.length; ordinal++) {
+                for (String word : wordStarts(lectures[ordinal].getLectureName())) {
+                    jamoRoot.insert(Hangul.decompose(word), ordinal);
+                    chosungRoot.insert(Hangul.chosung(word), ordinal);
+                }
+            }
+            return new Suggestions(lectures, jamoRoot.freeze(), chosungRoot.freeze());
+        }
+
+        private List<LectureSummary> find(String keyword, int limit) {
+            boolean chosungQuery = Hangul.isChosungQuery(keyword);
+            String key = chosungQuery ? Hangul.chosung(keyword) : Hangul.decompose(keyword);
+            if (key.isEmpty()) {
+                return List.of();
+            }
+
+            Node node = (chosungQuery ? chosungRoot : jamoRoot).find(key);
+            if (node == null) {
+                return List.of();
+            }
+            List<LectureSummary> result = new ArrayList<>(Math.min(limit, node.top.length));
+            for (int i = 0; i < node.top.length && result.size() < limit; i++) {
+                result.add(lectures[node.top[i]]);
+            }
+            return result;
+        }
+
+        private static List<String> wordStarts(String lectureName) {
+            List<String> starts = new ArrayList<>();
+            starts.add(lectureName);
+            for (int i = 1; i < lectureName.length(); i++) {
+                if (Character.isWhitespace(lectureName.charAt(i - 1)) && !Character.isWhitespace(lectureName.charAt(i))) {
+                    starts.add(lectureName.substring(i));
+                }
+            }
+            return starts;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private List<Integer> candidates = new ArrayList<>();
+        private int[] top;
+
+        private void insert(String key, int ordinal) {
+            Node node = this;
+            node.offer(ordinal);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.offer(ordinal);
+            }
+        }
+
+        private void offer(int ordinal) {
+            if (candidates.size() < MAX_LIMIT && !candidates.contains(ordinal)) {
+                candidates.add(ordinal);
+            }
+        }
+
+        private Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            return node;
+        }
+
+        private Node freeze() {
+            top = candidates.stream().mapToInt(Integer::intValue).toArray();
+            candidates = null;
+            for (Node child : children.values()) {
+                child.freeze();
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.RequiredArgsConstructor;
+import org.classreviewsite.domain.lecture.AcademicTerm;
+import org.classreviewsite.domain.lecture.LectureSemesterRatingDataRepository;
+import org.classreviewsite.lecture.controller.data.response.LectureTrendResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 학기별 별점 추이. 후기가 작성된 학기(AcademicTerm)의 집계 행에 변화량을 Upsert 로 더한다.
+ * 학기의 첫 후기면 같은 문장에서 행을 만들므로, 동시에 들어온 첫 후기끼리도 유니크 키 충돌 없이 후기 작성 트랜잭션 안에서 끝난다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LectureTrendService {
+
+    private final LectureSemesterRatingDataRepository lectureSemesterRatingDataRepository;
+    private final LectureCatalog lectureCatalog;
+
+    /**
+     * @param writtenAt 후기 작성 시각. 작성 시각이 없는 후기는 추이에 넣지 않는다.
+     */
+    @Transactional
+    public void apply(Long lectureId, LocalDateTime writtenAt, long countDelta, long tenthsDelta) {
+        if (writtenAt == null) {
+            return;
+        }
+        apply(lectureId, AcademicTerm.of(writtenAt), countDelta, tenthsDelta);
+    }
+
+    /**
+     * 쓰기 지연 버퍼에서 학기별로 합쳐진 변화량을 반영할 때 쓴다.
+     */
+    @Transactional
+    public void apply(Long lectureId, AcademicTerm term, long countDelta, long tenthsDelta) {
+        lectureSemesterRatingDataRepository.upsertRating(lectureId, term.getYear(), term.getSemester(), countDelta, tenthsDelta);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LectureTrendResponse> trend(Long lectureId) {
+        lectureCatalog.findByLectureId(lectureId);
+        return lectureSemesterRatingDataRepository.findTrendByLectureId(lectureId).stream()
+                .map(LectureTrendResponse::from)
+                .toList();
+    }
+}
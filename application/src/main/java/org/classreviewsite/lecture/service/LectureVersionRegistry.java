@@ -0,0 +1,101 @@
+package org.classreviewsite.lecture.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대학 카탈로그와 강의별 버전 번호.
+ * 카탈로그가 다시 로딩되거나 강의가 교체될 때마다 단조 증가하는 번호를 새로 부여해, 응답 본문을 만들지 않고도 ETag 를 계산할 수 있게 한다.
+ * 재기동 후 이전 ETag 와 번호가 겹치지 않도록 기동 시각을 ETag 앞에 붙인다.
+ * 카탈로그 TTL 이 지난 대학은 ETag 를 내주지 않는다. 304 로만 응답하다 보면 카탈로그가 다시 로딩될 기회가 없기 때문이다.
+ */
+@Component
+public class LectureVersionRegistry {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Duration timeToLive;
+
+    private final Map<String, CatalogVersion> universityVersions = new ConcurrentHashMap<>();
+    private final Map<Long, LectureVersion> lectureVersions = new ConcurrentHashMap<>();
+
+    public LectureVersionRegistry(@Value("${lecture.catalog.ttl-seconds:600}") long ttlSeconds) {
+        this.timeToLive = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @EventListener
+    public void onCatalogLoaded(LectureCatalogLoadedEvent event) {
+        long version = sequence.incrementAndGet();
+        for (LectureSummary lecture : event.getLectures()) {
+            lectureVersions.put(lecture.getLectureId(), new LectureVersion(version, event.getUniversity()));
+        }
+        universityVersions.put(event.getUniversity(), new CatalogVersion(version, Instant.now()));
+    }
+
+    @EventListener
+    public void onLectureUpdated(LectureUpdatedEvent event) {
+        long version = sequence.incrementAndGet();
+        String university = event.getLecture().getUniversity();
+        lectureVersions.put(event.getLecture().getLectureId(), new LectureVersion(version, university));
+        universityVersions.computeIfPresent(university, (key, current) -> new CatalogVersion(version, current.loadedAt));
+    }
+
+    /**
+     * @return 카탈로그가 로딩되지 않았거나 만료된 대학이면 null
+     */
+    public String universityETag(String university) {
+        CatalogVersion catalog = universityVersions.get(university);
+        return isFresh(catalog) ? eTag(catalog.version) : null;
+    }
+
+    /**
+     * @return 카탈로그가 로딩되지 않았거나 만료된 강의면 null
+     */
+    public String lectureETag(Long lectureId) {
+        LectureVersion lecture = lectureVersions.get(lectureId);
+        if (lecture == null || !isFresh(universityVersions.get(lecture.university))) {
+            return null;
+        }
+        return eTag(lecture.version);
+    }
+
+    private boolean isFresh(CatalogVersion catalog) {
+        return catalog != null && catalog.loadedAt.plus(timeToLive).isAfter(Instant.now());
+    }
+
+    private String eTag(long version) {
+        return epoch + "-" + version;
+    }
+
+    private static final class CatalogVersion {
+
+        private final long version;
+        private final Instant loadedAt;
+
+        private CatalogVersion(long version, Instant loadedAt) {
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private static final class LectureVersion {
+
+        private final long version;
+        private final String university;
+
+        private LectureVersion(long version, String university) {
+            this.version = version;
+            this.university = university;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.classreviewsite.lecture.service;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.classreviewsite.domain.lecture.LectureRatingAggregate;
+
+/**
+ * 베이지안 가중 평균의 사전값.
+ * mean 은 대학 전체 평균 별점, weight 는 후기가 있는 강의의 평균 후기 수다. 후기가 weight 개쯤 쌓이면 강의 자체 평균과 대학 평균이 반반씩 반영된다.
+ * 자주 다시 계산해도 점수가 흔들리지 않도록 mean 은 소수 둘째 자리, weight 는 첫째 자리에서 반올림한다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class RatingPrior {
+
+    /**
+     * 사전값이 아직 계산되지 않은 대학에 쓰는 값. 별점 척도의 중간값에 후기 한 건만큼의 가중치를 준다.
+     */
+    public static final RatingPrior DEFAULT = new RatingPrior(1.0, 3.0);
+
+    private final double weight;
+    private final double mean;
+
+    public RatingPrior(double weight, double mean) {
+        this.weight = Math.round(Math.max(weight, 1.0) * 10) / 10.0;
+        this.mean = Math.round(mean * 100) / 100.0;
+    }
+
+    public static RatingPrior from(LectureRatingAggregate aggregate) {
+        double weight = (double) aggregate.getReviewCount() / aggregate.getLectureCount();
+        double mean = aggregate.getTotalRating() / aggregate.getReviewCount();
+        return new RatingPrior(weight, mean);
+    }
+}
@@ -0,0 +1,42 @@
+package org.classreviewsite.review.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.classreviewsite.review.controller.data.Response.AssetManifestResponse;
+import org.classreviewsite.review.service.ImageUrlService;
+import org.classreviewsite.util.Result;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "정적 자원 API", description = "배너, 교수 이미지 등 이미지 주소 관련 요청입니다.")
+public class AssetController {
+
+    private final ImageUrlService imageUrlService;
+
+    @GetMapping("/assets/manifest")
+    @Operation(summary = "이미지 주소 목록", description = "이미지 이름(main-banner, banner, icon 등)별 이미지 주소 목록을 한 번에 조회합니다. 응답의 ETag 를 If-None-Match 로 보내면 변경이 없을 때 304 를 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "이미지 주소 목록입니다.")
+    @ApiResponse(responseCode = "304", description = "이전 응답 이후 변경되지 않았습니다.")
+    public Result manifest(WebRequest webRequest){
+        String version = imageUrlService.version();
+        if (webRequest.checkNotModified("\"assets-" + version + "\"")) {
+            return null;
+        }
+        return Result.success(new AssetManifestResponse(version, imageUrlService.manifest()), "이미지 주소 목록입니다.");
+    }
+
+    @PostMapping("/admin/assets/reload")
+    @Operation(summary = "이미지 주소 다시 읽기", description = "ImageUrl 테이블을 수정한 뒤 호출하면 서버에 올라가 있는 이미지 주소 목록을 다시 읽습니다. 관리자 권한이 필요합니다.")
+    @ApiResponse(responseCode = "200", description = "이미지 주소를 다시 읽었습니다.")
+    public Result reload(){
+        int size = imageUrlService.reload();
+        return Result.success(size, "이미지 주소를 다시 읽었습니다.");
+    }
+
+}
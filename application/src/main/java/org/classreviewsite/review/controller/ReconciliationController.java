@@ -0,0 +1,48 @@
+package org.classreviewsite.review.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.classreviewsite.review.service.CounterReconciler;
+import org.classreviewsite.util.Result;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "카운터 점검 API", description = "강의 별점, 수강후기 좋아요 수를 원본 데이터와 대조하는 관리자 요청입니다.")
+public class ReconciliationController {
+
+    private final CounterReconciler counterReconciler;
+
+    @GetMapping("/admin/reconcile/ratings")
+    @Operation(summary = "강의 별점 점검", description = "강의별 후기 수, 별점 합, 평균 별점, 별점 분포를 수강후기와 대조해 불일치만 보고합니다. 값은 고치지 않습니다. 관리자 권한이 필요합니다.")
+    @ApiResponse(responseCode = "200", description = "강의 별점 점검 결과입니다.")
+    public Result checkRatings(){
+        return Result.success(counterReconciler.reconcileRatings(false), "강의 별점 점검 결과입니다.");
+    }
+
+    @PostMapping("/admin/reconcile/ratings")
+    @Operation(summary = "강의 별점 수리", description = "강의 별점을 수강후기와 대조해 어긋난 강의만 고칩니다. 별점 쓰기 지연이 켜져 있으면 고치지 않고 409 를 반환합니다. 관리자 권한이 필요합니다.")
+    @ApiResponse(responseCode = "200", description = "강의 별점을 수리했습니다.")
+    public Result repairRatings(){
+        return Result.success(counterReconciler.reconcileRatings(true), "강의 별점을 수리했습니다.");
+    }
+
+    @GetMapping("/admin/reconcile/likes")
+    @Operation(summary = "좋아요 수 점검", description = "수강후기별 좋아요 수를 좋아요 기록과 대조해 불일치만 보고합니다. 값은 고치지 않습니다. 관리자 권한이 필요합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 수 점검 결과입니다.")
+    public Result checkLikes(){
+        return Result.success(counterReconciler.reconcileLikes(false), "좋아요 수 점검 결과입니다.");
+    }
+
+    @PostMapping("/admin/reconcile/likes")
+    @Operation(summary = "좋아요 수 수리", description = "수강후기별 좋아요 수를 좋아요 기록과 대조해 어긋난 후기만 고칩니다. 관리자 권한이 필요합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 수를 수리했습니다.")
+    public Result repairLikes(){
+        return Result.success(counterReconciler.reconcileLikes(true), "좋아요 수를 수리했습니다.");
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.classreviewsite.review.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.classreviewsite.review.controller.data.Request.BulkReviewRequest;
+import org.classreviewsite.review.controller.data.Response.BulkReviewResponse;
+import org.classreviewsite.review.service.ReviewBulkWriter;
+import org.classreviewsite.util.Result;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "수강후기 일괄 등록 API", description = "설문 결과 이관 등으로 수강후기를 한꺼번에 등록하는 관리자 요청입니다.")
+public class ReviewBulkController {
+
+    private final ReviewBulkWriter reviewBulkWriter;
+
+    @PostMapping("/admin/review/bulk")
+    @Operation(summary = "수강후기 일괄 등록", description = "reviews 에 POST /review 요청 본문과 같은 형식(lectureName, userNumber, starLating, postTitle, postContent)의 후기 목록을 담아 보내면 됩니다. 수강 내역이 없거나 이미 작성한 후기 등은 건너뛰고 나머지는 등록하며, 건너뛴 후기는 failures 에 목록 위치(index)와 사유로 알려드립니다. 관리자 권한이 필요합니다.")
+    @ApiResponse(responseCode = "200", description = "수강후기 일괄 등록 결과입니다.")
+    @ApiResponse(responseCode = "403", description = "등록할 수강후기가 없거나 한 번에 등록할 수 있는 개수를 넘었습니다.")
+    public Result writeReviews(@RequestBody BulkReviewRequest request){
+        BulkReviewResponse response = reviewBulkWriter.write(request.getReviews());
+        return Result.success(response, "수강후기 일괄 등록 결과입니다.");
+    }
+
+}
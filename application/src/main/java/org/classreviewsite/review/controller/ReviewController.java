@@ -7,8 +7,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.classreviewsite.review.service.ReviewFinder;
+import org.classreviewsite.review.service.ReviewSort;
+import org.classreviewsite.util.CursorPage;
 import org.classreviewsite.util.Result;
 import org.classreviewsite.review.controller.data.Response.ReviewMeResponse;
+import org.classreviewsite.review.controller.data.Response.ReviewResponse;
 import org.classreviewsite.review.controller.data.Request.DeleteReviewRequest;
 import org.classreviewsite.review.controller.data.Request.LikeRequest;
 import org.classreviewsite.review.controller.data.Request.ClassReviewRequest;
@@ -26,33 +29,23 @@ public class ReviewController {
     private final ReviewService reviewService;
     private final ReviewFinder reviewFinder;
 
-//    @GetMapping("/review")
-//    @Operation(summary = "수강 후기 전체 목록 조회", description = "Param 설명 :lectureId 꼭 입력해주셔야됩니다. lowness true일 경우 별점 낮은 순 조회입니다. likes true일 경우 좋아요 높은순 조회입니다. recent true일 경우 날짜 최신순 조회입니다. lectureId만 줄 경우 기본값 별점 높은순 조회입니다. ex) ?lectureId=1&lowness=true , ?lectureId=1")
-//    @ApiResponse(responseCode = "200", description = "수강 후기 전체 목록 조회입니다.")
-//    @ApiResponse(responseCode = "202", description = "수강 후기가 어디에도 없습니다.")
-//    public ApiResponses ReviewPostList(@RequestParam("lectureId") Long lectureId,
-//                                       @RequestParam(value = "lowness" , required = false) boolean lowness,
-//                                       @RequestParam(value = "likes", required = false) boolean likes,
-//                                       @RequestParam(value = "recent" , required = false) boolean recent
-//    ){
-//        if(lowness == true){
-//            log.info("별점 낮은 순");
-//            List<ReviewResponse> response = reviewService.findByLectureIdOrderByStarLatingAsc(lectureId);
-//            return ApiResponses.success( response, "수강 후기 별점 낮은 순 조회입니다.");
-//        }else if(likes == true){
-//            log.info("좋아요 높은 순");
-//            List<ReviewResponse> response = reviewService.findByLectureIdOrderByLikesDesc(lectureId);
-//            return ApiResponses.success(response, "수강 후기 좋아요 높은 순 조회입니다.");
-//        }else if(recent == true){
-//            log.info("날짜 최신순");
-//            List<ReviewResponse> response = reviewService.findByLectureIdOrderByCreateDateDesc(lectureId);
-//            return ApiResponses.success(response, "수강 후기 날짜 최신순 조회입니다.");
-//        }
-//
-//        log.info("별점 높은 순");
-//        List<ReviewResponse> response = reviewService.findByLectureIdOrderByStarLatingDesc(lectureId);
-//        return ApiResponses.success(response, "수강 후기 별점 높은 순 조회입니다.");
-//    }
+    @GetMapping("/review")
+    @Operation(summary = "수강 후기 목록 조회", description = "lectureId 는 꼭 입력해주셔야됩니다. sort 로 STAR_DESC(별점 높은 순, 기본값), STAR_ASC(별점 낮은 순), LIKES_DESC(좋아요 높은 순), LIKES_ASC(좋아요 낮은 순), RECENT(날짜 최신순)를 고를 수 있습니다. sort 없이 lowness, likes, recent 중 하나를 true 로 주면 각각 별점 낮은 순, 좋아요 높은 순, 날짜 최신순으로 조회합니다. size(기본 20, 최대 100)개씩 조회되며 응답의 nextCursor 를 cursor 로 전달해 다음 페이지를 조회하시면 됩니다. ex) ?lectureId=1&sort=LIKES_DESC , ?lectureId=1&lowness=true")
+    @ApiResponse(responseCode = "200", description = "수강 후기 목록 조회입니다.")
+    @ApiResponse(responseCode = "202", description = "수강 후기가 어디에도 없습니다.")
+    @ApiResponse(responseCode = "403", description = "잘못된 커서입니다.")
+    public Result reviewPostList(@RequestParam("lectureId") Long lectureId,
+                                 @RequestParam(value = "sort", required = false) ReviewSort sort,
+                                 @RequestParam(value = "lowness", required = false) boolean lowness,
+                                 @RequestParam(value = "likes", required = false) boolean likes,
+                                 @RequestParam(value = "recent", required = false) boolean recent,
+                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                 @RequestParam(value = "size", required = false) Integer size
+    ){
+        ReviewSort resolved = sort != null ? sort : ReviewSort.fromFlags(lowness, likes, recent);
+        CursorPage<ReviewResponse> response = reviewFinder.findPage(lectureId, resolved, cursor, size);
+        return Result.success(response, resolved.getMessage());
+    }
 
     @PostMapping("/review")
     @Operation(summary = "수강 후기 작성 요청", description = "수강 후기 작성을 요청합니다. String postTitle, String postContent, Double starLating, String lecture, Long userNumber 를 json 형태로 body로 전송하시면 됩니다.")
@@ -102,9 +95,8 @@ public class ReviewController {
     @ApiResponse(responseCode = "200",description = "해당 학생의 수강후기입니다.")
     @ApiResponse(responseCode = "202", description = "수강후기가 존재하지 않습니다.")
     public Result myReview(@RequestParam("userNumber") int userNumber){
-        // TODO: ReviewFinder.findMyReview 메서드 구현 필요
-        // List<ReviewMeResponse> response = reviewFinder.findMyReview(userNumber);
-        return Result.success(null, "해당 학생의 수강후기입니다.");
+        List<ReviewMeResponse> response = reviewFinder.findMyReview(userNumber);
+        return Result.success(response, "해당 학생의 수강후기입니다.");
     }
 
 }
\ No newline at end of file
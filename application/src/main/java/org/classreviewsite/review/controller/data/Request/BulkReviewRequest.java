@@ -0,0 +1,19 @@
+package org.classreviewsite.review.controller.data.Request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReviewRequest {
+
+    /**
+     * 등록할 수강후기. 각 항목은 POST /review 요청 본문과 같다.
+     */
+    private List<ClassReviewRequest> reviews;
+
+}
@@ -0,0 +1,23 @@
+package org.classreviewsite.review.controller.data.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class AssetManifestResponse {
+
+    /**
+     * 이미지 목록 내용의 해시. 내용이 같으면 재기동 후에도 같다.
+     */
+    private String version;
+
+    /**
+     * 이미지 이름별 주소 목록. ex) "main-banner" -> [banner1, banner2, ...]
+     */
+    private Map<String, List<String>> images;
+
+}
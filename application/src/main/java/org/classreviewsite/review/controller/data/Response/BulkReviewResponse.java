@@ -0,0 +1,38 @@
+package org.classreviewsite.review.controller.data.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkReviewResponse {
+
+    private int requested;
+
+    private int inserted;
+
+    /**
+     * 등록하지 못한 후기. index 오름차순
+     */
+    private List<Failure> failures;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+
+        /**
+         * 요청 reviews 목록에서의 위치 (0부터)
+         */
+        private int index;
+
+        private String lectureName;
+
+        private Integer userNumber;
+
+        private String message;
+
+    }
+
+}
@@ -3,7 +3,9 @@ package org.classreviewsite.review.controller.data.Response;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.classreviewsite.domain.lecture.Lecture;
+import org.classreviewsite.domain.lecture.LectureSummary;
 import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.domain.util.NumberFormat;
 
 @Data
 @AllArgsConstructor
@@ -29,4 +31,16 @@ public class ClassListResponse {
         );
     }
 
+    public static ClassListResponse from(LectureSummary lecture){
+        return new ClassListResponse(
+                lecture.getLectureId(),
+                lecture.getLectureName(),
+                lecture.getDepartment(),
+                lecture.getUniversity(),
+                lecture.getLectureType(),
+                NumberFormat.format(lecture.getAverageRating()),
+                lecture.getProfessor()
+        );
+    }
+
 }
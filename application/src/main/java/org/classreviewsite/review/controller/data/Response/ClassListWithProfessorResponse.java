@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import org.classreviewsite.domain.util.NumberFormat;
 import org.classreviewsite.domain.lecture.Lecture;
+import org.classreviewsite.domain.lecture.LectureSummary;
 import org.classreviewsite.domain.lecture.LectureType;
 
 import java.util.List;
@@ -62,6 +63,7 @@ public class ClassListWithProfessorResponse {
         private String professor;
         private String introduction;
         private String profileImage;
+        private List<Long> ratingHistogram;
 
 
         public static ClassListWithProfessorNameInDetail from(Lecture lecture, String imageUrl){
@@ -78,6 +80,25 @@ public class ClassListWithProfessorResponse {
                     .university(lecture.getUniversity())
                     .introduction("강의 정보 입니다.")
                     .profileImage(imageUrl)
+                    .ratingHistogram(lecture.getStarRating().getRatingHistogram())
+                    .build();
+        }
+
+        public static ClassListWithProfessorNameInDetail from(LectureSummary lecture, String imageUrl){
+
+            return ClassListWithProfessorNameInDetail.builder()
+                    .averageStarLating(NumberFormat.format(lecture.getAverageRating()))
+                    .professor(lecture.getProfessor())
+                    .lectureId(lecture.getLectureId())
+                    .lectureName(lecture.getLectureName())
+                    .lectureType(lecture.getLectureType())
+                    .department(lecture.getDepartment())
+                    .reviewCount(lecture.getReviewCount())
+                    .totalStarLating(lecture.getTotalRating())
+                    .university(lecture.getUniversity())
+                    .introduction("강의 정보 입니다.")
+                    .profileImage(imageUrl)
+                    .ratingHistogram(lecture.getRatingHistogram())
                     .build();
         }
     }
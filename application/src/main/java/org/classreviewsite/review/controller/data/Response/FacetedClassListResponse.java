@@ -0,0 +1,36 @@
+package org.classreviewsite.review.controller.data.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.classreviewsite.lecture.service.LectureFacet;
+import org.classreviewsite.lecture.service.LectureFacetResult;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class FacetedClassListResponse {
+
+    private List<ClassListResponse> lectures;
+    private int totalCount;
+    private String nextCursor;
+    private boolean hasNext;
+    private Map<String, Map<String, Integer>> facets;
+
+    public static FacetedClassListResponse from(LectureFacetResult result, String nextCursor){
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        for (Map.Entry<LectureFacet, Map<String, Integer>> count : result.getCounts().entrySet()) {
+            facets.put(count.getKey().getKey(), count.getValue());
+        }
+        return new FacetedClassListResponse(
+                result.getLectures().stream().map(ClassListResponse::from).toList(),
+                result.getTotalCount(),
+                nextCursor,
+                nextCursor != null,
+                facets
+        );
+    }
+
+}
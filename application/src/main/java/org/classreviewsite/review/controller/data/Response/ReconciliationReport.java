@@ -0,0 +1,39 @@
+package org.classreviewsite.review.controller.data.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ReconciliationReport {
+
+    /**
+     * 점검 대상. ratings(강의 별점) 또는 likes(수강후기 좋아요 수)
+     */
+    private String target;
+
+    private boolean dryRun;
+
+    private long scanned;
+
+    private long mismatched;
+
+    private long repaired;
+
+    /**
+     * 불일치였지만 점검 도중 값이 바뀌어 고치지 않은 행 수
+     */
+    private long skipped;
+
+    private int failedChunks;
+
+    /**
+     * 불일치 행 id 일부. 최대 CounterReconciler.SAMPLE_SIZE 개
+     */
+    private List<Long> sampleIds;
+
+    private long elapsedMillis;
+
+}
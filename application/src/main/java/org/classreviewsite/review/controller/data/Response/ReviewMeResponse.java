@@ -4,8 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.util.DateFormat;
 import org.classreviewsite.domain.util.NumberFormat;
 import org.classreviewsite.domain.review.ClassReview;
+import org.classreviewsite.domain.review.UserReviewSummary;
 
 @Data
 @AllArgsConstructor
@@ -27,8 +29,20 @@ public class ReviewMeResponse {
                 classReview.getPostContent(),
                 NumberFormat.format(classReview.getStarLating()),
                 classReview.getLikes(),
-                classReview.getCreatedDate().getYear()+"-"+classReview.getCreatedDate().getMonth().getValue()+"-"+classReview.getCreatedDate().getDayOfMonth(),
+                DateFormat.format(classReview.getCreatedDate()),
                 classReview.getLecId().getLectureName()
         );
     }
+
+    public static ReviewMeResponse from(UserReviewSummary review){
+        return new ReviewMeResponse(
+                review.getReviewId(),
+                review.getPostTitle(),
+                review.getPostContent(),
+                NumberFormat.format(review.getStarLating()),
+                review.getLikes(),
+                DateFormat.format(review.getCreatedDate()),
+                review.getLectureName()
+        );
+    }
 }
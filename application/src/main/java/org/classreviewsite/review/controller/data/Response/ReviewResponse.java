@@ -3,8 +3,10 @@ package org.classreviewsite.review.controller.data.Response;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.util.DateFormat;
 import org.classreviewsite.domain.util.NumberFormat;
 import org.classreviewsite.domain.review.ClassReview;
+import org.classreviewsite.domain.review.ReviewSummary;
 import org.classreviewsite.user.controller.data.response.UserResponse;
 
 @Data
@@ -27,9 +29,21 @@ public class ReviewResponse {
                 classReview.getPostContent(),
                 NumberFormat.format(classReview.getStarLating()),
                 classReview.getLikes(),
-                classReview.getCreatedDate().getYear()+"-"+classReview.getCreatedDate().getMonth().getValue()+"-"+classReview.getCreatedDate().getDayOfMonth(),
+                DateFormat.format(classReview.getCreatedDate()),
                 UserResponse.from(classReview.getUserNumber())
         );
     }
 
+    public static ReviewResponse from(ReviewSummary review){
+        return new ReviewResponse(
+                review.getReviewId(),
+                review.getPostTitle(),
+                review.getPostContent(),
+                NumberFormat.format(review.getStarLating()),
+                review.getLikes(),
+                DateFormat.format(review.getCreatedDate()),
+                UserResponse.of(review.getUserNumber(), review.getNickname())
+        );
+    }
+
 }
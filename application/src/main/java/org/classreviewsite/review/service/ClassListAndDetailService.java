@@ -3,15 +3,30 @@ package org.classreviewsite.review.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.classreviewsite.domain.lecture.ImageUrl;
-import org.classreviewsite.domain.lecture.Lecture;
-import org.classreviewsite.lecture.service.LectureDataService;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureFacet;
+import org.classreviewsite.lecture.service.LectureFacetIndex;
+import org.classreviewsite.lecture.service.LectureFacetResult;
+import org.classreviewsite.lecture.service.LectureRankingService;
+import org.classreviewsite.lecture.controller.data.response.LectureSuggestResponse;
+import org.classreviewsite.lecture.service.LectureSearchIndex;
+import org.classreviewsite.lecture.service.LectureSuggester;
 import org.classreviewsite.review.controller.data.Response.ClassListResponse;
 import org.classreviewsite.review.controller.data.Response.ClassListWithProfessorResponse;
+import org.classreviewsite.review.controller.data.Response.FacetedClassListResponse;
+import org.classreviewsite.util.CursorPage;
+import org.classreviewsite.util.KeysetCursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * @see @현재 모호한 부분들
@@ -25,25 +40,112 @@ import java.util.NoSuchElementException;
 @Slf4j
 public class ClassListAndDetailService {
 
-    private final LectureDataService lectureDataService;
+    private static final int DEFAULT_TOP_SIZE = 10;
+
+    private final LectureCatalog lectureCatalog;
     private final ImageUrlService imageUrlService;
+    private final LectureSearchIndex lectureSearchIndex;
+    private final LectureSuggester lectureSuggester;
+    private final LectureFacetIndex lectureFacetIndex;
+    private final LectureRankingService lectureRankingService;
 
-    @Transactional(readOnly = true)
     public List<ClassListResponse> get(String university){
-            List<Lecture> lectures = lectureDataService.findByUniversity(university);
+            List<LectureSummary> lectures = lectureCatalog.findByUniversity(university);
             validateNoLectureUniversity(lectures);
 
             return lectures.stream().map(ClassListResponse::from).toList();
     }
 
+    public CursorPage<ClassListResponse> get(String university, String cursor, Integer size){
+        int limit = CursorPage.limit(size);
+        long afterLectureId = cursor == null ? 0L : KeysetCursor.decodeLong(cursor);
+
+        // 다음 페이지 존재 여부를 판단하기 위해 limit + 1 개를 읽는다.
+        List<LectureSummary> lectures = lectureCatalog.findPageByUniversity(university, afterLectureId, limit + 1);
+
+        if (lectures.size() <= limit) {
+            return CursorPage.last(lectures.stream().map(ClassListResponse::from).toList());
+        }
+        List<LectureSummary> page = lectures.subList(0, limit);
+        String nextCursor = KeysetCursor.encode(page.get(limit - 1).getLectureId());
+        return CursorPage.of(page.stream().map(ClassListResponse::from).toList(), nextCursor);
+    }
+
+    /**
+     * 학과, 강의 유형, 별점 구간으로 거른 강의 목록과 패싯별 강의 수.
+     * 같은 조건 안의 여러 값은 OR, 조건 사이는 AND 로 결합한다. cursor 와 size 가 모두 없으면 일치하는 강의를 모두 반환한다.
+     */
+    public FacetedClassListResponse filter(String university, List<String> departments, List<LectureType> lectureTypes,
+                                           List<Integer> ratingBands, String cursor, Integer size){
+        Map<LectureFacet, Set<String>> selected = new EnumMap<>(LectureFacet.class);
+        selected.put(LectureFacet.DEPARTMENT, departments == null ? Set.of() : new HashSet<>(departments));
+        selected.put(LectureFacet.LECTURE_TYPE, lectureTypes == null ? Set.of() : new HashSet<>(lectureTypes.stream().map(Enum::name).toList()));
+        selected.put(LectureFacet.RATING_BAND, ratingBands == null ? Set.of() : new HashSet<>(ratingBands.stream().map(this::ratingBand).toList()));
+
+        int limit = cursor == null && size == null ? Integer.MAX_VALUE : CursorPage.limit(size);
+        long afterLectureId = cursor == null ? 0L : KeysetCursor.decodeLong(cursor);
+
+        LectureFacetResult result = lectureFacetIndex.filter(university, selected, afterLectureId, limit);
+        List<LectureSummary> lectures = result.getLectures();
+        String nextCursor = result.isHasNext() ? KeysetCursor.encode(lectures.get(lectures.size() - 1).getLectureId()) : null;
+        return FacetedClassListResponse.from(result, nextCursor);
+    }
+
+    /**
+     * 검색 결과는 점수순이라 키셋을 만들 수 없으므로, 커서에는 다음 페이지의 시작 순번을 담는다.
+     */
+    public CursorPage<ClassListResponse> search(String university, String keyword, String cursor, Integer size){
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        int limit = CursorPage.limit(size);
+        long offset = cursor == null ? 0L : KeysetCursor.decodeLong(cursor);
+        if (offset < 0 || offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        int from = (int) offset;
+
+        List<LectureSummary> lectures = lectureSearchIndex.search(university, keyword);
+        int to = Math.min(from + limit, lectures.size());
+        if (from >= to) {
+            return CursorPage.last(List.of());
+        }
+
+        List<ClassListResponse> page = lectures.subList(from, to).stream().map(ClassListResponse::from).toList();
+        return to < lectures.size() ? CursorPage.of(page, KeysetCursor.encode(to)) : CursorPage.last(page);
+    }
+
+    /**
+     * 가중 별점이 높은 순(같으면 후기 수가 많은 순) 상위 강의. department, lectureType 을 주지 않으면 해당 조건은 전체로 본다.
+     */
+    public List<ClassListResponse> top(String university, String department, LectureType lectureType, Integer limit){
+        int count = limit == null || limit <= 0 ? DEFAULT_TOP_SIZE : limit;
+        return lectureRankingService.top(university, department, lectureType, count).stream().map(ClassListResponse::from).toList();
+    }
+
+    public List<LectureSuggestResponse> suggest(String university, String keyword, Integer limit){
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        int count = limit == null || limit <= 0 ? LectureSuggester.MAX_LIMIT : limit;
+        return lectureSuggester.suggest(university, keyword, count).stream().map(LectureSuggestResponse::from).toList();
+    }
+
     @Transactional(readOnly = true)
     public ClassListWithProfessorResponse.ClassListWithProfessorNameInDetail detail(Long lectureId){
-        Lecture lecture = lectureDataService.findByLectureId(lectureId);
-        ImageUrl image = imageUrlService.findById(1L);
+        LectureSummary lecture = lectureCatalog.findByLectureId(lectureId);
+        ImageUrl image = imageUrlService.findById(ImageUrlService.PROFESSOR_IMAGE_ID);
         return ClassListWithProfessorResponse.ClassListWithProfessorNameInDetail.from(lecture, image.getImageUrl());
     }
 
-    private void validateNoLectureUniversity(List<Lecture> lectures) {
+    private String ratingBand(Integer band) {
+        if (band == null || band < 0 || band > LectureFacet.MAX_RATING_BAND) {
+            throw new IllegalArgumentException("별점 구간은 0 부터 " + LectureFacet.MAX_RATING_BAND + " 사이입니다.");
+        }
+        return String.valueOf(band);
+    }
+
+    private void validateNoLectureUniversity(List<LectureSummary> lectures) {
         if(lectures.isEmpty()){
             throw new NoSuchElementException("해당 학교의 강의가 존재하지 않습니다.");
         }
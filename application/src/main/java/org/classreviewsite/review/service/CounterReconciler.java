@@ -0,0 +1,402 @@
+package org.classreviewsite.review.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.lecture.StarRating;
+import org.classreviewsite.handler.exception.RepairNotAllowedException;
+import org.classreviewsite.lecture.event.LectureRatingChangedEvent;
+import org.classreviewsite.lecture.service.LectureRatingBuffer;
+import org.classreviewsite.lecture.service.LectureRatingPriors;
+import org.classreviewsite.lecture.service.RatingPrior;
+import org.classreviewsite.review.controller.data.Response.ReconciliationReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비정규화 카운터(강의 StarRating, ClassReview.likes)를 원본 테이블(ClassReview, Likes)과 대조해 어긋난 행만 고친다.
+ * id 구간을 chunk-size 단위로 나눠 병렬로 처리하고, 구간마다 JDBC 커서로 읽으며 불일치 행만 모으므로
+ * 데이터 크기와 무관하게 메모리 사용량은 (동시 구간 수 x 구간 크기) 로 제한된다.
+ * MySQL Connector/J 는 URL 에 useCursorFetch=true 가 있어야 fetch-size 대로 나눠 받고, 없으면 구간 결과를 한 번에 받으므로 상한은 구간 크기로 정해진다.
+ * 수리는 구간마다 batch UPDATE 한 번이며, 읽은 뒤 값이 바뀐 행은 WHERE 조건으로 걸러 동시에 들어온 쓰기를 덮어쓰지 않는다.
+ */
+@Service
+@Slf4j
+public class CounterReconciler {
+
+    public static final int SAMPLE_SIZE = 100;
+
+    private static final String LECTURE_BOUNDS_SQL = "SELECT MIN(lectureId), MAX(lectureId) FROM Lectures";
+
+    private static final String REVIEW_BOUNDS_SQL = "SELECT MIN(reviewId), MAX(reviewId) FROM ClassReview";
+
+    /**
+     * 별점 구간과 0.1점 단위 환산은 StarRating.bucketOf, StarRating.toTenths 와 같게 FLOOR(x + 0.5) 로 계산한다.
+     */
+    private static final String RATING_CHUNK_SQL =
+            "SELECT l.lectureId, l.review_count, l.total_star_tenths, l.average_star_rating, " +
+            "l.rating_count_1, l.rating_count_2, l.rating_count_3, l.rating_count_4, l.rating_count_5, " +
+            "COUNT(r.reviewId) AS actual_count, " +
+            "COALESCE(SUM(FLOOR(r.starLating * 10 + 0.5)), 0) AS actual_tenths, " +
+            "COALESCE(SUM(CASE WHEN FLOOR(r.starLating + 0.5) <= 1 THEN 1 ELSE 0 END), 0) AS actual_1, " +
+            "COALESCE(SUM(CASE WHEN FLOOR(r.starLating + 0.5) = 2 THEN 1 ELSE 0 END), 0) AS actual_2, " +
+            "COALESCE(SUM(CASE WHEN FLOOR(r.starLating + 0.5) = 3 THEN 1 ELSE 0 END), 0) AS actual_3, " +
+            "COALESCE(SUM(CASE WHEN FLOOR(r.starLating + 0.5) = 4 THEN 1 ELSE 0 END), 0) AS actual_4, " +
+            "COALESCE(SUM(CASE WHEN FLOOR(r.starLating + 0.5) >= 5 THEN 1 ELSE 0 END), 0) AS actual_5 " +
+            "FROM Lectures l LEFT JOIN ClassReview r ON r.lecId = l.lectureId " +
+            "WHERE l.lectureId >= ? AND l.lectureId < ? " +
+            "GROUP BY l.lectureId, l.review_count, l.total_star_tenths, l.average_star_rating, " +
+            "l.rating_count_1, l.rating_count_2, l.rating_count_3, l.rating_count_4, l.rating_count_5";
+
+    private static final String RATING_REPAIR_SQL =
+            "UPDATE Lectures SET average_star_rating = ?, weighted_rating = ?, total_star_rating = ?, total_star_tenths = ?, review_count = ?, " +
+            "rating_count_1 = ?, rating_count_2 = ?, rating_count_3 = ?, rating_count_4 = ?, rating_count_5 = ? " +
+            "WHERE lectureId = ? AND COALESCE(review_count, -1) = ? AND COALESCE(total_star_tenths, -1) = ?";
+
+    private static final String LIKE_CHUNK_SQL =
+            "SELECT r.reviewId, r.likes, COUNT(k.likeId) AS actual_likes " +
+            "FROM ClassReview r LEFT JOIN Likes k ON k.reviewId = r.reviewId " +
+            "WHERE r.reviewId >= ? AND r.reviewId < ? " +
+            "GROUP BY r.reviewId, r.likes";
+
+    /**
+     * 엔티티를 들고 있는 다른 요청이 낙관적 락으로 충돌을 알아챌 수 있도록 version 도 올린다.
+     */
+    private static final String LIKE_REPAIR_SQL =
+            "UPDATE ClassReview SET likes = ?, version = COALESCE(version, 0) + 1 WHERE reviewId = ? AND likes = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LectureRatingPriors lectureRatingPriors;
+    private final LectureRatingBuffer lectureRatingBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewViewCache reviewViewCache;
+    private final int chunkSize;
+    private final int fetchSize;
+    private final ThreadPoolExecutor executor;
+
+    public CounterReconciler(JdbcTemplate jdbcTemplate,
+                             LectureRatingPriors lectureRatingPriors,
+                             LectureRatingBuffer lectureRatingBuffer,
+                             ApplicationEventPublisher eventPublisher,
+                             ReviewViewCache reviewViewCache,
+                             @Value("${reconciliation.chunk-size:1000}") int chunkSize,
+                             @Value("${reconciliation.fetch-size:500}") int fetchSize,
+                             @Value("${reconciliation.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lectureRatingPriors = lectureRatingPriors;
+        this.lectureRatingBuffer = lectureRatingBuffer;
+        this.eventPublisher = eventPublisher;
+        this.reviewViewCache = reviewViewCache;
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "counter-reconciler-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 강의별 후기 수, 별점 합, 평균 별점, 별점 분포를 ClassReview 와 대조한다.
+     * 쓰기 지연이 켜져 있으면 수리하지 않는다. 반영 작업이 꺼내 간 뒤 아직 UPDATE 하지 않은 변화량이나
+     * 커밋은 됐지만 아직 버퍼에 들어가지 않은 변화량은 ClassReview 집계에는 이미 들어 있으므로,
+     * 집계값으로 덮어쓰면 나중에 반영될 변화량이 한 번 더 더해진다.
+     *
+     * @param repair false 면 불일치만 보고한다
+     * @throws RepairNotAllowedException 쓰기 지연이 켜진 상태에서 수리를 요청한 경우
+     */
+    public ReconciliationReport reconcileRatings(boolean repair) {
+        if (repair && lectureRatingBuffer.isEnabled()) {
+            throw new RepairNotAllowedException("별점 쓰기 지연이 켜져 있어 별점을 수리할 수 없습니다. 쓰기 지연을 끄고 다시 시도해주세요.");
+        }
+        return run("ratings", LECTURE_BOUNDS_SQL, repair, this::reconcileRatingChunk);
+    }
+
+    /**
+     * 수강후기별 좋아요 수를 Likes 와 대조한다.
+     *
+     * @param repair false 면 불일치만 보고한다
+     */
+    public ReconciliationReport reconcileLikes(boolean repair) {
+        ReconciliationReport report = run("likes", REVIEW_BOUNDS_SQL, repair, this::reconcileLikeChunk);
+        if (report.getRepaired() > 0) {
+            // 좋아요 순 정렬이 바뀌었을 수 있으므로 메모리의 후기 정렬 순서를 모두 다시 적재하게 한다.
+            reviewViewCache.clear();
+        }
+        return report;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ReconciliationReport run(String target, String boundsSql, boolean repair, ChunkTask task) {
+        long started = System.currentTimeMillis();
+        Tally tally = new Tally();
+
+        long[] bounds = jdbcTemplate.queryForObject(boundsSql, (rs, rowNum) ->
+                rs.getObject(1) == null ? null : new long[]{rs.getLong(1), rs.getLong(2)});
+        if (bounds != null) {
+            ExecutorCompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            int running = 0;
+            for (long from = bounds[0]; from <= bounds[1]; from += chunkSize) {
+                long start = from;
+                completion.submit(() -> {
+                    task.reconcile(start, start + chunkSize, repair, tally);
+                    return null;
+                });
+                running++;
+                Future<Void> done;
+                while ((done = completion.poll()) != null) {
+                    running--;
+                    await(target, done, tally);
+                }
+            }
+            for (; running > 0; running--) {
+                await(target, take(completion), tally);
+            }
+        }
+
+        ReconciliationReport report = tally.toReport(target, !repair, System.currentTimeMillis() - started);
+        log.info("카운터 점검 완료. target: {}, dryRun: {}, scanned: {}, mismatched: {}, repaired: {}, skipped: {}, failedChunks: {}",
+                target, !repair, report.getScanned(), report.getMismatched(), report.getRepaired(), report.getSkipped(), report.getFailedChunks());
+        return report;
+    }
+
+    private void reconcileRatingChunk(long from, long to, boolean repair, Tally tally) {
+        List<RatingRow> mismatched = new ArrayList<>();
+        stream(RATING_CHUNK_SQL, from, to, rs -> {
+            tally.scanned.incrementAndGet();
+            RatingRow row = RatingRow.from(rs);
+            if (!row.isConsistent()) {
+                mismatched.add(row);
+            }
+        });
+        tally.mismatched(mismatched.stream().map(RatingRow::getLectureId).toList());
+        if (!repair || mismatched.isEmpty()) {
+            return;
+        }
+
+        int[] updated = batchUpdate(RATING_REPAIR_SQL, mismatched, (statement, row) -> {
+            RatingPrior prior = lectureRatingPriors.forLecture(row.getLectureId());
+            double totalRating = row.actualTenths / 10.0;
+            statement.setDouble(1, StarRating.averageOf(row.actualTenths, row.actualCount));
+            statement.setDouble(2, (prior.getWeight() * prior.getMean() + totalRating) / (prior.getWeight() + row.actualCount));
+            statement.setDouble(3, totalRating);
+            statement.setLong(4, row.actualTenths);
+            statement.setLong(5, row.actualCount);
+            for (int i = 0; i < 5; i++) {
+                statement.setLong(6 + i, row.actualHistogram[i]);
+            }
+            statement.setLong(11, row.getLectureId());
+            statement.setLong(12, row.storedCount == null ? -1L : row.storedCount);
+            statement.setLong(13, row.storedTenths == null ? -1L : row.storedTenths);
+        });
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 0) {
+                tally.repaired.incrementAndGet();
+                eventPublisher.publishEvent(new LectureRatingChangedEvent(mismatched.get(i).getLectureId()));
+            }
+        }
+    }
+
+    private void reconcileLikeChunk(long from, long to, boolean repair, Tally tally) {
+        List<LikeRow> mismatched = new ArrayList<>();
+        stream(LIKE_CHUNK_SQL, from, to, rs -> {
+            tally.scanned.incrementAndGet();
+            LikeRow row = new LikeRow(rs.getLong("reviewId"), rs.getInt("likes"), rs.getLong("actual_likes"));
+            if (row.storedLikes != row.actualLikes) {
+                mismatched.add(row);
+            }
+        });
+        tally.mismatched(mismatched.stream().map(row -> row.reviewId).toList());
+        if (!repair || mismatched.isEmpty()) {
+            return;
+        }
+
+        int[] updated = batchUpdate(LIKE_REPAIR_SQL, mismatched, (statement, row) -> {
+            statement.setLong(1, row.actualLikes);
+            statement.setLong(2, row.reviewId);
+            statement.setInt(3, row.storedLikes);
+        });
+        for (int result : updated) {
+            if (result != 0) {
+                tally.repaired.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 구간 하나를 전진 전용 커서로 읽는다. 행은 바로 처리하고 쌓아 두지 않는다.
+     * useCursorFetch=true 인 MySQL 연결에서는 fetch-size 만큼씩 서버 커서로 받고, 아니면 드라이버가 구간 결과 전체(최대 chunk-size 행)를 먼저 받는다.
+     */
+    private void stream(String sql, long from, long to, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, from);
+            statement.setLong(2, to);
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * @return rows 순서대로의 행별 업데이트 결과. 드라이버가 행 수를 알려주지 않으면 0 이 아닌 값이다.
+     */
+    private <T> int[] batchUpdate(String sql, List<T> rows, StatementBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        int[][] results = jdbcTemplate.batchUpdate(sql, rows, rows.size(), binder::bind);
+        return results.length == 0 ? new int[0] : results[0];
+    }
+
+    private void await(String target, Future<Void> done, Tally tally) {
+        try {
+            done.get();
+        } catch (ExecutionException e) {
+            tally.failedChunks.incrementAndGet();
+            log.warn("카운터 점검 구간 실패. target: {}", target, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("카운터 점검이 중단되었습니다.", e);
+        }
+    }
+
+    private Future<Void> take(ExecutorCompletionService<Void> completion) {
+        try {
+            return completion.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("카운터 점검이 중단되었습니다.", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void reconcile(long from, long to, boolean repair, Tally tally);
+    }
+
+    @FunctionalInterface
+    private interface StatementBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    private static final class Tally {
+
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong mismatched = new AtomicLong();
+        private final AtomicLong repaired = new AtomicLong();
+        private final AtomicInteger failedChunks = new AtomicInteger();
+        private final List<Long> sampleIds = Collections.synchronizedList(new ArrayList<>());
+
+        private void mismatched(List<Long> ids) {
+            mismatched.addAndGet(ids.size());
+            synchronized (sampleIds) {
+                for (Long id : ids) {
+                    if (sampleIds.size() >= SAMPLE_SIZE) {
+                        return;
+                    }
+                    sampleIds.add(id);
+                }
+            }
+        }
+
+        private ReconciliationReport toReport(String target, boolean dryRun, long elapsedMillis) {
+            List<Long> samples;
+            synchronized (sampleIds) {
+                samples = new ArrayList<>(sampleIds);
+            }
+            Collections.sort(samples);
+            long skipped = dryRun ? 0L : mismatched.get() - repaired.get();
+            return new ReconciliationReport(target, dryRun, scanned.get(), mismatched.get(), repaired.get(), skipped,
+                    failedChunks.get(), List.copyOf(samples), elapsedMillis);
+        }
+    }
+
+    private static final class RatingRow {
+
+        private final Long lectureId;
+        private final Long storedCount;
+        private final Long storedTenths;
+        private final Double storedAverage;
+        private final Long[] storedHistogram;
+        private final long actualCount;
+        private final long actualTenths;
+        private final long[] actualHistogram;
+
+        private RatingRow(Long lectureId, Long storedCount, Long storedTenths, Double storedAverage, Long[] storedHistogram,
+                          long actualCount, long actualTenths, long[] actualHistogram) {
+            this.lectureId = lectureId;
+            this.storedCount = storedCount;
+            this.storedTenths = storedTenths;
+            this.storedAverage = storedAverage;
+            this.storedHistogram = storedHistogram;
+            this.actualCount = actualCount;
+            this.actualTenths = actualTenths;
+            this.actualHistogram = actualHistogram;
+        }
+
+        private static RatingRow from(ResultSet rs) throws SQLException {
+            Long[] storedHistogram = new Long[5];
+            long[] actualHistogram = new long[5];
+            for (int i = 0; i < 5; i++) {
+                storedHistogram[i] = rs.getObject("rating_count_" + (i + 1), Long.class);
+                actualHistogram[i] = rs.getLong("actual_" + (i + 1));
+            }
+            return new RatingRow(rs.getLong("lectureId"), rs.getObject("review_count", Long.class),
+                    rs.getObject("total_star_tenths", Long.class), rs.getObject("average_star_rating", Double.class),
+                    storedHistogram, rs.getLong("actual_count"), rs.getLong("actual_tenths"), actualHistogram);
+        }
+
+        private Long getLectureId() {
+            return lectureId;
+        }
+
+        private boolean isConsistent() {
+            return Objects.equals(storedCount, actualCount)
+                    && Objects.equals(storedTenths, actualTenths)
+                    && Objects.equals(storedAverage, StarRating.averageOf(actualTenths, actualCount))
+                    && Arrays.equals(storedHistogram, Arrays.stream(actualHistogram).boxed().toArray(Long[]::new));
+        }
+    }
+
+    private static final class LikeRow {
+
+        private final long reviewId;
+        private final int storedLikes;
+        private final long actualLikes;
+
+        private LikeRow(long reviewId, int storedLikes, long actualLikes) {
+            this.reviewId = reviewId;
+            this.storedLikes = storedLikes;
+            this.actualLikes = actualLikes;
+        }
+    }
+}
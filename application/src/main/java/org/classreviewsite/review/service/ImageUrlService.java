@@ -1,21 +1,156 @@
 package org.classreviewsite.review.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.classreviewsite.domain.lecture.ImageUrl;
 import org.classreviewsite.domain.lecture.ImageUrlDataRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
 /**
- * @see 현재 문제점.
- * ImageUrl이 사용되지 않고있다. 삭제권장.
+ * ImageUrl 테이블의 인메모리 레지스트리.
+ * 이미지 주소는 배포 사이에 거의 바뀌지 않으므로 기동 시 한 번 읽어 불변 스냅샷으로 들고 있고, 요청마다 DB 를 조회하지 않는다.
+ * 테이블을 수정한 뒤에는 관리자 API 로 reload 를 호출해 스냅샷을 교체한다.
+ * 버전은 이미지 목록 내용의 해시라, 재기동하거나 인스턴스가 여러 대여도 내용이 같으면 같은 ETag 가 나간다.
  */
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class ImageUrlService {
 
+    /**
+     * 강의 상세 화면에 쓰는 교수 이미지.
+     */
+    public static final Long PROFESSOR_IMAGE_ID = 1L;
+
     private final ImageUrlDataRepository imageUrlDataRepository;
 
+    private volatile Assets assets;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("이미지 레지스트리 사전 로딩 실패, 첫 조회 시 로딩합니다.", e);
+        }
+    }
+
+    /**
+     * ImageUrl 테이블을 다시 읽어 스냅샷을 교체한다.
+     * @return 읽은 이미지 수
+     */
+    public synchronized int reload() {
+        Assets loaded = Assets.of(imageUrlDataRepository.findAll());
+        assets = loaded;
+        log.info("이미지 레지스트리 로딩 완료. size: {}, version: {}", loaded.imageById.size(), loaded.version);
+        return loaded.imageById.size();
+    }
+
     public ImageUrl findById(Long id){
-        return imageUrlDataRepository.findById(id).get();
+        Map<Long, ImageUrl> imageById = assets().imageById;
+        ImageUrl image = id == null ? null : imageById.get(id);
+        if (image == null) {
+            throw new NoSuchElementException("존재하지 않는 이미지입니다.");
+        }
+        return image;
+    }
+
+    /**
+     * @return 이름이 imageNames 중 하나인 이미지 주소 (imageNumber 오름차순)
+     */
+    public List<String> findUrlsByName(String... imageNames){
+        Map<String, List<String>> urlsByName = assets().urlsByName;
+        List<String> urls = new ArrayList<>();
+        for (String imageName : imageNames) {
+            urls.addAll(urlsByName.getOrDefault(imageName, List.of()));
+        }
+        return urls;
+    }
+
+    /**
+     * @return 이미지 이름별 주소 목록 (수정 불가)
+     */
+    public Map<String, List<String>> manifest(){
+        return assets().urlsByName;
+    }
+
+    /**
+     * @return 이미지 목록 내용의 해시 (16자리 16진수)
+     */
+    public String version(){
+        return assets().version;
+    }
+
+    private Assets assets() {
+        Assets current = assets;
+        if (current == null) {
+            synchronized (this) {
+                if (assets == null) {
+                    reload();
+                }
+                current = assets;
+            }
+        }
+        return current;
+    }
+
+    private static final class Assets {
+
+        private final Map<Long, ImageUrl> imageById;
+        private final Map<String, List<String>> urlsByName;
+        private final String version;
+
+        private Assets(Map<Long, ImageUrl> imageById, Map<String, List<String>> urlsByName, String version) {
+            this.imageById = imageById;
+            this.urlsByName = urlsByName;
+            this.version = version;
+        }
+
+        private static Assets of(List<ImageUrl> images) {
+            Map<Long, ImageUrl> imageById = new LinkedHashMap<>();
+            Map<String, List<String>> urlsByName = new LinkedHashMap<>();
+            images.stream()
+                    .sorted(Comparator.comparing(ImageUrl::getImageNumber))
+                    .forEach(image -> {
+                        imageById.put(image.getImageNumber(), image);
+                        if (image.getImageName() != null && image.getImageUrl() != null) {
+                            urlsByName.computeIfAbsent(image.getImageName(), name -> new ArrayList<>()).add(image.getImageUrl());
+                        }
+                    });
+
+            Map<String, List<String>> frozen = new LinkedHashMap<>();
+            urlsByName.forEach((name, urls) -> frozen.put(name, List.copyOf(urls)));
+            return new Assets(Map.copyOf(imageById), Collections.unmodifiableMap(frozen), hash(imageById.values()));
+        }
+
+        /**
+         * imageNumber 순으로 번호, 이름, 주소를 이어 SHA-256 을 구하고 앞 8바이트만 쓴다.
+         */
+        private static String hash(Iterable<ImageUrl> images) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (ImageUrl image : images) {
+                    String line = image.getImageNumber() + "\t" + image.getImageName() + "\t" + image.getImageUrl() + "\n";
+                    digest.update(line.getBytes(StandardCharsets.UTF_8));
+                }
+                return HexFormat.of().formatHex(digest.digest(), 0, 8);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
     }
 }
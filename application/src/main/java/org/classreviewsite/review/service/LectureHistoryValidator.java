@@ -1,14 +1,17 @@
 package org.classreviewsite.review.service;
 
 import lombok.RequiredArgsConstructor;
-import org.classreviewsite.domain.lecture.Enrollment;
-import org.classreviewsite.domain.lecture.Lecture;
-import org.classreviewsite.domain.user.User;
+import org.classreviewsite.domain.lecture.EnrollmentCheck;
+import org.classreviewsite.handler.exception.AlreadyWritePostException;
 import org.classreviewsite.handler.exception.NoPermissionReviewException;
 import org.classreviewsite.lecture.service.EnrollmentDataService;
 import org.classreviewsite.review.vo.LectureHistoryResponse;
 import org.springframework.stereotype.Service;
 
+/**
+ * 수강후기 작성 전 검사. 수강 내역 확인, 강의 id 조회, 같은 강의에 이미 쓴 후기 확인을 한 번의 조인 쿼리로 끝낸다.
+ * Lecture, User 엔티티는 읽지 않으며, 저장할 때는 돌려준 id 로 참조만 만든다.
+ */
 @Service
 @RequiredArgsConstructor
 public class LectureHistoryValidator {
@@ -16,17 +19,14 @@ public class LectureHistoryValidator {
     private final EnrollmentDataService lectureHistoryService;
 
     public LectureHistoryResponse validate(int userNumber, String lectureName) {
-        Enrollment reviewHistory = lectureHistoryService.findByUserNumber(userNumber, lectureName)
+        EnrollmentCheck check = lectureHistoryService.findWriteCheck(userNumber, lectureName)
                 .orElseThrow(
                         () -> new NoPermissionReviewException("내역이 존재하지 않습니다.")
                 );
+        if (check.isWritten()) {
+            throw new AlreadyWritePostException("이미 작성한 강의입니다.");
+        }
 
-        /**
-         * 조금 더 내부 로직으로 못넣나? Enrollment 에서 쪼개서 전달해주는게 맞나?
-         */
-        Lecture lecture = reviewHistory.getLecture();
-        User student = reviewHistory.getUserNumber();
-
-        return LectureHistoryResponse.of(lecture, student);
+        return LectureHistoryResponse.of(check.getLectureId(), check.getUserNumber());
     }
 }
@@ -8,6 +8,8 @@ import org.classreviewsite.domain.user.User;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class LikeHistoryManager {
@@ -31,6 +33,11 @@ public class LikeHistoryManager {
         likesDataRepository.deleteByClassReviewAndUser(classReview, user);
     }
 
+    @Transactional(readOnly = true)
+    public List<Long> findLikedReviewIds(int userNumber, Long lectureId){
+        return likesDataRepository.findLikedReviewIds(userNumber, lectureId);
+    }
+
     @Transactional
     public void deleteAllByClassReview(ClassReview classReview){
         if (classReview == null) {
@@ -0,0 +1,266 @@
+package org.classreviewsite.review.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.lecture.EnrollmentDataRepository;
+import org.classreviewsite.domain.lecture.EnrollmentKey;
+import org.classreviewsite.domain.lecture.Lecture;
+import org.classreviewsite.domain.lecture.LectureDataRepository;
+import org.classreviewsite.domain.review.ClassReview;
+import org.classreviewsite.domain.review.ClassReviewDataRepository;
+import org.classreviewsite.handler.exception.UpdateFailedException;
+import org.classreviewsite.lecture.service.LectureRatingService;
+import org.classreviewsite.review.controller.data.Request.ClassReviewRequest;
+import org.classreviewsite.review.controller.data.Response.BulkReviewResponse;
+import org.classreviewsite.util.EntityIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 수강후기 일괄 등록. 설문 결과 이관처럼 후기가 한꺼번에 들어올 때 POST /review 를 후기마다 부르면 후기당 쿼리가 다섯 번 남짓 나가므로,
+ * 강의 조회, 수강 내역 확인, 작성 내역 확인은 요청 전체에 대해 IN 쿼리 한 번씩으로 끝내고, 통과한 후기는 chunk-size 개씩 JDBC batch INSERT 한다.
+ * 별점은 chunk 안에서 강의별로 합쳐 LectureRatingService.addRatings 로 강의당 UPDATE 한 번에 반영한다.
+ * chunk 마다 별도 트랜잭션이며, chunk 가 실패하면(동시에 들어온 단건 작성과의 유니크 키 충돌 등) 그 chunk 만 한 건씩 다시 넣어 실패한 후기만 결과에 남긴다.
+ */
+@Service
+@Slf4j
+public class ReviewBulkWriter {
+
+    /**
+     * reviewId 는 JPA 저장과 같은 생성기(EntityIdGenerator)에서 받는다.
+     * createDate 는 BaseTimeEntity.prePersist 를 거치지 않으므로 직접 넣고, version 은 JPA 로 저장했을 때와 같이 0 부터 시작한다.
+     */
+    private static final String INSERT_SQL =
+            "INSERT INTO ClassReview (reviewId, createDate, lecId, postTitle, starLating, userNumber, postContent, likes, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0)";
+
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityIdGenerator entityIdGenerator;
+    private final LectureDataRepository lectureDataRepository;
+    private final EnrollmentDataRepository enrollmentDataRepository;
+    private final ClassReviewDataRepository classReviewDataRepository;
+    private final LectureRatingService lectureRatingService;
+    private final ReviewViewCache reviewViewCache;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public ReviewBulkWriter(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            EntityIdGenerator entityIdGenerator,
+                            LectureDataRepository lectureDataRepository,
+                            EnrollmentDataRepository enrollmentDataRepository,
+                            ClassReviewDataRepository classReviewDataRepository,
+                            LectureRatingService lectureRatingService,
+                            ReviewViewCache reviewViewCache,
+                            @Value("${review.bulk.chunk-size:500}") int chunkSize,
+                            @Value("${review.bulk.max-rows:5000}") int maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.entityIdGenerator = entityIdGenerator;
+        this.lectureDataRepository = lectureDataRepository;
+        this.enrollmentDataRepository = enrollmentDataRepository;
+        this.classReviewDataRepository = classReviewDataRepository;
+        this.lectureRatingService = lectureRatingService;
+        this.reviewViewCache = reviewViewCache;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    public BulkReviewResponse write(List<ClassReviewRequest> reviews) {
+        if (reviews == null || reviews.isEmpty()) {
+            throw new IllegalArgumentException("등록할 수강후기가 없습니다.");
+        }
+        if (reviews.size() > maxRows) {
+            throw new IllegalArgumentException("수강후기는 한 번에 " + maxRows + "개까지 등록할 수 있습니다.");
+        }
+
+        List<BulkReviewResponse.Failure> failures = new ArrayList<>();
+        List<Row> rows = validate(reviews, failures);
+        LocalDateTime writtenAt = LocalDateTime.now();
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            inserted += insert(rows.subList(from, Math.min(from + chunkSize, rows.size())), writtenAt, failures);
+        }
+
+        failures.sort(Comparator.comparingInt(BulkReviewResponse.Failure::getIndex));
+        log.info("수강후기 일괄 등록 requested: {}, inserted: {}, failed: {}", reviews.size(), inserted, failures.size());
+        return new BulkReviewResponse(reviews.size(), inserted, failures);
+    }
+
+    /**
+     * 단건 작성의 LectureHistoryValidator 와 같은 검사(수강 내역, 작성 내역)를 요청 전체에 대해 한 번에 한다.
+     * 학번 목록 x 강의 id 목록 조합으로 읽은 뒤 실제 (학번, 강의) 쌍만 골라 쓴다.
+     */
+    private List<Row> validate(List<ClassReviewRequest> reviews, List<BulkReviewResponse.Failure> failures) {
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> lectureNames = new HashSet<>();
+        for (int i = 0; i < reviews.size(); i++) {
+            ClassReviewRequest review = reviews.get(i);
+            String problem = checkFields(review);
+            if (problem != null) {
+                failures.add(failure(i, review, problem));
+                continue;
+            }
+            candidates.add(i);
+            lectureNames.add(review.getLectureName());
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> lectureIds = new HashMap<>();
+        Set<String> ambiguousNames = new HashSet<>();
+        for (Lecture lecture : lectureDataRepository.findByLectureNameIn(lectureNames)) {
+            if (lectureIds.putIfAbsent(lecture.getLectureName(), lecture.getLectureId()) != null) {
+                ambiguousNames.add(lecture.getLectureName());
+            }
+        }
+
+        Set<Integer> userNumbers = new HashSet<>();
+        for (int i : candidates) {
+            userNumbers.add(reviews.get(i).getUserNumber());
+        }
+        Set<EnrollmentKey> enrolled = new HashSet<>();
+        Set<EnrollmentKey> written = new HashSet<>();
+        if (!lectureIds.isEmpty()) {
+            enrolled.addAll(enrollmentDataRepository.findKeysByUserNumbersAndLectureIds(userNumbers, lectureIds.values()));
+            written.addAll(classReviewDataRepository.findWrittenKeys(userNumbers, lectureIds.values()));
+        }
+
+        List<Row> rows = new ArrayList<>();
+        Set<EnrollmentKey> accepted = new HashSet<>();
+        for (int i : candidates) {
+            ClassReviewRequest review = reviews.get(i);
+            Long lectureId = lectureIds.get(review.getLectureName());
+            if (lectureId == null) {
+                failures.add(failure(i, review, "강의가 존재하지 않습니다."));
+                continue;
+            }
+            if (ambiguousNames.contains(review.getLectureName())) {
+                failures.add(failure(i, review, "같은 이름의 강의가 여러 개라 강의를 특정할 수 없습니다."));
+                continue;
+            }
+            EnrollmentKey key = new EnrollmentKey(review.getUserNumber(), lectureId);
+            if (!enrolled.contains(key)) {
+                failures.add(failure(i, review, "수강 내역이 존재하지 않습니다."));
+            } else if (written.contains(key)) {
+                failures.add(failure(i, review, "이미 작성한 강의입니다."));
+            } else if (!accepted.add(key)) {
+                failures.add(failure(i, review, "같은 요청에 같은 강의의 후기가 중복되어 있습니다."));
+            } else {
+                rows.add(new Row(i, lectureId, review));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * ClassReview 의 NOT NULL, VARCHAR(255) 제약을 미리 확인해 batch 가 형식 오류로 깨지지 않게 한다.
+     */
+    private static String checkFields(ClassReviewRequest review) {
+        if (review == null || review.getLectureName() == null || review.getUserNumber() == null || review.getStarLating() == null
+                || review.getPostTitle() == null || review.getPostContent() == null) {
+            return "필수 항목이 비어 있습니다.";
+        }
+        if (review.getStarLating() < 0.0 || review.getStarLating() > 5.0) {
+            return "별점은 0점 이상 5점 이하여야 합니다.";
+        }
+        if (review.getPostTitle().length() > MAX_TEXT_LENGTH || review.getPostContent().length() > MAX_TEXT_LENGTH) {
+            return "제목과 본문은 " + MAX_TEXT_LENGTH + "자 이하여야 합니다.";
+        }
+        return null;
+    }
+
+    /**
+     * @return 등록한 후기 수
+     */
+    private int insert(List<Row> chunk, LocalDateTime writtenAt, List<BulkReviewResponse.Failure> failures) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertChunk(chunk, writtenAt));
+            return chunk.size();
+        } catch (DataAccessException | UpdateFailedException e) {
+            if (chunk.size() == 1) {
+                Row row = chunk.get(0);
+                log.warn("수강후기 일괄 등록 실패. index: {}, cause: {}", row.index, e.getMessage());
+                failures.add(failure(row.index, row.review, e instanceof DuplicateKeyException ? "이미 작성한 강의입니다." : "수강후기 저장에 실패했습니다."));
+                return 0;
+            }
+            log.warn("수강후기 일괄 등록 chunk 가 실패해 한 건씩 다시 등록합니다. size: {}, cause: {}", chunk.size(), e.getMessage());
+            int inserted = 0;
+            for (Row row : chunk) {
+                inserted += insert(List.of(row), writtenAt, failures);
+            }
+            return inserted;
+        }
+    }
+
+    /**
+     * 강의 별점은 lectureId 순서로 갱신해, 여러 일괄 등록이 동시에 돌아도 Lectures 행 잠금 순서가 엇갈리지 않게 한다.
+     */
+    private void insertChunk(List<Row> chunk, LocalDateTime writtenAt) {
+        long[] reviewIds = entityIdGenerator.next(ClassReview.class, chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).reviewId = reviewIds[i];
+        }
+        Timestamp createDate = Timestamp.valueOf(writtenAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, row) -> {
+            ps.setLong(1, row.reviewId);
+            ps.setTimestamp(2, createDate);
+            ps.setLong(3, row.lectureId);
+            ps.setString(4, row.review.getPostTitle());
+            ps.setDouble(5, row.review.getStarLating());
+            ps.setInt(6, row.review.getUserNumber());
+            ps.setString(7, row.review.getPostContent());
+        });
+
+        Map<Long, List<Double>> ratings = new TreeMap<>();
+        for (Row row : chunk) {
+            ratings.computeIfAbsent(row.lectureId, lectureId -> new ArrayList<>()).add(row.review.getStarLating());
+        }
+        ratings.forEach((lectureId, lectureRatings) -> {
+            lectureRatingService.addRatings(lectureId, lectureRatings, writtenAt);
+            reviewViewCache.lectureChanged(lectureId);
+        });
+    }
+
+    private static BulkReviewResponse.Failure failure(int index, ClassReviewRequest review, String message) {
+        return review == null
+                ? new BulkReviewResponse.Failure(index, null, null, message)
+                : new BulkReviewResponse.Failure(index, review.getLectureName(), review.getUserNumber(), message);
+    }
+
+    private static final class Row {
+
+        private final int index;
+        private final Long lectureId;
+        private final ClassReviewRequest review;
+
+        /**
+         * 넣을 때마다 새로 받는다. 실패한 chunk 에서 받은 id 는 버린다.
+         */
+        private long reviewId;
+
+        private Row(int index, Long lectureId, ClassReviewRequest review) {
+            this.index = index;
+            this.lectureId = lectureId;
+            this.review = review;
+        }
+    }
+}
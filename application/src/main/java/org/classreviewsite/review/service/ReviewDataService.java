@@ -5,11 +5,17 @@ import org.classreviewsite.domain.review.ClassReviewDataRepository;
 import org.classreviewsite.handler.exception.ReviewNotFoundException;
 import org.classreviewsite.domain.lecture.Lecture;
 import org.classreviewsite.domain.review.ClassReview;
+import org.classreviewsite.domain.review.ReviewSummary;
+import org.classreviewsite.domain.review.UserReviewSummary;
 import org.classreviewsite.domain.user.User;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -18,12 +24,6 @@ public class ReviewDataService {
 
     private final ClassReviewDataRepository classReviewDataRepository;
 
-    public List<ClassReview> getAll(Long lectureId) {
-        List<ClassReview> reviews = classReviewDataRepository.findAll(lectureId);
-        validateReviews(reviews);
-        return reviews;
-    }
-
     @Transactional(readOnly = true)
     public ClassReview getReviewById(Long reviewId) {
         return classReviewDataRepository.findById(reviewId).orElseThrow(() -> new ReviewNotFoundException("해당 수강후기가 존재하지 않습니다."));
@@ -49,11 +49,51 @@ public class ReviewDataService {
         return reviews;
     }
 
+    /**
+     * 정렬 기준별 키셋 페이지. 다음 페이지 존재 여부를 판단하기 위해 size + 1 개를 읽는다.
+     *
+     * @param cursor 이전 페이지의 ReviewSort.cursorOf 값. 첫 페이지는 null
+     */
+    @Transactional(readOnly = true)
+    public List<ReviewSummary> getSummaryPage(Long lectureId, ReviewSort sort, String cursor, int size) {
+        return sort.find(classReviewDataRepository, lectureId, cursor, PageRequest.of(0, size + 1));
+    }
+
+    /**
+     * id 묶음을 한 번에 읽어 주어진 id 순서대로 돌려준다. 그사이 삭제된 후기는 빠진다.
+     */
+    @Transactional(readOnly = true)
+    public List<ReviewSummary> getSummariesInOrder(long[] reviewIds) {
+        List<Long> ids = new ArrayList<>(reviewIds.length);
+        for (long reviewId : reviewIds) {
+            ids.add(reviewId);
+        }
+        Map<Long, ReviewSummary> byId = new HashMap<>();
+        for (ReviewSummary review : classReviewDataRepository.findSummariesByReviewIds(ids)) {
+            byId.put(review.getReviewId(), review);
+        }
+        List<ReviewSummary> ordered = new ArrayList<>(reviewIds.length);
+        for (Long reviewId : ids) {
+            ReviewSummary review = byId.get(reviewId);
+            if (review != null) {
+                ordered.add(review);
+            }
+        }
+        return ordered;
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserReviewSummary> getSummariesByUserNumber(final int userNumber) {
+        List<UserReviewSummary> reviews = classReviewDataRepository.findSummariesByUserNumber(userNumber);
+        validateReviews(reviews);
+        return reviews;
+    }
+
     public Optional<ClassReview> getReviewByUserNumberAndLectureId(User user, Lecture lecture) {
         return classReviewDataRepository.findByUserNumberAndLecId(user, lecture);
     }
 
-    private void validateReviews(List<ClassReview> reviews) {
+    private void validateReviews(List<?> reviews) {
         if(reviews.isEmpty()) {
             throw new ReviewNotFoundException("수강 후기가 어디에도 없습니다.");
         }
@@ -2,6 +2,7 @@ package org.classreviewsite.review.service;
 
 import org.classreviewsite.domain.review.ClassReview;
 import org.classreviewsite.domain.user.User;
+import org.classreviewsite.lecture.service.LectureRatingService;
 import org.classreviewsite.review.controller.data.Request.DeleteReviewRequest;
 import org.classreviewsite.user.service.UserService;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,11 +12,15 @@ public class ReviewDeletor {
     private final UserService userService;
     private final ReviewDataService reviewDataService;
     private final LikeStatusCheckor likeStatusCheckor;
+    private final LectureRatingService lectureRatingService;
+    private final ReviewViewCache reviewViewCache;
 
-    public ReviewDeletor(UserService userService, ReviewDataService reviewDataService, LikeStatusCheckor likeStatusCheckor) {
+    public ReviewDeletor(UserService userService, ReviewDataService reviewDataService, LikeStatusCheckor likeStatusCheckor, LectureRatingService lectureRatingService, ReviewViewCache reviewViewCache) {
         this.userService = userService;
         this.reviewDataService = reviewDataService;
         this.likeStatusCheckor = likeStatusCheckor;
+        this.lectureRatingService = lectureRatingService;
+        this.reviewViewCache = reviewViewCache;
     }
 
     @Transactional
@@ -27,8 +32,9 @@ public class ReviewDeletor {
         // TODO: LikeStatusCheckor.deleteAllByClassReview 메서드 구현 필요
         // likeStatusCheckor.deleteAllByClassReview(deletedClassReview);
 
-        deletedClassReview.getLecId().removeStarRating(deletedClassReview.getStarLating());
+        lectureRatingService.removeRating(deletedClassReview.getLecId().getLectureId(), deletedClassReview.getStarLating(), deletedClassReview.getCreatedDate());
 
         reviewDataService.deleteById(request.getPostId());
+        reviewViewCache.reviewRemoved(deletedClassReview.getLecId().getLectureId(), deletedClassReview.getReviewId());
     }
 }
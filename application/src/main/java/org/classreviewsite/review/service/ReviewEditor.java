@@ -1,7 +1,7 @@
 package org.classreviewsite.review.service;
 
-import org.classreviewsite.domain.lecture.Lecture;
 import org.classreviewsite.domain.review.ClassReview;
+import org.classreviewsite.lecture.service.LectureRatingService;
 import org.classreviewsite.review.controller.data.Request.UpdateReviewRequest;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,10 +9,14 @@ public class ReviewEditor {
 
     private final ReviewDataService reviewDataService;
     private final ReviewHistoryValidator reviewHistoryValidator;
+    private final LectureRatingService lectureRatingService;
+    private final ReviewViewCache reviewViewCache;
 
-    public ReviewEditor(ReviewDataService reviewDataService, ReviewHistoryValidator reviewHistoryValidator) {
+    public ReviewEditor(ReviewDataService reviewDataService, ReviewHistoryValidator reviewHistoryValidator, LectureRatingService lectureRatingService, ReviewViewCache reviewViewCache) {
         this.reviewDataService = reviewDataService;
         this.reviewHistoryValidator = reviewHistoryValidator;
+        this.lectureRatingService = lectureRatingService;
+        this.reviewViewCache = reviewViewCache;
     }
 
     @Transactional
@@ -23,11 +27,13 @@ public class ReviewEditor {
         // TODO: validateCheckReviewAccess 메서드 구현 필요
         // validateCheckReviewAccess(request.getUserNumber().intValue(), post.getUserNumber().getUserNumber());
 
+        // 수정 전 별점은 update 이전에 보관해야 한다.
+        Double previousStarLating = post.getStarLating();
         post.update(request.getPostTitle(), request.getPostContent(), request.getStarLating());
 
         // 별점 수정
-        Lecture lecture = post.getLecId();
-        lecture.updateStarRating(post.getStarLating(), request.getStarLating());
+        lectureRatingService.updateRating(post.getLecId().getLectureId(), previousStarLating, request.getStarLating(), post.getCreatedDate());
+        reviewViewCache.ratingChanged(post.getLecId().getLectureId(), post.getReviewId(), request.getStarLating());
 
         return post.getReviewId();
     }
@@ -1,110 +1,66 @@
 package org.classreviewsite.review.service;
 
-import org.classreviewsite.domain.lecture.Lecture;
-import org.classreviewsite.domain.review.ClassReview;
+import org.classreviewsite.domain.review.ReviewSummary;
 import org.classreviewsite.handler.exception.ReviewNotFoundException;
 import org.classreviewsite.review.controller.data.Response.ReviewMeResponse;
 import org.classreviewsite.review.controller.data.Response.ReviewResponse;
-import org.springframework.stereotype.Service;
+import org.classreviewsite.util.CursorPage;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public class ReviewFinder {
 
-    // TODO: 의존성 필드 추가 필요
-    // private final ReviewDataService reviewDataService;
-    // private final LectureDataService lectureDataService;
-    // private final ClassReviewDataRepository classReviewDataRepository;
-
-    /*
-    public ClassReview find() {
+    private final ReviewDataService reviewDataService;
+    private final ReviewViewCache reviewViewCache;
 
+    public ReviewFinder(ReviewDataService reviewDataService, ReviewViewCache reviewViewCache) {
+        this.reviewDataService = reviewDataService;
+        this.reviewViewCache = reviewViewCache;
     }
 
-
+    /**
+     * 강의별 수강후기 한 페이지. 후기 수와 관계없이 size + 1 개만 읽는다.
+     * 첫 페이지는 ReviewViewCache 의 정렬 순서에서 id 를 잘라 id 묶음 조회 한 번으로 읽고, 캐시를 쓸 수 없으면 정렬 인덱스로 읽는다.
+     */
     @Transactional(readOnly = true)
-    public List<ReviewResponse> findAll(final Long lectureId){
-
-        List<ClassReview> reviews = reviewDataService.getAll(lectureId);
-
-        validateReviewsExist(reviews);
-
-        return reviews.stream().map(ReviewResponse::from).toList();
-    }
-
-
-    @Transactional(readOnly = true)
-    public List<ReviewMeResponse> findMyReview(int userNumber){
-
-        List<ClassReview> reviews = reviewDataService.getReviewsByUserNumber(userNumber);
-
-        validateReviewsExist(reviews);
-
-        return reviews.stream().map(ReviewMeResponse::from).toList();
-    }
-
-
-
-    @Transactional(readOnly = true)
-    public List<ReviewResponse> findByLectureIdOrderByStarLatingDesc(Long lectureId){
-
-        Lecture lecture = lectureDataService.findById(lectureId);
-
-        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByStarLatingDesc(lecture);// desc
-        if(result.isEmpty()){
-            throw new ReviewNotFoundException("수강 후기가 어디에도 없습니다.");
+    public CursorPage<ReviewResponse> findPage(final Long lectureId, ReviewSort sort, String cursor, Integer size){
+        int limit = CursorPage.limit(size);
+        List<ReviewSummary> reviews = cursor == null ? firstPageFromView(lectureId, sort, limit) : null;
+        if (reviews == null) {
+            reviews = reviewDataService.getSummaryPage(lectureId, sort, cursor, limit);
         }
-        return result.stream().map(ReviewResponse::from).toList();
-    }
-
-    @Transactional(readOnly = true)
-    public List<ReviewResponse> findByLectureIdOrderByStarLatingAsc(Long lectureId){
-        Lecture lecture = lectureDataService.findById(lectureId);
-
-        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByStarLatingAsc(lecture);
-        if(result.isEmpty()){
+        if (cursor == null && reviews.isEmpty()) {
             throw new ReviewNotFoundException("수강 후기가 어디에도 없습니다.");
         }
-        return result.stream().map(ReviewResponse::from).toList();
-    }
-
-    @Transactional(readOnly = true)
-    public List<ReviewResponse> findByLectureIdOrderByLikesDesc(Long lectureId){
-        Lecture lecture = lectureDataService.findById(lectureId);
-        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByLikesDesc(lecture);
-        if(result.isEmpty()){
-            throw new ReviewNotFoundException("수강 후기가 어디에도 없습니다.");
+        if (reviews.size() <= limit) {
+            return CursorPage.last(reviews.stream().map(ReviewResponse::from).toList());
         }
-
-        return result.stream().map(ReviewResponse::from).toList();
+        List<ReviewSummary> page = reviews.subList(0, limit);
+        return CursorPage.of(page.stream().map(ReviewResponse::from).toList(), sort.cursorOf(page.get(limit - 1)));
     }
 
-    @Transactional(readOnly = true)
-    public List<ReviewResponse> findByLectureIdOrderByLikesAsc(Long lectureId){
-        Lecture lecture = lectureDataService.findById(lectureId);
-        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByLikesAsc(lecture);
-        if(result.isEmpty()){
-            throw new ReviewNotFoundException("수강 후기가 어디에도 없습니다.");
+    /**
+     * @return 캐시를 쓸 수 없거나, 캐시에 있던 후기가 그사이 삭제되어 캐시를 버린 경우 null
+     */
+    private List<ReviewSummary> firstPageFromView(Long lectureId, ReviewSort sort, int limit) {
+        long[] reviewIds = reviewViewCache.head(lectureId, sort, limit + 1);
+        if (reviewIds == null) {
+            return null;
         }
-        return result.stream().map(ReviewResponse::from).toList();
-    }
-
-    @Transactional(readOnly = true)
-    public List<ReviewResponse> findByLectureIdOrderByCreateDateDesc(Long lectureId){
-        Lecture lecture = lectureDataService.findById(lectureId);
-        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByCreatedDateDesc(lecture);
-        if(result.isEmpty()){
-            throw new ReviewNotFoundException("수강 후기가 어디에도 없습니다.");
+        if (reviewIds.length == 0) {
+            return List.of();
         }
-
-        return result.stream().map(ReviewResponse::from).toList();
+        List<ReviewSummary> reviews = reviewDataService.getSummariesInOrder(reviewIds);
+        if (reviews.size() != reviewIds.length) {
+            reviewViewCache.evict(lectureId);
+            return null;
+        }
+        return reviews;
     }
 
-    private void validateReviewsExist(List<ClassReview> reviews) {
-        if(reviews.isEmpty()){
-            throw new ReviewNotFoundException("수강 후기가 어디에도 없습니다.");
-        }
+    @Transactional(readOnly = true)
+    public List<ReviewMeResponse> findMyReview(int userNumber){
+        return reviewDataService.getSummariesByUserNumber(userNumber).stream().map(ReviewMeResponse::from).toList();
     }
-    */
 }
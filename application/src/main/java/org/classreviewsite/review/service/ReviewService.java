@@ -1,12 +1,12 @@
 package org.classreviewsite.review.service;
 
 import lombok.RequiredArgsConstructor;
-import org.classreviewsite.domain.lecture.Lecture;
-import org.classreviewsite.lecture.service.LectureDataService;
+import org.classreviewsite.lecture.service.LectureRatingService;
 import org.classreviewsite.domain.review.ClassReview;
 import org.classreviewsite.domain.user.User;
 import org.classreviewsite.review.controller.data.Request.LikeRequest;
 import org.classreviewsite.review.controller.data.Request.ClassReviewRequest;
+import org.classreviewsite.review.vo.LectureHistoryResponse;
 import org.classreviewsite.user.service.UserService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,27 +16,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewService {
 
     private final ReviewDataService reviewDataService;
-    private final LectureDataService lectureDataService;
     private final UserService userService;
     private final LikeStateGenerator likeStateGenerator;
     private final ReviewWriter reviewWriter;
-    private final ReviewHistoryValidator reviewHistoryValidator;
     private final LectureHistoryValidator lectureHistoryValidator;
+    private final LectureRatingService lectureRatingService;
+    private final ReviewViewCache reviewViewCache;
 
+    /**
+     * 검사는 LectureHistoryValidator 의 조인 쿼리 한 번, 저장은 강의와 학생 참조로 INSERT 한 번이며,
+     * 강의 별점은 LectureRatingService 의 Atomic Update 로 마지막에 반영해 강의 행 잠금을 짧게 잡는다.
+     */
     @Transactional
     public void write(final ClassReviewRequest request){
-        final var userNumber = request.getUserNumber();
-        final var lectureName = request.getLectureName();
-
-        lectureHistoryValidator.validate(userNumber.intValue(), lectureName);
-
-        Lecture foundLecture = lectureDataService.findByLectureName(lectureName);
-        User foundUser = userService.findUser(userNumber);
-
-        reviewHistoryValidator.validateHistory(foundUser, foundLecture);
-        reviewWriter.write(foundLecture, foundUser, request);
+        LectureHistoryResponse history = lectureHistoryValidator.validate(request.getUserNumber(), request.getLectureName());
+        ClassReview written = reviewWriter.write(history, request);
 
-        foundLecture.addStarRating(request.getStarLating());
+        lectureRatingService.addRating(history.getLectureId(), request.getStarLating(), written.getCreatedDate());
+        reviewViewCache.reviewAdded(history.getLectureId(), written.getReviewId(), written.getStarLating(), written.getLikes(), written.getCreatedDate());
     }
 
     @Transactional
@@ -47,6 +44,7 @@ public class ReviewService {
         User user = userService.findUser(userNumber);
         ClassReview review = reviewDataService.getReviewById(likedReviewId);
         String result =  likeStateGenerator.generate(user, review);
+        reviewViewCache.likesChanged(review.getLecId().getLectureId(), review.getReviewId(), review.getLikes());
         return result;
     }
 }
@@ -0,0 +1,176 @@
+package org.classreviewsite.review.service;
+
+import org.classreviewsite.domain.review.ClassReviewDataRepository;
+import org.classreviewsite.domain.review.ReviewSummary;
+import org.classreviewsite.util.KeysetCursor;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 강의별 수강후기 목록의 정렬 기준.
+ * 정렬마다 키셋 쿼리가 하나씩 있고, 같은 정렬 값은 reviewId 로 순서를 정해 페이지 경계에서 후기가 빠지거나 겹치지 않는다.
+ * 커서에는 정렬 이름, 마지막 후기의 정렬 값, reviewId 를 담아 다른 정렬의 커서는 받지 않는다.
+ * 최신순은 작성 시각(createDate), reviewId 순이다. reviewId 는 인스턴스마다 미리 받아 둔 구간에서 나와 작성 순서와 다를 수 있기 때문이다.
+ * 강의 화면(/class/{lectureId}/page)의 후기 커서도 최신순 커서이므로 그대로 이어 쓸 수 있다.
+ */
+public enum ReviewSort {
+
+    STAR_DESC("수강 후기 별점 높은 순 조회입니다.") {
+        @Override
+        List<ReviewSummary> find(ClassReviewDataRepository repository, Long lectureId, String cursor, Pageable pageable) {
+            if (cursor == null) {
+                return repository.findSummaryPageOrderByStarLatingDesc(lectureId, Double.MAX_VALUE, Long.MAX_VALUE, pageable);
+            }
+            String[] keys = decode(cursor);
+            return repository.findSummaryPageOrderByStarLatingDesc(lectureId, doubleKey(keys[1]), longKey(keys[2]), pageable);
+        }
+
+        @Override
+        public String cursorOf(ReviewSummary last) {
+            return KeysetCursor.encode(name(), last.getStarLating(), last.getReviewId());
+        }
+    },
+
+    STAR_ASC("수강 후기 별점 낮은 순 조회입니다.") {
+        @Override
+        List<ReviewSummary> find(ClassReviewDataRepository repository, Long lectureId, String cursor, Pageable pageable) {
+            if (cursor == null) {
+                return repository.findSummaryPageOrderByStarLatingAsc(lectureId, -Double.MAX_VALUE, 0L, pageable);
+            }
+            String[] keys = decode(cursor);
+            return repository.findSummaryPageOrderByStarLatingAsc(lectureId, doubleKey(keys[1]), longKey(keys[2]), pageable);
+        }
+
+        @Override
+        public String cursorOf(ReviewSummary last) {
+            return KeysetCursor.encode(name(), last.getStarLating(), last.getReviewId());
+        }
+    },
+
+    LIKES_DESC("수강 후기 좋아요 높은 순 조회입니다.") {
+        @Override
+        List<ReviewSummary> find(ClassReviewDataRepository repository, Long lectureId, String cursor, Pageable pageable) {
+            if (cursor == null) {
+                return repository.findSummaryPageOrderByLikesDesc(lectureId, Integer.MAX_VALUE, Long.MAX_VALUE, pageable);
+            }
+            String[] keys = decode(cursor);
+            return repository.findSummaryPageOrderByLikesDesc(lectureId, intKey(keys[1]), longKey(keys[2]), pageable);
+        }
+
+        @Override
+        public String cursorOf(ReviewSummary last) {
+            return KeysetCursor.encode(name(), last.getLikes(), last.getReviewId());
+        }
+    },
+
+    LIKES_ASC("수강 후기 좋아요 낮은 순 조회입니다.") {
+        @Override
+        List<ReviewSummary> find(ClassReviewDataRepository repository, Long lectureId, String cursor, Pageable pageable) {
+            if (cursor == null) {
+                return repository.findSummaryPageOrderByLikesAsc(lectureId, Integer.MIN_VALUE, 0L, pageable);
+            }
+            String[] keys = decode(cursor);
+            return repository.findSummaryPageOrderByLikesAsc(lectureId, intKey(keys[1]), longKey(keys[2]), pageable);
+        }
+
+        @Override
+        public String cursorOf(ReviewSummary last) {
+            return KeysetCursor.encode(name(), last.getLikes(), last.getReviewId());
+        }
+    },
+
+    RECENT("수강 후기 날짜 최신순 조회입니다.") {
+        @Override
+        List<ReviewSummary> find(ClassReviewDataRepository repository, Long lectureId, String cursor, Pageable pageable) {
+            if (cursor == null) {
+                return repository.findSummaryPageOrderByCreatedDateDesc(lectureId, pageable);
+            }
+            String[] keys = decode(cursor);
+            return repository.findSummaryPageOrderByCreatedDateDesc(lectureId, dateTimeKey(keys[1]), longKey(keys[2]), pageable);
+        }
+
+        @Override
+        public String cursorOf(ReviewSummary last) {
+            return KeysetCursor.encode(name(), last.getCreatedDate(), last.getReviewId());
+        }
+    };
+
+    private final String message;
+
+    ReviewSort(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 이전 조회 방식(lowness, likes, recent 플래그)의 정렬. 여러 개가 true 이면 lowness, likes, recent 순으로 앞선 것을 따른다.
+     */
+    public static ReviewSort fromFlags(boolean lowness, boolean likes, boolean recent) {
+        if (lowness) {
+            return STAR_ASC;
+        }
+        if (likes) {
+            return LIKES_DESC;
+        }
+        if (recent) {
+            return RECENT;
+        }
+        return STAR_DESC;
+    }
+
+    abstract List<ReviewSummary> find(ClassReviewDataRepository repository, Long lectureId, String cursor, Pageable pageable);
+
+    /**
+     * @return last 다음부터 이어 읽는 커서
+     */
+    public abstract String cursorOf(ReviewSummary last);
+
+    /**
+     * @throws IllegalArgumentException 변조되었거나 다른 정렬의 커서인 경우
+     */
+    String[] decode(String cursor) {
+        String[] keys = KeysetCursor.decode(cursor, 3);
+        if (!name().equals(keys[0])) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return keys;
+    }
+
+    private static Double doubleKey(String key) {
+        try {
+            return Double.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private static Integer intKey(String key) {
+        try {
+            return Integer.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private static LocalDateTime dateTimeKey(String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private static Long longKey(String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
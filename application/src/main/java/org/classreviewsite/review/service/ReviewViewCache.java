@@ -0,0 +1,514 @@
+package org.classreviewsite.review.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.classreviewsite.domain.review.ClassReviewDataRepository;
+import org.classreviewsite.domain.review.ReviewSortKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * 강의별 수강후기 정렬 순서 캐시.
+ * 후기 목록은 바뀌는 일보다 읽히는 일이 훨씬 많으므로, 자주 조회되는 강의의 후기 id 를 ReviewSort 다섯 가지 순서로 정렬한 long 배열로 들고 있다가
+ * 첫 페이지 요청에는 배열 앞부분만 잘라 준다. 본문은 호출 측에서 id 묶음 조회 한 번으로 읽는다.
+ * 작성, 수정, 삭제, 좋아요는 커밋 이후에 해당 후기만 이진 탐색으로 빼고 넣은 새 배열을 잠금 없이 만들어 compare-and-set 으로 바꾸므로(copy-on-write), 읽는 쪽은 잠그지 않는다.
+ * 후기 하나가 배열 9개에 약 68바이트를 쓰므로, 상한은 강의 수가 아니라 캐시에 올린 후기 수(max-cached-reviews, 기본 약 14MB)로 둔다.
+ * 상한을 넘으면 마지막으로 조회한 시각이 오래된 강의부터 내리며(근사 LRU), 이 정리는 적재와 변경 쪽에서만 하고 조회 경로에서는 시각만 남긴다.
+ * 후기가 max-reviews 개를 넘는 강의는 올리지 않고 DB 키셋 조회를 쓰게 한다.
+ * 적재하는 동안 같은 강의에 쓰기가 커밋되면 적재 결과를 캐시에서 다시 빼, 빠진 후기가 남지 않게 한다.
+ * 다른 인스턴스나 SQL 로 들어온 변경은 알 수 없으므로, 적재한 지 ttl-seconds 가 지난 순서는 다시 적재한다.
+ * 같은 강의를 동시에 적재해야 하면 한 요청만 DB 를 읽고 나머지는 그 결과를 기다린다.
+ */
+@Component
+@Slf4j
+public class ReviewViewCache {
+
+    private static final int STAMP_STRIPES = 64;
+
+    private final ClassReviewDataRepository classReviewDataRepository;
+    private final boolean enabled;
+    private final long maxCachedReviews;
+    private final int maxReviews;
+    private final long timeToLiveNanos;
+
+    private final Map<Long, View> views = new ConcurrentHashMap<>();
+
+    /**
+     * views 에 올린 스냅샷 무게(후기 수 + 1)의 합. 후기가 없는 강의도 자리를 차지하므로 1 을 더한다.
+     */
+    private final AtomicLong cachedReviews = new AtomicLong();
+
+    /**
+     * 상한 정리는 한 스레드만 한다. 다른 스레드가 정리 중이면 기다리지 않고 넘어간다.
+     */
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    /**
+     * 강의 id 구간별 쓰기 횟수. 적재 결과를 넣은 뒤에도 적재 전과 값이 같을 때만 남긴다.
+     */
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    /**
+     * 강의별 진행 중인 적재. 먼저 온 요청이 넣고 끝나면 뺀다.
+     */
+    private final Map<Long, CompletableFuture<View>> loading = new ConcurrentHashMap<>();
+
+    public ReviewViewCache(ClassReviewDataRepository classReviewDataRepository,
+                           @Value("${review.view.enabled:true}") boolean enabled,
+                           @Value("${review.view.max-cached-reviews:200000}") long maxCachedReviews,
+                           @Value("${review.view.max-reviews:20000}") int maxReviews,
+                           @Value("${review.view.ttl-seconds:60}") long ttlSeconds) {
+        this.classReviewDataRepository = classReviewDataRepository;
+        this.enabled = enabled;
+        this.maxCachedReviews = maxCachedReviews;
+        this.maxReviews = (int) Math.min(maxReviews, Math.max(maxCachedReviews - 1, 0));
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * @return sort 순서로 앞에서부터 최대 count 개의 후기 id. 캐시를 쓰지 않는 강의면 null
+     */
+    public long[] head(Long lectureId, ReviewSort sort, int count) {
+        if (!enabled) {
+            return null;
+        }
+        long now = System.nanoTime();
+        View view = views.get(lectureId);
+        if (view == null || view.isExpired(now, timeToLiveNanos)) {
+            view = loadOnce(lectureId);
+        }
+        view.usedAt = now;
+        if (view.isOversized()) {
+            return null;
+        }
+        long[] order = view.orders[sort.ordinal()];
+        return Arrays.copyOf(order, Math.min(count, order.length));
+    }
+
+    public void reviewAdded(Long lectureId, Long reviewId, Double starLating, int likes, LocalDateTime createdDate) {
+        afterCommit(lectureId, view -> view.put(reviewId, starLating, likes, View.createdKey(createdDate)));
+    }
+
+    public void ratingChanged(Long lectureId, Long reviewId, Double starLating) {
+        afterCommit(lectureId, view -> view.put(reviewId, starLating, null, null));
+    }
+
+    public void likesChanged(Long lectureId, Long reviewId, int likes) {
+        afterCommit(lectureId, view -> view.put(reviewId, null, likes, null));
+    }
+
+    public void reviewRemoved(Long lectureId, Long reviewId) {
+        afterCommit(lectureId, view -> view.remove(reviewId));
+    }
+
+    /**
+     * 한 강의에 후기가 한꺼번에 들어왔을 때(일괄 등록 등) 커밋 이후 해당 강의를 버린다. 다음 요청에서 다시 적재한다.
+     */
+    public void lectureChanged(Long lectureId) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> evict(lectureId));
+    }
+
+    /**
+     * 캐시와 DB 가 어긋난 것을 발견했을 때 해당 강의를 버린다. 다음 요청에서 다시 적재한다.
+     */
+    public void evict(Long lectureId) {
+        stamps.incrementAndGet(stripe(lectureId));
+        View removed = views.remove(lectureId);
+        if (removed != null) {
+            cachedReviews.addAndGet(-removed.weight());
+        }
+    }
+
+    /**
+     * 여러 강의의 정렬 키가 한꺼번에 바뀌었을 때(좋아요 수 일괄 수리 등) 모두 버린다.
+     */
+    public void clear() {
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            stamps.incrementAndGet(i);
+        }
+        for (Long lectureId : views.keySet()) {
+            evict(lectureId);
+        }
+    }
+
+    public int size() {
+        return views.size();
+    }
+
+    /**
+     * 이미 같은 강의를 적재 중인 요청이 있으면 새로 읽지 않고 그 결과를 쓴다.
+     */
+    private View loadOnce(Long lectureId) {
+        CompletableFuture<View> mine = new CompletableFuture<>();
+        CompletableFuture<View> running = loading.putIfAbsent(lectureId, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            View view = load(lectureId);
+            mine.complete(view);
+            return view;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(lectureId, mine);
+        }
+    }
+
+    /**
+     * 스냅샷은 잠금 없이 만들고, 넣은 다음 쓰기 횟수를 다시 본다.
+     * 변경은 쓰기 횟수를 올린 뒤 views 를 읽으므로, 넣은 뒤에도 횟수가 같다면 그 변경은 넣은 스냅샷을 보고 반영한다.
+     */
+    private View load(Long lectureId) {
+        int stripe = stripe(lectureId);
+        long stamp = stamps.get(stripe);
+        long loadedAt = System.nanoTime();
+        List<ReviewSortKey> keys = classReviewDataRepository.findSortKeysByLectureId(lectureId, PageRequest.of(0, maxReviews + 1));
+        View view = keys.size() > maxReviews ? View.oversized(loadedAt) : View.of(keys, loadedAt);
+        view.usedAt = loadedAt;
+        if (stamps.get(stripe) != stamp) {
+            return view;
+        }
+        View previous = views.put(lectureId, view);
+        cachedReviews.addAndGet(view.weight() - (previous == null ? 0 : previous.weight()));
+        if (stamps.get(stripe) != stamp) {
+            discard(lectureId, view);
+            return view;
+        }
+        trim();
+        return view;
+    }
+
+    /**
+     * 롤백된 변경이 캐시에 남으면 안 되므로 커밋 이후에 반영한다. 트랜잭션 밖에서 부르면 바로 반영한다.
+     */
+    private void afterCommit(Long lectureId, UnaryOperator<View> change) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> apply(lectureId, change));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 새 스냅샷은 잠금 밖에서 만들고, 그 사이 다른 변경이 먼저 바꿨으면 바뀐 스냅샷으로 다시 만든다.
+     */
+    private void apply(Long lectureId, UnaryOperator<View> change) {
+        stamps.incrementAndGet(stripe(lectureId));
+        while (true) {
+            View view = views.get(lectureId);
+            if (view == null || view.isOversized()) {
+                return;
+            }
+            View changed = change.apply(view);
+            if (changed == null) {
+                log.debug("캐시에 없는 수강후기가 바뀌어 강의 정렬 순서를 버립니다. lectureId: {}", lectureId);
+                discard(lectureId, view);
+                return;
+            }
+            changed.usedAt = view.usedAt;
+            if (views.replace(lectureId, view, changed)) {
+                cachedReviews.addAndGet(changed.weight() - view.weight());
+                trim();
+                return;
+            }
+        }
+    }
+
+    private void discard(Long lectureId, View view) {
+        if (views.remove(lectureId, view)) {
+            cachedReviews.addAndGet(-view.weight());
+        }
+    }
+
+    /**
+     * 올린 후기 수가 상한을 넘으면 마지막 조회 시각이 오래된 강의부터 내린다.
+     * 조회 시각은 정리하는 동안에도 바뀌므로 먼저 떠 둔 값으로 정렬한다.
+     */
+    private void trim() {
+        if (cachedReviews.get() <= maxCachedReviews || !trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Candidate> candidates = new ArrayList<>(views.size());
+            views.forEach((lectureId, view) -> candidates.add(new Candidate(lectureId, view)));
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.usedAt));
+            for (Candidate candidate : candidates) {
+                if (cachedReviews.get() <= maxCachedReviews) {
+                    break;
+                }
+                discard(candidate.lectureId, candidate.view);
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private static int stripe(Long lectureId) {
+        return (int) (lectureId & (STAMP_STRIPES - 1));
+    }
+
+    private static final class Candidate {
+
+        private final Long lectureId;
+        private final View view;
+        private final long usedAt;
+
+        private Candidate(Long lectureId, View view) {
+            this.lectureId = lectureId;
+            this.view = view;
+            this.usedAt = view.usedAt;
+        }
+    }
+
+    /**
+     * 한 강의의 정렬 순서 스냅샷. reviewIds 오름차순 배열과 같은 자리의 별점, 좋아요 수, 작성 시각을 두고,
+     * orders[ReviewSort.ordinal()] 에 정렬별 후기 id 를 둔다. 같은 정렬 값은 ReviewSort 키셋 쿼리와 같은 방향의 reviewId 로 순서를 정한다.
+     * 작성 시각은 DATETIME(6) 과 같은 마이크로초 단위 long 으로 두며, 없으면 가장 오래된 것으로 본다.
+     * 부분 반영으로 만든 스냅샷도 처음 적재한 시각(loadedAt, System.nanoTime)을 그대로 물려받아 TTL 이 연장되지 않는다.
+     * usedAt 은 마지막으로 조회한 시각으로, 조회 경로에서 잠금 없이 덮어쓴다.
+     */
+    private static final class View {
+
+        private final long[] reviewIds;
+        private final double[] stars;
+        private final int[] likes;
+        private final long[] created;
+        private final long[][] orders;
+        private final long loadedAt;
+        private volatile long usedAt;
+
+        private View(long[] reviewIds, double[] stars, int[] likes, long[] created, long[][] orders, long loadedAt) {
+            this.reviewIds = reviewIds;
+            this.stars = stars;
+            this.likes = likes;
+            this.created = created;
+            this.orders = orders;
+            this.loadedAt = loadedAt;
+        }
+
+        /**
+         * 후기가 너무 많아 캐시하지 않는 강의. 후기가 줄었을 수 있으므로 이것도 TTL 이 지나면 다시 센다.
+         */
+        private static View oversized(long loadedAt) {
+            return new View(new long[0], new double[0], new int[0], new long[0], null, loadedAt);
+        }
+
+        private static long createdKey(LocalDateTime createdDate) {
+            if (createdDate == null) {
+                return Long.MIN_VALUE;
+            }
+            return createdDate.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdDate.getNano() / 1_000;
+        }
+
+        private static View of(List<ReviewSortKey> keys, long loadedAt) {
+            ReviewSortKey[] sorted = keys.toArray(new ReviewSortKey[0]);
+            Arrays.sort(sorted, Comparator.comparing(ReviewSortKey::getReviewId));
+            int size = sorted.length;
+            long[] reviewIds = new long[size];
+            double[] stars = new double[size];
+            int[] likes = new int[size];
+            long[] created = new long[size];
+            for (int i = 0; i < size; i++) {
+                reviewIds[i] = sorted[i].getReviewId();
+                stars[i] = sorted[i].getStarLating();
+                likes[i] = sorted[i].getLikes();
+                created[i] = createdKey(sorted[i].getCreatedDate());
+            }
+
+            ReviewSort[] sorts = ReviewSort.values();
+            long[][] orders = new long[sorts.length][];
+            for (ReviewSort sort : sorts) {
+                Integer[] positions = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    positions[i] = i;
+                }
+                Arrays.sort(positions, (a, b) -> compare(sort, stars[a], likes[a], created[a], reviewIds[a], stars[b], likes[b], created[b], reviewIds[b]));
+                long[] order = new long[size];
+                for (int i = 0; i < size; i++) {
+                    order[i] = reviewIds[positions[i]];
+                }
+                orders[sort.ordinal()] = order;
+            }
+            return new View(reviewIds, stars, likes, created, orders, loadedAt);
+        }
+
+        private long weight() {
+            return reviewIds.length + 1L;
+        }
+
+        private boolean isOversized() {
+            return orders == null;
+        }
+
+        private boolean isExpired(long now, long timeToLiveNanos) {
+            return now - loadedAt >= timeToLiveNanos;
+        }
+
+        /**
+         * 후기를 넣거나 정렬 값을 바꾼다. null 인 값은 기존 값을 쓰며, 기존 후기가 없는데 null 이 있으면 null 을 돌려준다.
+         * 같은 변경이 두 번 들어와도(적재가 이미 본 커밋을 다시 반영) 결과는 같다.
+         */
+        private View put(long reviewId, Double starLating, Integer likeCount, Long createdAt) {
+            int at = Arrays.binarySearch(reviewIds, reviewId);
+            boolean exists = at >= 0;
+            if (!exists && (starLating == null || likeCount == null || createdAt == null)) {
+                return null;
+            }
+            double star = starLating != null ? starLating : stars[at];
+            int like = likeCount != null ? likeCount : likes[at];
+            long when = exists ? created[at] : createdAt;
+
+            long[][] changedOrders = new long[orders.length][];
+            for (ReviewSort sort : ReviewSort.values()) {
+                long[] order = orders[sort.ordinal()];
+                if (exists) {
+                    order = removeAt(order, find(order, sort, stars[at], likes[at], created[at], reviewId));
+                }
+                changedOrders[sort.ordinal()] = insertAt(order, find(order, sort, star, like, when, reviewId), reviewId);
+            }
+
+            if (exists) {
+                double[] changedStars = stars.clone();
+                int[] changedLikes = likes.clone();
+                changedStars[at] = star;
+                changedLikes[at] = like;
+                return new View(reviewIds, changedStars, changedLikes, created, changedOrders, loadedAt);
+            }
+            int insertion = -(at + 1);
+            return new View(insertAt(reviewIds, insertion, reviewId), insertAt(stars, insertion, star), insertAt(likes, insertion, like),
+                    insertAt(created, insertion, when), changedOrders, loadedAt);
+        }
+
+        private View remove(long reviewId) {
+            int at = Arrays.binarySearch(reviewIds, reviewId);
+            if (at < 0) {
+                return this;
+            }
+            long[][] changedOrders = new long[orders.length][];
+            for (ReviewSort sort : ReviewSort.values()) {
+                long[] order = orders[sort.ordinal()];
+                changedOrders[sort.ordinal()] = removeAt(order, find(order, sort, stars[at], likes[at], created[at], reviewId));
+            }
+            return new View(removeAt(reviewIds, at), removeAt(stars, at), removeAt(likes, at), removeAt(created, at), changedOrders, loadedAt);
+        }
+
+        /**
+         * order 에서 주어진 정렬 값보다 앞서지 않는 첫 위치. 정렬 값이 같은 후기가 있으면 그 위치다.
+         * order 안의 후기 값은 이 스냅샷의 배열에서 찾으므로, 바꾸려는 후기 자신은 미리 order 에서 빼 두어야 한다.
+         */
+        private int find(long[] order, ReviewSort sort, double star, int like, long when, long reviewId) {
+            int low = 0;
+            int high = order.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int at = Arrays.binarySearch(reviewIds, order[mid]);
+                if (compare(sort, stars[at], likes[at], created[at], order[mid], star, like, when, reviewId) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static int compare(ReviewSort sort, double starA, int likesA, long createdA, long idA,
+                                   double starB, int likesB, long createdB, long idB) {
+            int primary = switch (sort) {
+                case STAR_DESC -> Double.compare(starB, starA);
+                case STAR_ASC -> Double.compare(starA, starB);
+                case LIKES_DESC -> Integer.compare(likesB, likesA);
+                case LIKES_ASC -> Integer.compare(likesA, likesB);
+                case RECENT -> Long.compare(createdB, createdA);
+            };
+            if (primary != 0) {
+                return primary;
+            }
+            boolean ascending = sort == ReviewSort.STAR_ASC || sort == ReviewSort.LIKES_ASC;
+            return ascending ? Long.compare(idA, idB) : Long.compare(idB, idA);
+        }
+
+        private static long[] insertAt(long[] array, int index, long value) {
+            long[] changed = new long[array.length + 1];
+            System.arraycopy(array, 0, changed, 0, index);
+            changed[index] = value;
+            System.arraycopy(array, index, changed, index + 1, array.length - index);
+            return changed;
+        }
+
+        private static double[] insertAt(double[] array, int index, double value) {
+            double[] changed = new double[array.length + 1];
+            System.arraycopy(array, 0, changed, 0, index);
+            changed[index] = value;
+            System.arraycopy(array, index, changed, index + 1, array.length - index);
+            return changed;
+        }
+
+        private static int[] insertAt(int[] array, int index, int value) {
+            int[] changed = new int[array.length + 1];
+            System.arraycopy(array, 0, changed, 0, index);
+            changed[index] = value;
+            System.arraycopy(array, index, changed, index + 1, array.length - index);
+            return changed;
+        }
+
+        private static long[] removeAt(long[] array, int index) {
+            long[] changed = new long[array.length - 1];
+            System.arraycopy(array, 0, changed, 0, index);
+            System.arraycopy(array, index + 1, changed, index, array.length - index - 1);
+            return changed;
+        }
+
+        private static double[] removeAt(double[] array, int index) {
+            double[] changed = new double[array.length - 1];
+            System.arraycopy(array, 0, changed, 0, index);
+            System.arraycopy(array, index + 1, changed, index, array.length - index - 1);
+            return changed;
+        }
+
+        private static int[] removeAt(int[] array, int index) {
+            int[] changed = new int[array.length - 1];
+            System.arraycopy(array, 0, changed, 0, index);
+            System.arraycopy(array, index + 1, changed, index, array.length - index - 1);
+            return changed;
+        }
+    }
+}
@@ -1,23 +1,34 @@
 package org.classreviewsite.review.service;
 
 import org.classreviewsite.domain.lecture.Lecture;
+import org.classreviewsite.domain.lecture.LectureDataRepository;
 import org.classreviewsite.domain.review.ClassReview;
 import org.classreviewsite.domain.review.ClassReviewDataRepository;
 import org.classreviewsite.domain.user.User;
+import org.classreviewsite.domain.user.UserDataRepository;
 import org.classreviewsite.review.controller.data.Request.ClassReviewRequest;
+import org.classreviewsite.review.vo.LectureHistoryResponse;
 
 public class ReviewWriter {
 
     private final ClassReviewDataRepository classReviewDataRepository;
+    private final LectureDataRepository lectureDataRepository;
+    private final UserDataRepository userDataRepository;
 
-    public ReviewWriter(ClassReviewDataRepository classReviewDataRepository) {
+    public ReviewWriter(ClassReviewDataRepository classReviewDataRepository, LectureDataRepository lectureDataRepository, UserDataRepository userDataRepository) {
         this.classReviewDataRepository = classReviewDataRepository;
+        this.lectureDataRepository = lectureDataRepository;
+        this.userDataRepository = userDataRepository;
     }
 
-    public void write(Lecture lecture, User user, ClassReviewRequest reviewRequest) {
-
-        // TODO: ClassReview.create() 정적 팩토리 메서드 구현 필요 또는 생성자 사용
-        // ClassReview classReview = ClassReview.create(lecture, user, reviewRequest.getStarLating(), reviewRequest.getPostContent(), reviewRequest.getPostTitle());
-        // classReviewDataRepository.save(classReview);
+    /**
+     * 강의와 학생은 LectureHistoryValidator 가 확인한 id 로 참조만 만들어 SELECT 없이 외래 키로 넣는다.
+     * 바로 flush 해 INSERT 를 먼저 끝내고, 강의 행 잠금을 잡는 별점 UPDATE 가 트랜잭션 마지막에 오게 한다.
+     */
+    public ClassReview write(LectureHistoryResponse history, ClassReviewRequest reviewRequest) {
+        Lecture lecture = lectureDataRepository.getReferenceById(history.getLectureId());
+        User user = userDataRepository.getReferenceById(history.getUserNumber());
+        ClassReview classReview = ClassReview.create(lecture, user, reviewRequest.getStarLating(), reviewRequest.getPostContent(), reviewRequest.getPostTitle());
+        return classReviewDataRepository.saveAndFlush(classReview);
     }
 }
@@ -2,19 +2,17 @@ package org.classreviewsite.review.vo;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.classreviewsite.domain.lecture.Lecture;
-import org.classreviewsite.domain.user.User;
 
 @Getter
 @AllArgsConstructor
 public class LectureHistoryResponse {
-    private Lecture lecture;
-    private User student;
+    private Long lectureId;
+    private int userNumber;
 
-    public static LectureHistoryResponse of(Lecture lecture, User student) {
+    public static LectureHistoryResponse of(Long lectureId, int userNumber) {
         return new LectureHistoryResponse(
-                lecture,
-                student
+                lectureId,
+                userNumber
         );
     }
 
@@ -51,6 +51,8 @@ public class SecurityConfig {
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                 )
                 .authorizeHttpRequests(authorizeHttpRequests -> authorizeHttpRequests
+                        // ADMIN 권한 등록과 지정 방법은 V9__admin_authority.sql 참고
+                        .requestMatchers("/admin/**").hasAuthority("ADMIN")
                         .requestMatchers( "/**").permitAll()
 //                        .requestMatchers(("/review")).permitAll()
                         .requestMatchers("/signin", "/signup","/department", "/class/**" ).permitAll()
@@ -12,11 +12,17 @@ public class UserResponse {
     private String username;
     private String profile;
 
+    private static final String DEFAULT_PROFILE = "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/profile.png";
+
     public static UserResponse from(User user){
+        return of(user.getUserNumber(), user.getNickname());
+    }
+
+    public static UserResponse of(int userNumber, String nickname){
         return new UserResponse(
-                user.getUserNumber(),
-                user.getNickname(),
-                "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/profile.png"
+                userNumber,
+                nickname,
+                DEFAULT_PROFILE
         );
     }
 
@@ -0,0 +1,42 @@
+package org.classreviewsite.util;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    public static <T> CursorPage<T> last(List<T> items) {
+        return new CursorPage<>(items, null);
+    }
+
+    /**
+     * 요청된 페이지 크기를 [1, MAX_SIZE] 범위로 보정한다. 지정하지 않으면 DEFAULT_SIZE.
+     */
+    public static int limit(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,31 @@
+package org.classreviewsite.util;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티에 매핑된 id 생성기(IdSequences, @TableGenerator)에서 id 를 받는다.
+ * JdbcTemplate 으로 직접 INSERT 하는 경로도 JPA 저장과 같은 생성기를 거쳐, 두 경로가 같은 id 를 쓰는 일이 없게 한다.
+ * 생성기가 allocationSize 개씩 미리 받아 두므로 DB 왕복은 allocationSize 개당 한 번이다. 트랜잭션 안에서 불러야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityIdGenerator {
+
+    private final EntityManager entityManager;
+
+    public long[] next(Class<?> entityClass, int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ((Number) generator.generate(session, null)).longValue();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,116 @@
+package org.classreviewsite.util;
+
+/**
+ * 한글 자모 분해 유틸리티.
+ * 완성형 음절(가-힣)을 호환 자모로 풀고, 겹모음/겹받침도 입력 순서대로 낱자로 풀어 "닭" 을 치는 도중의 "달" 처럼 조합 중인 입력도 접두사로 일치하게 한다.
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char JAMO_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+    private static final char JAMO_END = 'ㅣ';
+
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+
+    private static final String[] COMPOUND_JAMO_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private Hangul() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * "자료 구조" -> "ㅈㅏㄹㅛㄱㅜㅈㅗ". 공백은 버리고 한글 외 문자는 소문자로 남긴다.
+     */
+    public static String decompose(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                jamo.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                jamo.append(JUNGSEONG[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+                jamo.append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else if (isJamo(c)) {
+                jamo.append(splitJamo(c));
+            } else {
+                jamo.append(Character.toLowerCase(c));
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * "자료 구조" -> "ㅈㄹㄱㅈ". 공백은 버리고 한글 외 문자는 소문자로 남긴다.
+     */
+    public static String chosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                chosung.append(CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                chosung.append(Character.toLowerCase(c));
+            }
+        }
+        return chosung.toString();
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 자음(ㄱ-ㅎ)이면 초성 검색어로 본다.
+     */
+    public static boolean isChosungQuery(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < JAMO_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isJamo(char c) {
+        return c >= JAMO_BEGIN && c <= JAMO_END;
+    }
+
+    private static String splitJamo(char c) {
+        int index = COMPOUND_JAMO.indexOf(c);
+        return index >= 0 ? COMPOUND_JAMO_SPLIT[index] : String.valueOf(c);
+    }
+}
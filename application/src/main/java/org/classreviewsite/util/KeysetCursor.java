@@ -0,0 +1,55 @@
+package org.classreviewsite.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션용 커서 인코더.
+ * 마지막으로 내려준 행의 정렬 키들을 이어붙여 URL-safe Base64 로 감싸, 클라이언트에게는 불투명한 문자열로만 보이게 한다.
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    private KeysetCursor() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder(VERSION);
+        for (Object key : keys) {
+            raw.append(DELIMITER).append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode 로 만든 커서
+     * @param keyCount 기대하는 정렬 키 개수
+     * @return 정렬 키 문자열 배열
+     * @throws IllegalArgumentException 변조되었거나 다른 용도의 커서인 경우
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != keyCount + 1 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            String[] keys = new String[keyCount];
+            System.arraycopy(parts, 1, keys, 0, keyCount);
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public static Long decodeLong(String cursor) {
+        try {
+            return Long.valueOf(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
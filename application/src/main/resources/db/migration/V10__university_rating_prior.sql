@@ -0,0 +1,7 @@
+-- 대학별로 마지막 weightedRating 일괄 재계산에 쓴 베이지안 사전값.
+-- LectureRatingPriorJob 은 기동 직후 이 값을 읽어, 사전값이 실제로 바뀐 대학만 다시 계산한다.
+-- 값이 없는 대학(이 마이그레이션 직후 포함)은 첫 실행에서 한 번 다시 계산하고 저장한다.
+
+ALTER TABLE University
+    ADD COLUMN priorWeight DOUBLE NULL,
+    ADD COLUMN priorMean   DOUBLE NULL;
@@ -0,0 +1,82 @@
+-- 마이그레이션 도입 이전 운영 스키마. 기존 DB 는 baseline-on-migrate 로 이 버전을 건너뛴다.
+
+CREATE TABLE IF NOT EXISTS authority (
+    authority VARCHAR(50) NOT NULL,
+    PRIMARY KEY (authority)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS Users (
+    userNumber INT          NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    userName   VARCHAR(45)  NOT NULL,
+    department VARCHAR(45)  NOT NULL,
+    nickname   VARCHAR(200) NOT NULL,
+    PRIMARY KEY (userNumber),
+    UNIQUE KEY uk_users_nickname (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS userAuthority (
+    userNumber INT         NOT NULL,
+    authority  VARCHAR(50) NOT NULL,
+    PRIMARY KEY (userNumber, authority),
+    CONSTRAINT fk_user_authority_user FOREIGN KEY (userNumber) REFERENCES Users (userNumber),
+    CONSTRAINT fk_user_authority_authority FOREIGN KEY (authority) REFERENCES authority (authority)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS Lectures (
+    lectureId           BIGINT       NOT NULL,
+    lectureName         VARCHAR(45)  NOT NULL,
+    average_star_rating DOUBLE       NULL,
+    total_star_rating   DOUBLE       NULL,
+    review_count        BIGINT       NULL,
+    department          VARCHAR(45)  NOT NULL,
+    university          VARCHAR(45)  NOT NULL,
+    professor           VARCHAR(255) NOT NULL,
+    lectureType         VARCHAR(255) NULL,
+    PRIMARY KEY (lectureId)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ClassReview (
+    reviewId    BIGINT       NOT NULL AUTO_INCREMENT,
+    createDate  DATETIME(6)  NULL,
+    lecId       BIGINT       NOT NULL,
+    postTitle   VARCHAR(255) NOT NULL,
+    starLating  DOUBLE       NOT NULL,
+    userNumber  INT          NOT NULL,
+    postContent VARCHAR(255) NOT NULL,
+    likes       INT          NOT NULL,
+    version     BIGINT       NULL,
+    PRIMARY KEY (reviewId),
+    CONSTRAINT fk_class_review_lecture FOREIGN KEY (lecId) REFERENCES Lectures (lectureId),
+    CONSTRAINT fk_class_review_user FOREIGN KEY (userNumber) REFERENCES Users (userNumber)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS Likes (
+    likeId     BIGINT NOT NULL AUTO_INCREMENT,
+    reviewId   BIGINT NOT NULL,
+    userNumber INT    NOT NULL,
+    PRIMARY KEY (likeId),
+    UNIQUE KEY uk_likes_review_user (reviewId, userNumber),
+    CONSTRAINT fk_likes_review FOREIGN KEY (reviewId) REFERENCES ClassReview (reviewId),
+    CONSTRAINT fk_likes_user FOREIGN KEY (userNumber) REFERENCES Users (userNumber)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS Enrollment (
+    completionNumber  BIGINT      NOT NULL AUTO_INCREMENT,
+    completionType    VARCHAR(45) NULL,
+    completionYear    VARCHAR(45) NULL,
+    semester          VARCHAR(45) NULL,
+    userNumber        INT         NULL,
+    lecture_lectureId BIGINT      NOT NULL,
+    professor         VARCHAR(45) NULL,
+    PRIMARY KEY (completionNumber),
+    CONSTRAINT fk_enrollment_user FOREIGN KEY (userNumber) REFERENCES Users (userNumber),
+    CONSTRAINT fk_enrollment_lecture FOREIGN KEY (lecture_lectureId) REFERENCES Lectures (lectureId)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ImageUrl (
+    imageNumber BIGINT       NOT NULL AUTO_INCREMENT,
+    imageName   VARCHAR(255) NULL,
+    imageUrl    VARCHAR(255) NULL,
+    PRIMARY KEY (imageNumber)
+) ENGINE = InnoDB;
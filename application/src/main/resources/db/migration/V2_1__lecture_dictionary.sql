@@ -0,0 +1,20 @@
+-- 대학/학과 사전 테이블과 Lectures 의 사전 id 컬럼.
+-- 기존 행의 id 는 기동 시 LectureDictionaryBackfill 이 사전에 이름을 등록하며 채운다.
+
+ALTER TABLE Lectures
+    ADD COLUMN universityId INT NULL,
+    ADD COLUMN departmentId INT NULL;
+
+CREATE TABLE IF NOT EXISTS University (
+    universityId INT         NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(45) NOT NULL,
+    PRIMARY KEY (universityId),
+    UNIQUE KEY uk_university_name (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS Department (
+    departmentId INT         NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(45) NOT NULL,
+    PRIMARY KEY (departmentId),
+    UNIQUE KEY uk_department_name (name)
+) ENGINE = InnoDB;
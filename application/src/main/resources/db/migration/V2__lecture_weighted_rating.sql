@@ -0,0 +1,6 @@
+-- 베이지안 가중 별점 컬럼. 초기값은 평균 별점이며, 기동 후 LectureRatingPriorJob 의 첫 실행에서 대학별 사전값으로 다시 계산된다.
+
+ALTER TABLE Lectures
+    ADD COLUMN weighted_rating DOUBLE NULL;
+
+UPDATE Lectures SET weighted_rating = average_star_rating WHERE weighted_rating IS NULL;
@@ -0,0 +1,18 @@
+-- 조회 경로별 복합 인덱스. 이름은 엔티티의 @Table(indexes) 및 SchemaIndexVerifier 와 같아야 한다.
+
+-- 대학별 강의 목록(universityId 키셋), 가중 별점 순위, 강의명 조회
+CREATE INDEX idx_lectures_university_id_lecture_id ON Lectures (universityId, lectureId);
+CREATE INDEX idx_lectures_university_weighted_rating ON Lectures (university, weighted_rating);
+CREATE INDEX idx_lectures_lecture_name ON Lectures (lectureName);
+
+-- 강의별 후기 목록 findAllByLecIdOrderBy* : 강의로 거르고 정렬 컬럼 순서로 읽어 filesort 를 없앤다.
+CREATE INDEX idx_class_review_lec_star ON ClassReview (lecId, starLating);
+CREATE INDEX idx_class_review_lec_likes ON ClassReview (lecId, likes);
+CREATE INDEX idx_class_review_lec_create_date ON ClassReview (lecId, createDate);
+
+-- 학생당 강의 후기 1건. findByUserNumberAndLecId 도 이 인덱스로 단건 조회한다.
+-- 중복 후기가 남아 있으면 실패하므로, 적용 전에 중복을 정리해야 한다.
+CREATE UNIQUE INDEX uk_class_review_user_lecture ON ClassReview (userNumber, lecId);
+
+-- findByUserNumber_UserNumberAndLecture_LectureName : 학생의 수강 이력에서 강의로 조인
+CREATE INDEX idx_enrollment_user_lecture ON Enrollment (userNumber, lecture_lectureId);
@@ -0,0 +1,24 @@
+-- 강의별 별점 분포(1~5점) 카운터. 별점을 반올림한 별 개수 구간에 센다.
+
+ALTER TABLE Lectures
+    ADD COLUMN rating_count_1 BIGINT NULL,
+    ADD COLUMN rating_count_2 BIGINT NULL,
+    ADD COLUMN rating_count_3 BIGINT NULL,
+    ADD COLUMN rating_count_4 BIGINT NULL,
+    ADD COLUMN rating_count_5 BIGINT NULL;
+
+-- DOUBLE 의 ROUND 는 플랫폼에 따라 짝수 쪽으로 반올림하므로 StarRating.bucketOf 와 같게 FLOOR(x + 0.5) 로 센다.
+UPDATE Lectures l
+    LEFT JOIN (SELECT lecId,
+                      SUM(CASE WHEN FLOOR(starLating + 0.5) <= 1 THEN 1 ELSE 0 END) AS c1,
+                      SUM(CASE WHEN FLOOR(starLating + 0.5) = 2 THEN 1 ELSE 0 END)  AS c2,
+                      SUM(CASE WHEN FLOOR(starLating + 0.5) = 3 THEN 1 ELSE 0 END)  AS c3,
+                      SUM(CASE WHEN FLOOR(starLating + 0.5) = 4 THEN 1 ELSE 0 END)  AS c4,
+                      SUM(CASE WHEN FLOOR(starLating + 0.5) >= 5 THEN 1 ELSE 0 END) AS c5
+               FROM ClassReview
+               GROUP BY lecId) r ON r.lecId = l.lectureId
+SET l.rating_count_1 = COALESCE(r.c1, 0),
+    l.rating_count_2 = COALESCE(r.c2, 0),
+    l.rating_count_3 = COALESCE(r.c3, 0),
+    l.rating_count_4 = COALESCE(r.c4, 0),
+    l.rating_count_5 = COALESCE(r.c5, 0);
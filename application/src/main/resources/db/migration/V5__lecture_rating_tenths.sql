@@ -0,0 +1,13 @@
+-- 별점 합을 0.1점 단위 정수로 누적한다. total_star_rating, average_star_rating 은 이 값에서 계산한 조회용 값이 된다.
+
+ALTER TABLE Lectures
+    ADD COLUMN total_star_tenths BIGINT NULL;
+
+UPDATE Lectures
+SET total_star_tenths = FLOOR(COALESCE(total_star_rating, 0) * 10 + 0.5);
+
+UPDATE Lectures
+SET total_star_rating   = total_star_tenths / 10,
+    average_star_rating = CASE WHEN review_count > 0
+                               THEN ((2 * total_star_tenths + review_count) DIV (2 * review_count)) / 10
+                               ELSE 0 END;
@@ -0,0 +1,23 @@
+-- 강의별, 학기별 별점 집계. 3~8월에 쓴 후기는 그해 1학기, 9~12월은 그해 2학기, 1~2월은 전년도 2학기로 묶는다 (AcademicTerm).
+
+CREATE TABLE IF NOT EXISTS LectureSemesterRating (
+    semesterRatingId  BIGINT NOT NULL AUTO_INCREMENT,
+    lectureId         BIGINT NOT NULL,
+    ratingYear        INT    NOT NULL,
+    semester          INT    NOT NULL,
+    review_count      BIGINT NOT NULL,
+    total_star_tenths BIGINT NOT NULL,
+    PRIMARY KEY (semesterRatingId),
+    UNIQUE KEY uk_lecture_semester_rating (lectureId, ratingYear, semester)
+) ENGINE = InnoDB;
+
+INSERT INTO LectureSemesterRating (lectureId, ratingYear, semester, review_count, total_star_tenths)
+SELECT t.lecId, t.ratingYear, t.semester, COUNT(*), SUM(t.tenths)
+FROM (SELECT r.lecId,
+             CASE WHEN MONTH(r.createDate) <= 2 THEN YEAR(r.createDate) - 1 ELSE YEAR(r.createDate) END AS ratingYear,
+             CASE WHEN MONTH(r.createDate) BETWEEN 3 AND 8 THEN 1 ELSE 2 END                          AS semester,
+             FLOOR(r.starLating * 10 + 0.5)                                                           AS tenths
+      FROM ClassReview r
+      WHERE r.createDate IS NOT NULL
+        AND r.lecId IS NOT NULL) t
+GROUP BY t.lecId, t.ratingYear, t.semester;
@@ -0,0 +1,14 @@
+-- ClassReview, Likes, Enrollment, ImageUrl 의 id 를 AUTO_INCREMENT 대신 id_sequences 에서 50개씩 받아 쓴다 (IdSequences, @TableGenerator).
+-- Hibernate pooled 최적화기는 읽은 값 v 에 대해 (v - 50, v] 구간을 쓰므로, 현재 최대 id + 50 으로 시작해야 기존 id 와 겹치지 않는다.
+-- 기존 컬럼의 AUTO_INCREMENT 는 외래 키가 걸려 있어 그대로 두며, 애플리케이션은 모든 INSERT 에 id 를 직접 넣는다.
+
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT       NULL,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'ClassReview', COALESCE(MAX(reviewId), 0) + 50 FROM ClassReview;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'Likes', COALESCE(MAX(likeId), 0) + 50 FROM Likes;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'Enrollment', COALESCE(MAX(completionNumber), 0) + 50 FROM Enrollment;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'ImageUrl', COALESCE(MAX(imageNumber), 0) + 50 FROM ImageUrl;
@@ -0,0 +1,32 @@
+-- SQL 로 들어오는 강의 행에 universityId/departmentId 를 INSERT 시점에 채운다.
+-- 사전에 없는 이름은 University/Department 에 먼저 넣는다. 애플리케이션 사전에는 LectureDictionaryBackfill 이 조회 시 또는 다음 주기에 올린다.
+-- 이름이 바뀌는 UPDATE 도 같은 방식으로 id 를 다시 맞춘다.
+-- 바이너리 로그가 켜진 MySQL 에서 SUPER 권한 없이 적용하려면 log_bin_trust_function_creators = 1 이 필요하다.
+
+DELIMITER $$
+
+CREATE TRIGGER trg_lectures_dictionary_insert
+    BEFORE INSERT ON Lectures
+    FOR EACH ROW
+BEGIN
+    INSERT IGNORE INTO University (name) VALUES (NEW.university);
+    SET NEW.universityId = (SELECT universityId FROM University WHERE name = NEW.university);
+    INSERT IGNORE INTO Department (name) VALUES (NEW.department);
+    SET NEW.departmentId = (SELECT departmentId FROM Department WHERE name = NEW.department);
+END$$
+
+CREATE TRIGGER trg_lectures_dictionary_update
+    BEFORE UPDATE ON Lectures
+    FOR EACH ROW
+BEGIN
+    IF NOT (NEW.university <=> OLD.university) THEN
+        INSERT IGNORE INTO University (name) VALUES (NEW.university);
+        SET NEW.universityId = (SELECT universityId FROM University WHERE name = NEW.university);
+    END IF;
+    IF NOT (NEW.department <=> OLD.department) THEN
+        INSERT IGNORE INTO Department (name) VALUES (NEW.department);
+        SET NEW.departmentId = (SELECT departmentId FROM Department WHERE name = NEW.department);
+    END IF;
+END$$
+
+DELIMITER ;
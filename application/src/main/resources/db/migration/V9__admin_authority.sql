@@ -0,0 +1,6 @@
+-- /admin/** 는 ADMIN 권한을 요구하므로 권한 자체를 등록해 둔다 (SecurityConfig).
+-- 운영자 지정은 회원가입을 마친 학번에 권한을 직접 넣는다.
+--   INSERT INTO userAuthority (userNumber, authority) VALUES (<학번>, 'ADMIN');
+-- 권한은 로그인 시 발급하는 토큰에 담기므로 지정 후 다시 로그인해야 적용된다.
+
+INSERT IGNORE INTO authority (authority) VALUES ('ADMIN');
@@ -1,11 +1,16 @@
 insert into authority (authority) values ("STUDENT");
+insert into authority (authority) values ("ADMIN");
 
-insert into ImageUrl (imageName, imageUrl) values ("여자교수", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/professor.png"); # 1
-insert into ImageUrl (imageName, imageUrl) values ("main-banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/main-banner.png"); # 2
-insert into ImageUrl (imageName, imageUrl) values ("main-banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/main-banner2.png"); # 3
-insert into ImageUrl (imageName, imageUrl) values ("main-banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/main-banner3.png"); # 4
-insert into ImageUrl (imageName, imageUrl) values ("banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/banner.png"); # 5
-insert into ImageUrl (imageName, imageUrl) values ("banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/banner2.png"); # 6
-insert into ImageUrl (imageName, imageUrl) values ("banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/banner3.png"); # 7
-insert into ImageUrl (imageName, imageUrl) values ("icon", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/icon.png"); # 8
-insert into ImageUrl (imageName, imageUrl) values ("남자교수", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/refs/heads/image/%E1%84%82%E1%85%A1%E1%86%B7%E1%84%8C%E1%85%A1%E1%84%80%E1%85%AD%E1%84%89%E1%85%AE.png"); #9
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (1, "여자교수", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/professor.png"); # 1
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (2, "main-banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/main-banner.png"); # 2
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (3, "main-banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/main-banner2.png"); # 3
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (4, "main-banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/main-banner3.png"); # 4
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (5, "banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/banner.png"); # 5
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (6, "banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/banner2.png"); # 6
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (7, "banner", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/banner3.png"); # 7
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (8, "icon", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/image/icon.png"); # 8
+insert into ImageUrl (imageNumber, imageName, imageUrl) values (9, "남자교수", "https://raw.githubusercontent.com/UbSE-lab/class-review-site-page/refs/heads/image/%E1%84%82%E1%85%A1%E1%86%B7%E1%84%8C%E1%85%A1%E1%84%80%E1%85%AD%E1%84%89%E1%85%AE.png"); #9
+
+
+-- 위에서 id 를 직접 넣었으므로 ImageUrl id 는 10 부터 받는다 (IdSequences, (next_val - 50, next_val] 구간 사용)
+update id_sequences set next_val = 59 where sequence_name = "ImageUrl";
\ No newline at end of file
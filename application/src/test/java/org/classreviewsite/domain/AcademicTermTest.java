@@ -0,0 +1,38 @@
+package org.classreviewsite.domain;
+
+import org.classreviewsite.domain.lecture.AcademicTerm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AcademicTermTest {
+
+    @Test
+    @DisplayName("3~8월에 쓴 후기는 그해 1학기로 본다.")
+    void firstSemester() {
+        // when
+        AcademicTerm march = AcademicTerm.of(LocalDateTime.of(2024, 3, 1, 0, 0));
+        AcademicTerm august = AcademicTerm.of(LocalDateTime.of(2024, 8, 31, 23, 59));
+
+        // then
+        assertThat(march.getYear()).isEqualTo(2024);
+        assertThat(march.getSemester()).isEqualTo(1);
+        assertThat(august).isEqualTo(march);
+    }
+
+    @Test
+    @DisplayName("9~12월은 그해 2학기, 1~2월은 전년도 2학기로 본다.")
+    void secondSemester() {
+        // when
+        AcademicTerm september = AcademicTerm.of(LocalDateTime.of(2023, 9, 1, 0, 0));
+        AcademicTerm february = AcademicTerm.of(LocalDateTime.of(2024, 2, 29, 12, 0));
+
+        // then
+        assertThat(september.getYear()).isEqualTo(2023);
+        assertThat(september.getSemester()).isEqualTo(2);
+        assertThat(february).isEqualTo(september);
+    }
+}
@@ -75,4 +75,51 @@ public class StarRatingTest {
         assertThat(starRating.getTotalRating()).isEqualTo(0.0);
         assertThat(starRating.getReviewCount()).isEqualTo(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("별점은 반올림한 별 개수 구간에 세고, 삭제하면 같은 구간에서 뺀다.")
+    void shouldCountRatingHistogramByRoundedStars() {
+        StarRating starRating = StarRating.createRatingBuilder();
+        starRating.addRating(4.0);
+        starRating.addRating(4.5);
+        starRating.addRating(0.5);
+
+        assertThat(starRating.getRatingHistogram()).containsExactly(1L, 0L, 0L, 1L, 1L);
+
+        starRating.removeRating(4.5);
+        assertThat(starRating.getRatingHistogram()).containsExactly(1L, 0L, 0L, 1L, 0L);
+    }
+
+    @Test
+    @DisplayName("별점을 여러 번 더하고 빼도 총 별점에 오차가 쌓이지 않는다.")
+    void shouldKeepTotalRatingExactAfterRepeatedUpdates() {
+        StarRating starRating = StarRating.createRatingBuilder();
+        for (int i = 0; i < 30; i++) {
+            starRating.addRating(0.1);
+        }
+        for (int i = 0; i < 10; i++) {
+            starRating.removeRating(0.1);
+        }
+
+        assertThat(starRating.getTotalRating()).isEqualTo(2.0);
+        assertThat(starRating.getTotalTenths()).isEqualTo(20L);
+        assertThat(starRating.getAverageRating()).isEqualTo(0.1);
+    }
+
+    @Test
+    @DisplayName("평균 별점은 소수 첫째 자리에서 반올림해 저장하고, 별점 수정은 후기 수를 바꾸지 않는다.")
+    void shouldRoundAverageRatingAndUpdateExactly() {
+        StarRating starRating = StarRating.createRatingBuilder();
+        starRating.addRating(5.0);
+        starRating.addRating(4.0);
+        starRating.addRating(4.0);
+
+        assertThat(starRating.getAverageRating()).isEqualTo(4.3);
+
+        starRating.updateRating(4.0, 4.5);
+        assertThat(starRating.getReviewCount()).isEqualTo(3L);
+        assertThat(starRating.getTotalRating()).isEqualTo(13.5);
+        assertThat(starRating.getAverageRating()).isEqualTo(4.5);
+        assertThat(starRating.getRatingHistogram()).containsExactly(0L, 0L, 0L, 1L, 2L);
+    }
+}
@@ -0,0 +1,84 @@
+package org.classreviewsite.endpoint;
+
+import org.classreviewsite.review.controller.AssetController;
+import org.classreviewsite.review.service.ImageUrlService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AssetController.class)
+@DisplayName("AssetController 엔드포인트 테스트")
+class AssetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImageUrlService imageUrlService;
+
+    @Nested
+    @DisplayName("이미지 주소 목록 조회 테스트")
+    class manifestTest {
+
+        @Test
+        @DisplayName("이미지 이름별 주소 목록과 ETag 를 반환한다")
+        @WithMockUser
+        void manifest() throws Exception {
+            // given
+            given(imageUrlService.version()).willReturn("0123456789abcdef");
+            given(imageUrlService.manifest()).willReturn(Map.of("main-banner", List.of("https://example.com/main-banner.png")));
+
+            // when & then
+            mockMvc.perform(get("/assets/manifest"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"assets-0123456789abcdef\""))
+                    .andExpect(jsonPath("$.data.version").value("0123456789abcdef"))
+                    .andExpect(jsonPath("$.data.images['main-banner'][0]").value("https://example.com/main-banner.png"));
+        }
+
+        @Test
+        @DisplayName("If-None-Match 가 현재 버전과 같으면 304 를 반환한다")
+        @WithMockUser
+        void notModified() throws Exception {
+            // given
+            given(imageUrlService.version()).willReturn("0123456789abcdef");
+
+            // when & then
+            mockMvc.perform(get("/assets/manifest")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"assets-0123456789abcdef\""))
+                    .andExpect(status().isNotModified());
+            verify(imageUrlService, never()).manifest();
+        }
+    }
+
+    @Test
+    @DisplayName("이미지 주소를 다시 읽고 읽은 개수를 반환한다")
+    @WithMockUser(authorities = "ADMIN")
+    void reload() throws Exception {
+        // given
+        given(imageUrlService.reload()).willReturn(9);
+
+        // when & then
+        mockMvc.perform(post("/admin/assets/reload")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(9));
+    }
+}
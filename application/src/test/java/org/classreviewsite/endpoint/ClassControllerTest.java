@@ -3,17 +3,25 @@ package org.classreviewsite.endpoint;
 import org.classreviewsite.domain.lecture.LectureType;
 import org.classreviewsite.lecture.controller.ClassController;
 import org.classreviewsite.lecture.controller.data.response.EnrollmentResponse;
+import org.classreviewsite.lecture.controller.data.response.LectureTrendResponse;
+import org.classreviewsite.lecture.service.CatalogResponseCache;
 import org.classreviewsite.lecture.service.EnrollmentDataService;
+import org.classreviewsite.lecture.service.LecturePageService;
+import org.classreviewsite.lecture.service.LectureTrendService;
+import org.classreviewsite.lecture.service.LectureVersionRegistry;
 import org.classreviewsite.review.controller.data.Response.ClassListResponse;
 import org.classreviewsite.review.controller.data.Response.ClassListWithProfessorResponse;
 import org.classreviewsite.review.service.ClassListAndDetailService;
+import org.classreviewsite.review.service.ImageUrlService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,6 +29,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +48,21 @@ class ClassControllerTest {
     @MockBean
     private ClassListAndDetailService classListAndDetailService;
 
+    @MockBean
+    private LectureVersionRegistry lectureVersionRegistry;
+
+    @MockBean
+    private CatalogResponseCache catalogResponseCache;
+
+    @MockBean
+    private LecturePageService lecturePageService;
+
+    @MockBean
+    private LectureTrendService lectureTrendService;
+
+    @MockBean
+    private ImageUrlService imageUrlService;
+
     @Nested
     @DisplayName("강의 목록 조회 테스트")
     class classListTest {
@@ -67,6 +92,92 @@ class ClassControllerTest {
                     .andExpect(jsonPath("$.data").isNotEmpty());
         }
         
+        @Test
+        @DisplayName("If-None-Match 가 현재 버전과 같으면 본문 없이 304 를 반환한다")
+        @WithMockUser
+        void notModified() throws Exception {
+            // given
+            String university = "한국대학교";
+            given(lectureVersionRegistry.universityETag(university)).willReturn("abc-3");
+
+            // when & then
+            mockMvc.perform(get("/class")
+                            .param("university", university)
+                            .header("If-None-Match", "\"abc-3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"abc-3\""));
+            verify(classListAndDetailService, never()).get(university);
+        }
+
+        @Test
+        @DisplayName("버전이 바뀌었으면 새 ETag 와 함께 본문을 반환한다")
+        @WithMockUser
+        void modified() throws Exception {
+            // given
+            String university = "한국대학교";
+            given(lectureVersionRegistry.universityETag(university)).willReturn("abc-4");
+            given(classListAndDetailService.get(university)).willReturn(List.of(createMockClassListResponse(1L, "자바프로그래밍")));
+
+            // when & then
+            mockMvc.perform(get("/class")
+                            .param("university", university)
+                            .header("If-None-Match", "\"abc-3\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"abc-4\""));
+        }
+
+        @Test
+        @DisplayName("gzip 본문은 -gz 가 붙은 ETag 로만 304 를 반환한다")
+        @WithMockUser
+        void notModifiedPerEncoding() throws Exception {
+            // given
+            String university = "한국대학교";
+            given(lectureVersionRegistry.universityETag(university)).willReturn("abc-5");
+            given(catalogResponseCache.findCatalog(university, "abc-5", "gzip")).willReturn(ResponseEntity.ok()
+                    .eTag("abc-5-gz")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(new byte[]{31, -117}));
+
+            // when & then
+            mockMvc.perform(get("/class")
+                            .param("university", university)
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                            .header("If-None-Match", "\"abc-5\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"abc-5-gz\""))
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+            mockMvc.perform(get("/class")
+                            .param("university", university)
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                            .header("If-None-Match", "\"abc-5-gz\""))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @DisplayName("강의 상세의 ETag 에는 이미지 목록 버전이 붙어, 교수 이미지가 바뀌면 304 를 반환하지 않는다")
+        @WithMockUser
+        void detailETagFollowsImages() throws Exception {
+            // given
+            String university = "한국대학교";
+            Long lectureId = 1L;
+            given(lectureVersionRegistry.lectureETag(lectureId)).willReturn("abc-7");
+            given(imageUrlService.version()).willReturn("0123456789abcdef", "fedcba9876543210");
+            given(classListAndDetailService.detail(lectureId)).willReturn(createMockClassDetailResponse(lectureId, "자바프로그래밍", "김교수"));
+
+            // when & then
+            mockMvc.perform(get("/class")
+                            .param("university", university)
+                            .param("lectureId", String.valueOf(lectureId))
+                            .header("If-None-Match", "\"abc-7-0123456789abcdef\""))
+                    .andExpect(status().isNotModified());
+            mockMvc.perform(get("/class")
+                            .param("university", university)
+                            .param("lectureId", String.valueOf(lectureId))
+                            .header("If-None-Match", "\"abc-7-0123456789abcdef\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"abc-7-fedcba9876543210\""));
+        }
+
         @Test
         @DisplayName("대학명과 강의ID로 강의 상세 조회 시, 성공 응답을 반환한다")
         @WithMockUser
@@ -150,6 +261,45 @@ class ClassControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("강의 별점 추이 조회 테스트")
+    class lectureTrendTest {
+
+        @Test
+        @DisplayName("강의 id 로 조회 시, 학기별 후기 수와 평균 별점을 반환한다")
+        @WithMockUser
+        void getLectureTrend() throws Exception {
+            // given
+            given(lectureTrendService.trend(1L)).willReturn(List.of(
+                    new LectureTrendResponse(2023, 2, 3L, 4.3),
+                    new LectureTrendResponse(2024, 1, 1L, 5.0)
+            ));
+
+            // when & then
+            mockMvc.perform(get("/class/1/trend"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].year").value(2023))
+                    .andExpect(jsonPath("$.data[0].semester").value(2))
+                    .andExpect(jsonPath("$.data[0].averageRating").value(4.3))
+                    .andExpect(jsonPath("$.data[1].reviewCount").value(1));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 강의로 조회 시, 401 상태를 반환한다")
+        @WithMockUser
+        void getLectureTrendWithUnknownLecture() throws Exception {
+            // given
+            given(lectureTrendService.trend(99L))
+                    .willThrow(new org.classreviewsite.handler.exception.LectureNotFoundException("존재하지 않는 강의입니다."));
+
+            // when & then
+            mockMvc.perform(get("/class/99/trend"))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
     @Nested
     @DisplayName("내 수강 정보 조회 테스트")
     class myClassListTest {
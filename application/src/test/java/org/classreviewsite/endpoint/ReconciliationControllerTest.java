@@ -0,0 +1,66 @@
+package org.classreviewsite.endpoint;
+
+import org.classreviewsite.review.controller.ReconciliationController;
+import org.classreviewsite.review.controller.data.Response.ReconciliationReport;
+import org.classreviewsite.review.service.CounterReconciler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReconciliationController.class)
+@DisplayName("ReconciliationController 엔드포인트 테스트")
+class ReconciliationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CounterReconciler counterReconciler;
+
+    @Test
+    @DisplayName("GET 은 값을 고치지 않고 점검 결과만 반환한다")
+    @WithMockUser(authorities = "ADMIN")
+    void checkRatings() throws Exception {
+        // given
+        given(counterReconciler.reconcileRatings(false))
+                .willReturn(new ReconciliationReport("ratings", true, 120L, 2L, 0L, 0L, 0, List.of(3L, 7L), 15L));
+
+        // when & then
+        mockMvc.perform(get("/admin/reconcile/ratings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.dryRun").value(true))
+                .andExpect(jsonPath("$.data.mismatched").value(2))
+                .andExpect(jsonPath("$.data.sampleIds[1]").value(7));
+        verify(counterReconciler, never()).reconcileRatings(true);
+    }
+
+    @Test
+    @DisplayName("POST 는 어긋난 좋아요 수를 고치고 수리 결과를 반환한다")
+    @WithMockUser(authorities = "ADMIN")
+    void repairLikes() throws Exception {
+        // given
+        given(counterReconciler.reconcileLikes(true))
+                .willReturn(new ReconciliationReport("likes", false, 300L, 1L, 1L, 0L, 0, List.of(11L), 20L));
+
+        // when & then
+        mockMvc.perform(post("/admin/reconcile/likes")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.target").value("likes"))
+                .andExpect(jsonPath("$.data.repaired").value(1));
+    }
+}
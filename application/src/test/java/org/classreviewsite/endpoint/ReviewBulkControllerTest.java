@@ -0,0 +1,54 @@
+package org.classreviewsite.endpoint;
+
+import org.classreviewsite.review.controller.ReviewBulkController;
+import org.classreviewsite.review.controller.data.Response.BulkReviewResponse;
+import org.classreviewsite.review.service.ReviewBulkWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReviewBulkController.class)
+@DisplayName("ReviewBulkController 엔드포인트 테스트")
+class ReviewBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReviewBulkWriter reviewBulkWriter;
+
+    @Test
+    @DisplayName("등록 결과와 건너뛴 후기의 위치, 사유를 반환한다")
+    @WithMockUser(authorities = "ADMIN")
+    void writeReviews() throws Exception {
+        // given
+        given(reviewBulkWriter.write(argThat(reviews -> reviews.size() == 2)))
+                .willReturn(new BulkReviewResponse(2, 1, List.of(new BulkReviewResponse.Failure(1, "자료구조", 20191435, "수강 내역이 존재하지 않습니다."))));
+        String body = "{\"reviews\":[" +
+                "{\"lectureName\":\"자료구조\",\"userNumber\":20191434,\"starLating\":4.5,\"postTitle\":\"제목\",\"postContent\":\"내용\"}," +
+                "{\"lectureName\":\"자료구조\",\"userNumber\":20191435,\"starLating\":3.0,\"postTitle\":\"제목\",\"postContent\":\"내용\"}]}";
+
+        // when & then
+        mockMvc.perform(post("/admin/review/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.inserted").value(1))
+                .andExpect(jsonPath("$.data.failures[0].index").value(1))
+                .andExpect(jsonPath("$.data.failures[0].message").value("수강 내역이 존재하지 않습니다."));
+    }
+}
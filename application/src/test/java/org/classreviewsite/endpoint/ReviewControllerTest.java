@@ -7,7 +7,13 @@ import org.classreviewsite.review.controller.data.Request.DeleteReviewRequest;
 import org.classreviewsite.review.controller.data.Request.LikeRequest;
 import org.classreviewsite.review.controller.data.Request.UpdateReviewRequest;
 import org.classreviewsite.review.controller.data.Response.ReviewMeResponse;
+import org.classreviewsite.review.controller.data.Response.ReviewResponse;
+import org.classreviewsite.review.service.ReviewFinder;
 import org.classreviewsite.review.service.ReviewService;
+import org.classreviewsite.review.service.ReviewSort;
+import org.classreviewsite.handler.exception.ReviewNotFoundException;
+import org.classreviewsite.user.controller.data.response.UserResponse;
+import org.classreviewsite.util.CursorPage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -22,6 +28,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -42,6 +49,9 @@ class ReviewControllerTest {
     @MockBean
     private ReviewService reviewService;
 
+    @MockBean
+    private ReviewFinder reviewFinder;
+
     @Nested
     @DisplayName("수강후기 목록 조회 테스트")
     class reviewListTest {
@@ -55,6 +65,59 @@ class ReviewControllerTest {
                     .andDo(print())
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("정렬 기준을 주면 해당 정렬의 첫 페이지와 다음 커서를 반환한다")
+        @WithMockUser
+        void getReviewListWithSort() throws Exception {
+            // given
+            CursorPage<ReviewResponse> page = CursorPage.of(List.of(createMockReviewResponse(3L, 12)), "next");
+            given(reviewFinder.findPage(1L, ReviewSort.LIKES_DESC, null, 1)).willReturn(page);
+
+            // when & then
+            mockMvc.perform(get("/review")
+                            .param("lectureId", "1")
+                            .param("sort", "LIKES_DESC")
+                            .param("size", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("수강 후기 좋아요 높은 순 조회입니다."))
+                    .andExpect(jsonPath("$.data.items[0].postId").value(3))
+                    .andExpect(jsonPath("$.data.nextCursor").value("next"));
+        }
+
+        @Test
+        @DisplayName("정렬 기준 없이 lowness=true 로 요청하면 별점 낮은 순으로 조회한다")
+        @WithMockUser
+        void getReviewListWithLegacyFlag() throws Exception {
+            // given
+            given(reviewFinder.findPage(1L, ReviewSort.STAR_ASC, null, null))
+                    .willReturn(CursorPage.last(List.of(createMockReviewResponse(1L, 0))));
+
+            // when & then
+            mockMvc.perform(get("/review")
+                            .param("lectureId", "1")
+                            .param("lowness", "true"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("수강 후기 별점 낮은 순 조회입니다."))
+                    .andExpect(jsonPath("$.data.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("후기가 없는 강의는 202 상태를 반환한다")
+        @WithMockUser
+        void getReviewListWithNoReviews() throws Exception {
+            // given
+            given(reviewFinder.findPage(any(), any(), isNull(), isNull()))
+                    .willThrow(new ReviewNotFoundException("수강 후기가 어디에도 없습니다."));
+
+            // when & then
+            mockMvc.perform(get("/review")
+                            .param("lectureId", "1"))
+                    .andDo(print())
+                    .andExpect(jsonPath("$.status").value(202));
+        }
     }
 
     @Nested
@@ -215,7 +278,7 @@ class ReviewControllerTest {
                 createMockReviewMeResponse(2L, "내가 쓴 리뷰 2")
             );
             
-            given(reviewService.findMyReview(userNumber))
+            given(reviewFinder.findMyReview(userNumber))
                     .willReturn(mockResponse);
             
             // when & then
@@ -240,6 +303,10 @@ class ReviewControllerTest {
     }
 
     // 헬퍼 메서드들
+    private ReviewResponse createMockReviewResponse(Long postId, int likes) {
+        return new ReviewResponse(postId, "제목", "내용", 4.5, likes, "2024-3-5", UserResponse.of(20230857, "닉네임"));
+    }
+
     private ReviewMeResponse createMockReviewMeResponse(Long reviewId, String title) {
         return ReviewMeResponse.builder()
                 .reviewId(reviewId)
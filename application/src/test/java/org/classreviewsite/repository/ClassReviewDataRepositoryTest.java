@@ -5,11 +5,14 @@ import org.classreviewsite.domain.lecture.LectureType;
 import org.classreviewsite.domain.lecture.StarRating;
 import org.classreviewsite.domain.review.ClassReview;
 import org.classreviewsite.domain.review.ClassReviewDataRepository;
+import org.classreviewsite.domain.review.ReviewSummary;
+import org.classreviewsite.domain.review.UserReviewSummary;
 import org.classreviewsite.domain.user.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,22 +26,6 @@ public class ClassReviewDataRepositoryTest {
 
     @Autowired private ClassReviewDataRepository classReviewDataRepository;
 
-    @Test
-    @DisplayName("강의 ID로 수강후기 목록을 조회한다")
-    void findAllByLectureId() {
-        // given
-        Long lectureId = 1L;
-
-        // when
-        List<ClassReview> result = classReviewDataRepository.findAll(lectureId);
-
-        // then
-        assertThat(result).isNotNull();
-        if (!result.isEmpty()) {
-            assertThat(result.get(0).getLecId().getLectureId()).isEqualTo(lectureId);
-        }
-    }
-
     @Test
     @DisplayName("사용자 번호와 강의 ID로 수강후기를 조회한다")
     void findByUserNumberAndLecId() {
@@ -68,118 +55,34 @@ public class ClassReviewDataRepositoryTest {
     }
 
     @Test
-    @DisplayName("강의별 수강후기를 별점 내림차순으로 조회한다")
-    void findAllByLecIdOrderByStarLatingDesc() {
-        // given
-        Lecture testLecture = new Lecture(1L, "테스트강의", StarRating.createRatingBuilder(),
-                                        "소프트웨어학과", "한국대학교", "테스트교수", LectureType.전공필수, 0L);
-
-        // when
-        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByStarLatingDesc(testLecture);
-
-        // then
-        assertThat(result).isNotNull();
-        if (result.size() > 1) {
-            // 별점이 내림차순으로 정렬되었는지 확인
-            for (int i = 0; i < result.size() - 1; i++) {
-                assertThat(result.get(i).getStarLating()).isGreaterThanOrEqualTo(result.get(i + 1).getStarLating());
-            }
-        }
-    }
-
-    @Test
-    @DisplayName("강의별 수강후기를 별점 오름차순으로 조회한다")
-    void findAllByLecIdOrderByStarLatingAsc() {
-        // given
-        Lecture testLecture = new Lecture(1L, "테스트강의", StarRating.createRatingBuilder(),
-                                        "소프트웨어학과", "한국대학교", "테스트교수", LectureType.전공필수, 0L);
-
-        // when
-        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByStarLatingAsc(testLecture);
-
-        // then
-        assertThat(result).isNotNull();
-        if (result.size() > 1) {
-            // 별점이 오름차순으로 정렬되었는지 확인
-            for (int i = 0; i < result.size() - 1; i++) {
-                assertThat(result.get(i).getStarLating()).isLessThanOrEqualTo(result.get(i + 1).getStarLating());
-            }
-        }
-    }
-
-//    @Test
-//    @DisplayName("강의별 수강후기를 좋아요 내림차순으로 조회한다")
-//    void findAllByLecIdOrderByLikesDesc() {
-//        // given
-//        Lecture testLecture = new Lecture(1L, "테스트강의", StarRating.createRatingBuilder(),
-//                                        "소프트웨어학과", "한국대학교", "테스트교수", LectureType.전공필수);
-//
-//        // when
-//        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByLikesDesc(testLecture);
-//
-//        // then
-//        assertThat(result).isNotNull();
-//        if (result.size() > 1) {
-//            // 좋아요가 내림차순으로 정렬되었는지 확인
-//            for (int i = 0; i < result.size() - 1; i++) {
-//                assertThat(result.get(i).getLikes()).isGreaterThanOrEqualTo(result.get(i + 1).getLikes());
-//            }
-//        }
-//    }
-
-//    @Test
-//    @DisplayName("강의별 수강후기를 좋아요 오름차순으로 조회한다")
-//    void findAllByLecIdOrderByLikesAsc() {
-//        // given
-//        Lecture testLecture = new Lecture(1L, "테스트강의", StarRating.createRatingBuilder(),
-//                                        "소프트웨어학과", "한국대학교", "테스트교수", LectureType.전공필수);
-//
-//        // when
-//        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByLikesAsc(testLecture);
-//
-//        // then
-//        assertThat(result).isNotNull();
-//        if (result.size() > 1) {
-//            // 좋아요가 오름차순으로 정렬되었는지 확인
-//            for (int i = 0; i < result.size() - 1; i++) {
-//                assertThat(result.get(i).getLikes()).isLessThanOrEqualTo(result.get(i + 1).getLikes());
-//            }
-//        }
-//    }
-
-    @Test
-    @DisplayName("강의별 수강후기를 생성일자 내림차순으로 조회한다")
-    void findAllByLecIdOrderByCreatedDateDesc() {
+    @DisplayName("사용자 번호로 해당 사용자의 수강후기 목록을 조회한다")
+    void findByUserNumber() {
         // given
-        Lecture testLecture = new Lecture(1L, "테스트강의", StarRating.createRatingBuilder(),
-                                        "소프트웨어학과", "한국대학교", "테스트교수", LectureType.전공필수, 0L);
+        int userNumber = 20191434;
 
         // when
-        List<ClassReview> result = classReviewDataRepository.findAllByLecIdOrderByCreatedDateDesc(testLecture);
+        List<ClassReview> result = classReviewDataRepository.findByUserNumber(userNumber);
 
         // then
         assertThat(result).isNotNull();
-        if (result.size() > 1) {
-            // 생성일자가 내림차순으로 정렬되었는지 확인
-            for (int i = 0; i < result.size() - 1; i++) {
-                assertThat(result.get(i).getCreatedDate()).isAfterOrEqualTo(result.get(i + 1).getCreatedDate());
-            }
+        if (!result.isEmpty()) {
+            assertThat(result.get(0).getUserNumber().getUserNumber()).isEqualTo(userNumber);
         }
     }
 
     @Test
-    @DisplayName("사용자 번호로 해당 사용자의 수강후기 목록을 조회한다")
-    void findByUserNumber() {
+    @DisplayName("사용자 번호로 수강후기 목록을 프로젝션으로 조회한다")
+    void findSummariesByUserNumber() {
         // given
         int userNumber = 20191434;
 
         // when
-        List<ClassReview> result = classReviewDataRepository.findByUserNumber(userNumber);
+        List<UserReviewSummary> result = classReviewDataRepository.findSummariesByUserNumber(userNumber);
 
         // then
         assertThat(result).isNotNull();
         if (!result.isEmpty()) {
-            assertThat(result.get(0).getUserNumber().getUserNumber()).isEqualTo(userNumber);
+            assertThat(result.get(0).getLectureName()).isNotNull();
         }
     }
 
@@ -208,4 +111,47 @@ public class ClassReviewDataRepositoryTest {
             assertThat(result.get().getUserNumber().getUserNumber()).isEqualTo(testUser.getUserNumber());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("강의별 수강후기를 별점 내림차순, 같은 별점은 reviewId 내림차순 키셋 페이지로 조회한다")
+    void findSummaryPageOrderByStarLatingDesc() {
+        // given
+        Long lectureId = 1L;
+
+        // when
+        List<ReviewSummary> result = classReviewDataRepository.findSummaryPageOrderByStarLatingDesc(
+                lectureId, Double.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 5));
+
+        // then
+        assertThat(result).hasSizeLessThanOrEqualTo(5);
+        for (int i = 1; i < result.size(); i++) {
+            ReviewSummary before = result.get(i - 1);
+            ReviewSummary after = result.get(i);
+            assertThat(before.getStarLating()).isGreaterThanOrEqualTo(after.getStarLating());
+            if (before.getStarLating().equals(after.getStarLating())) {
+                assertThat(before.getReviewId()).isGreaterThan(after.getReviewId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("강의별 수강후기를 작성 시각 내림차순, 같은 시각은 reviewId 내림차순 키셋 페이지로 조회한다")
+    void findSummaryPageOrderByCreatedDateDesc() {
+        // given
+        Long lectureId = 1L;
+
+        // when
+        List<ReviewSummary> first = classReviewDataRepository.findSummaryPageOrderByCreatedDateDesc(lectureId, PageRequest.of(0, 2));
+
+        // then
+        assertThat(first).hasSizeLessThanOrEqualTo(2);
+        if (first.size() == 2) {
+            ReviewSummary before = first.get(0);
+            ReviewSummary after = first.get(1);
+            assertThat(before.getCreatedDate()).isAfterOrEqualTo(after.getCreatedDate());
+            List<ReviewSummary> next = classReviewDataRepository.findSummaryPageOrderByCreatedDateDesc(
+                    lectureId, after.getCreatedDate(), after.getReviewId(), PageRequest.of(0, 2));
+            assertThat(next).extracting(ReviewSummary::getReviewId).doesNotContain(before.getReviewId(), after.getReviewId());
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -125,4 +126,19 @@ public class ImageUrlDataRepositoryTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("새 이미지 ID 는 INSERT 전에 미리 받은 구간에서 차례로 나눠 받는다")
+    void generateIdsBeforeInsert() {
+        // given
+        ImageUrl first = ImageUrl.builder().imageName("banner").imageUrl("/banner4.png").build();
+        ImageUrl second = ImageUrl.builder().imageName("banner").imageUrl("/banner5.png").build();
+
+        // when
+        List<ImageUrl> saved = imageUrlDataRepository.saveAll(List.of(first, second));
+
+        // then
+        assertThat(saved.get(0).getImageNumber()).isNotNull();
+        assertThat(saved.get(1).getImageNumber()).isEqualTo(saved.get(0).getImageNumber() + 1);
+    }
+}
@@ -0,0 +1,69 @@
+package org.classreviewsite.repository;
+
+import org.classreviewsite.domain.lecture.LectureSemesterRating;
+import org.classreviewsite.domain.lecture.LectureSemesterRatingDataRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * upsertRating 은 MySQL 의 ON DUPLICATE KEY UPDATE 를 쓰므로, test 프로필의 MySQL 호환 모드 H2 로 돌린다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class LectureSemesterRatingDataRepositoryTest {
+
+    @Autowired private LectureSemesterRatingDataRepository lectureSemesterRatingDataRepository;
+
+    @Test
+    @DisplayName("학기의 첫 후기는 행을 만들고, 같은 학기의 다음 후기는 그 행에 더한다.")
+    void upsertAccumulates() {
+        // when
+        lectureSemesterRatingDataRepository.upsertRating(1L, 2024, 1, 1L, 45L);
+        lectureSemesterRatingDataRepository.upsertRating(1L, 2024, 1, 1L, 30L);
+
+        // then
+        List<LectureSemesterRating> trend = lectureSemesterRatingDataRepository.findTrendByLectureId(1L);
+        assertThat(trend).hasSize(1);
+        assertThat(trend.get(0).getReviewCount()).isEqualTo(2L);
+        assertThat(trend.get(0).getTotalTenths()).isEqualTo(75L);
+    }
+
+    @Test
+    @DisplayName("음수 변화량은 0 아래로 내려가지 않고, 후기가 0 개인 학기는 추이에 나오지 않는다.")
+    void upsertClampsNegativeDelta() {
+        // given
+        lectureSemesterRatingDataRepository.upsertRating(2L, 2024, 2, 1L, 40L);
+
+        // when
+        lectureSemesterRatingDataRepository.upsertRating(2L, 2024, 2, -2L, -90L);
+
+        // then
+        List<LectureSemesterRating> rows = lectureSemesterRatingDataRepository.findAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getReviewCount()).isEqualTo(0L);
+        assertThat(rows.get(0).getTotalTenths()).isEqualTo(0L);
+        assertThat(lectureSemesterRatingDataRepository.findTrendByLectureId(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정이나 삭제로 먼저 만들어진 행은 별점 합 없이 0 으로 남는다.")
+    void upsertWithoutAddedReview() {
+        // when
+        lectureSemesterRatingDataRepository.upsertRating(3L, 2023, 2, 0L, 10L);
+
+        // then
+        List<LectureSemesterRating> rows = lectureSemesterRatingDataRepository.findAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getReviewCount()).isEqualTo(0L);
+        assertThat(rows.get(0).getTotalTenths()).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,138 @@
+package org.classreviewsite.repository;
+
+import org.classreviewsite.config.SchemaIndexVerifier;
+import org.classreviewsite.config.SchemaIndexVerifier.ExpectedIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class SchemaIndexVerifierTest {
+
+    @Mock DataSource dataSource;
+    @Mock Connection connection;
+    @Mock DatabaseMetaData metaData;
+
+    SchemaIndexVerifier schemaIndexVerifier;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        schemaIndexVerifier = new SchemaIndexVerifier(dataSource);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.getMetaData()).willReturn(metaData);
+        given(metaData.getIndexInfo(any(), isNull(), any(), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> indexRows());
+    }
+
+    @Test
+    @DisplayName("기대하는 인덱스가 모두 있으면 기동을 계속한다.")
+    void allIndexesPresent() throws SQLException {
+        // given
+        for (ExpectedIndex expected : SchemaIndexVerifier.EXPECTED_INDEXES) {
+            givenIndexes(expected.getTable(), expected.getTable().toUpperCase());
+        }
+        given(metaData.storesUpperCaseIdentifiers()).willReturn(true);
+
+        // when
+        List<ExpectedIndex> missing = schemaIndexVerifier.findMissing(metaData, null);
+
+        // then
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    @DisplayName("선두 컬럼 순서가 다른 인덱스는 기대하는 인덱스로 보지 않는다.")
+    void columnOrderMismatch() throws SQLException {
+        // given
+        for (ExpectedIndex expected : SchemaIndexVerifier.EXPECTED_INDEXES) {
+            givenIndexes(expected.getTable(), expected.getTable());
+        }
+        given(metaData.getIndexInfo(any(), isNull(), eq("ClassReview"), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> indexRows(
+                        row("idx_lec_star", 1, "lecId", false), row("idx_lec_star", 2, "starLating", false),
+                        row("idx_lec_likes", 1, "lecId", false), row("idx_lec_likes", 2, "likes", false),
+                        row("idx_lec_date", 1, "createDate", false), row("idx_lec_date", 2, "lecId", false),
+                        row("uk_user_lec", 1, "userNumber", true), row("uk_user_lec", 2, "lecId", true)));
+
+        // when
+        List<ExpectedIndex> missing = schemaIndexVerifier.findMissing(metaData, null);
+
+        // then
+        assertThat(missing).extracting(ExpectedIndex::getColumns).containsExactly(List.of("lecId", "createDate"));
+    }
+
+    @Test
+    @DisplayName("유니크여야 하는 인덱스가 일반 인덱스로만 있으면 없는 것으로 본다.")
+    void uniqueRequired() throws SQLException {
+        // given
+        given(metaData.getIndexInfo(any(), isNull(), eq("ClassReview"), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> indexRows(
+                        row("idx_user_lec", 1, "userNumber", false), row("idx_user_lec", 2, "lecId", false)));
+
+        // when
+        List<ExpectedIndex> missing = schemaIndexVerifier.findMissing(metaData, null);
+
+        // then
+        assertThat(missing).anyMatch(index -> index.isUnique() && index.getColumns().equals(List.of("userNumber", "lecId")));
+    }
+
+    @Test
+    @DisplayName("인덱스가 하나라도 없으면 기동을 멈춘다.")
+    void failFast() {
+        assertThatThrownBy(() -> schemaIndexVerifier.run(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ClassReview UNIQUE[userNumber, lecId]");
+    }
+
+    private void givenIndexes(String table, String storedTable) throws SQLException {
+        List<Object[]> rows = new ArrayList<>();
+        for (ExpectedIndex index : SchemaIndexVerifier.EXPECTED_INDEXES) {
+            if (!index.getTable().equals(table)) {
+                continue;
+            }
+            for (int i = 0; i < index.getColumns().size(); i++) {
+                rows.add(row(index.toString(), i + 1, index.getColumns().get(i).toUpperCase(), index.isUnique()));
+            }
+        }
+        given(metaData.getIndexInfo(any(), isNull(), eq(storedTable), anyBoolean(), anyBoolean()))
+                .willAnswer(invocation -> indexRows(rows.toArray(new Object[0][])));
+    }
+
+    private Object[] row(String indexName, int position, String column, boolean unique) {
+        return new Object[]{indexName, (short) position, column, !unique};
+    }
+
+    private ResultSet indexRows(Object[]... rows) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        int[] cursor = {-1};
+        given(resultSet.next()).willAnswer(invocation -> ++cursor[0] < rows.length);
+        given(resultSet.getString("INDEX_NAME")).willAnswer(invocation -> rows[cursor[0]][0]);
+        given(resultSet.getShort("ORDINAL_POSITION")).willAnswer(invocation -> rows[cursor[0]][1]);
+        given(resultSet.getString("COLUMN_NAME")).willAnswer(invocation -> rows[cursor[0]][2]);
+        given(resultSet.getBoolean("NON_UNIQUE")).willAnswer(invocation -> rows[cursor[0]][3]);
+        return resultSet;
+    }
+}
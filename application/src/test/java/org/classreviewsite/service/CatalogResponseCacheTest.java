@@ -0,0 +1,90 @@
+package org.classreviewsite.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.service.CatalogResponseCache;
+import org.classreviewsite.lecture.service.LectureVersionRegistry;
+import org.classreviewsite.review.controller.data.Response.ClassListResponse;
+import org.classreviewsite.review.service.ClassListAndDetailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogResponseCacheTest {
+
+    private static final String UNIVERSITY = "한국대학교";
+
+    @Mock ClassListAndDetailService classListAndDetailService;
+    @Mock LectureVersionRegistry lectureVersionRegistry;
+
+    CatalogResponseCache catalogResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        catalogResponseCache = new CatalogResponseCache(classListAndDetailService, lectureVersionRegistry, new ObjectMapper());
+        given(lectureVersionRegistry.universityETag(UNIVERSITY)).willReturn("abc-1");
+        given(classListAndDetailService.get(UNIVERSITY)).willReturn(List.of(
+                new ClassListResponse(1L, "자료구조", "소프트웨어학과", UNIVERSITY, LectureType.전공필수, 4.5, "김교수")));
+        catalogResponseCache.rebuild(UNIVERSITY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogResponseCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 요청에는 압축된 바이트를 그대로 내려준다.")
+    void gzip() throws IOException {
+        // when
+        ResponseEntity<byte[]> response = catalogResponseCache.findCatalog(UNIVERSITY, "abc-1", "gzip, deflate");
+
+        // then
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc-1-gz\"");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).contains("자료구조");
+        }
+    }
+
+    @Test
+    @DisplayName("압축을 받지 않는 요청에는 JSON 바이트를 내려준다.")
+    void identity() {
+        ResponseEntity<byte[]> response = catalogResponseCache.findCatalog(UNIVERSITY, "abc-1", null);
+
+        assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc-1\"");
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("\"message\":\"전체 강의 목록입니다.\"");
+    }
+
+    @Test
+    @DisplayName("캐시를 만든 뒤 카탈로그 버전이 바뀌었으면 사용하지 않는다.")
+    void staleVersion() {
+        assertThat(catalogResponseCache.findCatalog(UNIVERSITY, "abc-2", "gzip")).isNull();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 의 q 값으로 거부하거나 identity 를 더 원하면 압축하지 않는다.")
+    void acceptEncodingQuality() {
+        assertThat(catalogResponseCache.findCatalog(UNIVERSITY, "abc-1", "gzip;q=0, deflate").getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(catalogResponseCache.findCatalog(UNIVERSITY, "abc-1", "identity, gzip;q=0.5").getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(catalogResponseCache.findCatalog(UNIVERSITY, "abc-1", "br, *;q=0.1").getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(catalogResponseCache.findCatalog(UNIVERSITY, "abc-1", "GZIP; Q=0.8").getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+}
@@ -3,12 +3,16 @@ package org.classreviewsite.service;
 import org.classreviewsite.handler.exception.LectureNotFoundException;
 import org.classreviewsite.domain.lecture.ImageUrl;
 import org.classreviewsite.review.service.ImageUrlService;
-import org.classreviewsite.lecture.service.LectureDataService;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureSearchIndex;
+import org.classreviewsite.lecture.service.LectureFacetIndex;
+import org.classreviewsite.lecture.service.LectureRankingService;
+import org.classreviewsite.lecture.service.LectureSuggester;
 import org.classreviewsite.review.controller.data.Response.ClassListWithProfessorResponse;
 import org.classreviewsite.review.service.ClassListAndDetailService;
-import org.classreviewsite.domain.lecture.Lecture;
+import org.classreviewsite.domain.lecture.LectureSummary;
 import org.classreviewsite.domain.lecture.LectureType;
-import org.classreviewsite.domain.lecture.StarRating;
+import org.classreviewsite.util.KeysetCursor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -26,8 +30,12 @@ public class ClassListAndDetailServiceTest {
 
     @InjectMocks
     ClassListAndDetailService classListAndDetailService;
-    @Mock LectureDataService lectureDataService;
+    @Mock LectureCatalog lectureCatalog;
     @Mock ImageUrlService imageUrlService;
+    @Mock LectureSearchIndex lectureSearchIndex;
+    @Mock LectureSuggester lectureSuggester;
+    @Mock LectureFacetIndex lectureFacetIndex;
+    @Mock LectureRankingService lectureRankingService;
 
     @Nested
     @DisplayName("수강후기 상세 조회 테스트")
@@ -37,9 +45,9 @@ public class ClassListAndDetailServiceTest {
         void success() {
             // given
             ImageUrl imageUrl = new ImageUrl(1L, "이미지명", "imageurl");
-            Lecture lecture = new Lecture(1L, "강의명", StarRating.createRatingBuilder(), "학과명", "학교명", "교수명", LectureType.교양선택, 0L);
+            LectureSummary lecture = new LectureSummary(1L, "강의명", "학과명", "학교명", "교수명", LectureType.교양선택, 0.0, 0.0, 0L, 0.0);
 
-            given(lectureDataService.findByLectureId(1L)).willReturn(lecture);
+            given(lectureCatalog.findByLectureId(1L)).willReturn(lecture);
             given(imageUrlService.findById(1L)).willReturn(imageUrl);
 
             // when
@@ -56,7 +64,7 @@ public class ClassListAndDetailServiceTest {
         void notExistIDException() {
             // given
             Long id = 999L;
-            given(lectureDataService.findByLectureId(id)).willThrow(new LectureNotFoundException("존재하지 않는 강의입니다."));
+            given(lectureCatalog.findByLectureId(id)).willThrow(new LectureNotFoundException("존재하지 않는 강의입니다."));
 
             // when & then
             assertThatThrownBy(() -> classListAndDetailService.detail(id))
@@ -69,9 +77,9 @@ public class ClassListAndDetailServiceTest {
         void notExistProfessor() {
             // given
             ImageUrl imageUrl = new ImageUrl(1L, "이미지명", "imageurl");
-            Lecture lecture = new Lecture(1L, "강의명", StarRating.createRatingBuilder(), "학과명", "학교명", "교수명", LectureType.교양선택, 0L);
+            LectureSummary lecture = new LectureSummary(1L, "강의명", "학과명", "학교명", "교수명", LectureType.교양선택, 0.0, 0.0, 0L, 0.0);
 
-            given(lectureDataService.findByLectureId(1L)).willReturn(lecture);
+            given(lectureCatalog.findByLectureId(1L)).willReturn(lecture);
             given(imageUrlService.findById(1L)).willReturn(imageUrl);
 
             // when
@@ -87,9 +95,9 @@ public class ClassListAndDetailServiceTest {
         void dtoSpec() {
             // given
             ImageUrl imageUrl = new ImageUrl(1L, "이미지명", "imageurl");
-            Lecture lecture = new Lecture(12345L, "강의명", StarRating.createRatingBuilder(), "학과명", "학교명", "교수명", LectureType.교양선택, 0L);
+            LectureSummary lecture = new LectureSummary(12345L, "강의명", "학과명", "학교명", "교수명", LectureType.교양선택, 0.0, 0.0, 0L, 0.0);
 
-            given(lectureDataService.findByLectureId(1L)).willReturn(lecture);
+            given(lectureCatalog.findByLectureId(1L)).willReturn(lecture);
             given(imageUrlService.findById(1L)).willReturn(imageUrl);
 
             // when
@@ -106,6 +114,44 @@ public class ClassListAndDetailServiceTest {
             assertThat(result.getProfileImage()).isEqualTo("imageurl");
         }
 
+        @Test
+        @DisplayName("수강후기 상세 조회 시, 1점부터 5점까지 별점 분포를 함께 반환한다")
+        void ratingHistogram() {
+            // given
+            ImageUrl imageUrl = new ImageUrl(1L, "이미지명", "imageurl");
+            LectureSummary lecture = new LectureSummary(1L, "강의명", "학과명", "학교명", "교수명", LectureType.전공선택,
+                    4.0, 12.0, 3L, 4.0, 0L, 0L, 1L, 1L, 1L);
+
+            given(lectureCatalog.findByLectureId(1L)).willReturn(lecture);
+            given(imageUrlService.findById(1L)).willReturn(imageUrl);
+
+            // when
+            ClassListWithProfessorResponse.ClassListWithProfessorNameInDetail result = classListAndDetailService.detail(1L);
+
+            // then
+            assertThat(result.getRatingHistogram()).containsExactly(0L, 0L, 1L, 1L, 1L);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("강의 검색 테스트")
+    class search {
+        @Test
+        @DisplayName("음수이거나 int 범위를 넘는 순번을 담은 커서는 잘못된 커서로 거절한다")
+        void outOfRangeCursor() {
+            // given
+            String negative = KeysetCursor.encode(-5L);
+            String overflow = KeysetCursor.encode((long) Integer.MAX_VALUE + 1);
+
+            // when & then
+            assertThatThrownBy(() -> classListAndDetailService.search("학교명", "강의", negative, 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 커서입니다.");
+            assertThatThrownBy(() -> classListAndDetailService.search("학교명", "강의", overflow, 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("잘못된 커서입니다.");
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,224 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.handler.exception.RepairNotAllowedException;
+import org.classreviewsite.lecture.event.LectureRatingChangedEvent;
+import org.classreviewsite.lecture.service.LectureRatingBuffer;
+import org.classreviewsite.lecture.service.LectureRatingPriors;
+import org.classreviewsite.lecture.service.RatingPrior;
+import org.classreviewsite.review.controller.data.Response.ReconciliationReport;
+import org.classreviewsite.review.service.CounterReconciler;
+import org.classreviewsite.review.service.ReviewViewCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CounterReconcilerTest {
+
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock LectureRatingPriors lectureRatingPriors;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock ReviewViewCache reviewViewCache;
+
+    CounterReconciler counterReconciler;
+
+    @BeforeEach
+    void setUp() {
+        counterReconciler = reconciler(new LectureRatingBuffer(false, 10000, 1.0));
+    }
+
+    private CounterReconciler reconciler(LectureRatingBuffer lectureRatingBuffer) {
+        return new CounterReconciler(jdbcTemplate, lectureRatingPriors, lectureRatingBuffer, eventPublisher, reviewViewCache, 1000, 100, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        counterReconciler.shutdown();
+    }
+
+    @Test
+    @DisplayName("점검 모드에서는 불일치 강의만 보고하고 값은 고치지 않는다.")
+    void dryRunRatings() {
+        // given
+        givenBounds(1L, 2L);
+        givenRows(ratingRow(1L, 2L, 90L, 4.5, 2L, 90L), ratingRow(2L, 1L, 40L, 4.0, 2L, 90L));
+
+        // when
+        ReconciliationReport report = counterReconciler.reconcileRatings(false);
+
+        // then
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getScanned()).isEqualTo(2L);
+        assertThat(report.getMismatched()).isEqualTo(1L);
+        assertThat(report.getSampleIds()).containsExactly(2L);
+        assertThat(report.getRepaired()).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("수리 모드에서는 어긋난 강의만 한 번의 batch UPDATE 로 고치고 변경 이벤트를 발행한다.")
+    void repairRatings() {
+        // given
+        givenBounds(1L, 2L);
+        givenRows(ratingRow(1L, 2L, 90L, 4.5, 2L, 90L), ratingRow(2L, 1L, 40L, 4.0, 2L, 90L));
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willReturn(new int[][]{{1}});
+
+        // when
+        ReconciliationReport report = counterReconciler.reconcileRatings(true);
+
+        // then
+        assertThat(report.getRepaired()).isEqualTo(1L);
+        assertThat(report.getSkipped()).isZero();
+        verify(jdbcTemplate).batchUpdate(anyString(), ArgumentMatchers.<Collection<Object>>argThat(rows -> rows.size() == 1), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof LectureRatingChangedEvent changed && changed.getLectureId() == 2L));
+    }
+
+    @Test
+    @DisplayName("쓰기 지연이 켜져 있으면 반영 작업이 꺼내 간 변화량을 두 번 더하지 않도록 별점을 수리하지 않는다.")
+    void refuseRepairWhileWriteBehind() {
+        // given
+        LectureRatingBuffer lectureRatingBuffer = new LectureRatingBuffer(true, 10000, 1.0);
+        CounterReconciler writeBehindReconciler = reconciler(lectureRatingBuffer);
+        lectureRatingBuffer.add(2L, 5.0, null, RatingPrior.DEFAULT, null);
+        lectureRatingBuffer.drain();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> writeBehindReconciler.reconcileRatings(true))
+                    .isInstanceOf(RepairNotAllowedException.class);
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        } finally {
+            writeBehindReconciler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기 지연이 켜져 있어도 점검 모드는 불일치를 보고한다.")
+    void dryRunWhileWriteBehind() {
+        // given
+        CounterReconciler writeBehindReconciler = reconciler(new LectureRatingBuffer(true, 10000, 1.0));
+        givenBounds(2L, 2L);
+        givenRows(ratingRow(2L, 1L, 40L, 4.0, 2L, 90L));
+
+        // when
+        ReconciliationReport report;
+        try {
+            report = writeBehindReconciler.reconcileRatings(false);
+        } finally {
+            writeBehindReconciler.shutdown();
+        }
+
+        // then
+        assertThat(report.getMismatched()).isEqualTo(1L);
+        assertThat(report.getRepaired()).isZero();
+    }
+
+    @Test
+    @DisplayName("점검 중 좋아요가 눌려 값이 바뀐 후기는 덮어쓰지 않는다.")
+    void repairLikesSkipsConcurrentChange() {
+        // given
+        givenBounds(10L, 11L);
+        givenRows(likeRow(10L, 3, 3L), likeRow(11L, 1, 2L));
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willReturn(new int[][]{{0}});
+
+        // when
+        ReconciliationReport report = counterReconciler.reconcileLikes(true);
+
+        // then
+        assertThat(report.getScanned()).isEqualTo(2L);
+        assertThat(report.getSampleIds()).containsExactly(11L);
+        assertThat(report.getRepaired()).isZero();
+        assertThat(report.getSkipped()).isEqualTo(1L);
+        verify(reviewViewCache, never()).clear();
+    }
+
+    @Test
+    @DisplayName("테이블이 비어 있으면 구간을 읽지 않는다.")
+    void emptyTable() {
+        // given
+        given(jdbcTemplate.queryForObject(anyString(), ArgumentMatchers.<RowMapper<long[]>>any())).willReturn(null);
+
+        // when
+        ReconciliationReport report = counterReconciler.reconcileLikes(false);
+
+        // then
+        assertThat(report.getScanned()).isZero();
+        verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private void givenBounds(long min, long max) {
+        given(jdbcTemplate.queryForObject(anyString(), ArgumentMatchers.<RowMapper<long[]>>any())).willReturn(new long[]{min, max});
+    }
+
+    private void givenRows(ResultSet... rows) {
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    /**
+     * 별점 분포는 저장값과 실제값 모두 4점 구간 하나, 5점 구간 나머지로 둔다.
+     */
+    private ResultSet ratingRow(Long lectureId, Long storedCount, Long storedTenths, Double storedAverage, long actualCount, long actualTenths) {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("lectureId", lectureId);
+        columns.put("review_count", storedCount);
+        columns.put("total_star_tenths", storedTenths);
+        columns.put("average_star_rating", storedAverage);
+        columns.put("actual_count", actualCount);
+        columns.put("actual_tenths", actualTenths);
+        for (int i = 1; i <= 5; i++) {
+            columns.put("rating_count_" + i, i == 4 ? 1L : i == 5 ? storedCount - 1 : 0L);
+            columns.put("actual_" + i, i == 4 ? 1L : i == 5 ? actualCount - 1 : 0L);
+        }
+        return row(columns);
+    }
+
+    private ResultSet likeRow(long reviewId, int likes, long actualLikes) {
+        return row(Map.of("reviewId", reviewId, "likes", likes, "actual_likes", actualLikes));
+    }
+
+    private ResultSet row(Map<String, Object> columns) {
+        return mock(ResultSet.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getLong" -> ((Number) columns.get(invocation.<String>getArgument(0))).longValue();
+            case "getInt" -> ((Number) columns.get(invocation.<String>getArgument(0))).intValue();
+            case "getObject" -> columns.get(invocation.<String>getArgument(0));
+            default -> null;
+        });
+    }
+}
@@ -11,12 +11,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class ImageUrlServiceTest {
@@ -35,7 +37,7 @@ public class ImageUrlServiceTest {
             Long imageId = 1L;
             ImageUrl expectedImageUrl = new ImageUrl(imageId, "프로필이미지", "https://example.com/profile.jpg");
             
-            given(imageUrlDataRepository.findById(imageId)).willReturn(Optional.of(expectedImageUrl));
+            given(imageUrlDataRepository.findAll()).willReturn(List.of(expectedImageUrl));
             
             // when
             ImageUrl result = imageUrlService.findById(imageId);
@@ -52,7 +54,7 @@ public class ImageUrlServiceTest {
         void findByIdNotFound() {
             // given
             Long imageId = 999L;
-            given(imageUrlDataRepository.findById(imageId)).willReturn(Optional.empty());
+            given(imageUrlDataRepository.findAll()).willReturn(List.of());
             
             // when & then
             assertThatThrownBy(() -> imageUrlService.findById(imageId))
@@ -64,7 +66,7 @@ public class ImageUrlServiceTest {
         void findByIdWithNull() {
             // given
             Long imageId = null;
-            given(imageUrlDataRepository.findById(imageId)).willReturn(Optional.empty());
+            given(imageUrlDataRepository.findAll()).willReturn(List.of());
             
             // when & then
             assertThatThrownBy(() -> imageUrlService.findById(imageId))
@@ -76,7 +78,7 @@ public class ImageUrlServiceTest {
         void findByIdWithNegative() {
             // given
             Long imageId = -1L;
-            given(imageUrlDataRepository.findById(imageId)).willReturn(Optional.empty());
+            given(imageUrlDataRepository.findAll()).willReturn(List.of());
             
             // when & then
             assertThatThrownBy(() -> imageUrlService.findById(imageId))
@@ -90,7 +92,7 @@ public class ImageUrlServiceTest {
             Long imageId = 1L;
             ImageUrl defaultImage = new ImageUrl(imageId, "기본프로필", "https://example.com/default-profile.jpg");
             
-            given(imageUrlDataRepository.findById(imageId)).willReturn(Optional.of(defaultImage));
+            given(imageUrlDataRepository.findAll()).willReturn(List.of(defaultImage));
             
             // when
             ImageUrl result = imageUrlService.findById(imageId);
@@ -113,9 +115,7 @@ public class ImageUrlServiceTest {
             ImageUrl pngImage = new ImageUrl(pngImageId, "PNG이미지", "https://example.com/image.png");
             ImageUrl gifImage = new ImageUrl(gifImageId, "GIF이미지", "https://example.com/image.gif");
             
-            given(imageUrlDataRepository.findById(jpgImageId)).willReturn(Optional.of(jpgImage));
-            given(imageUrlDataRepository.findById(pngImageId)).willReturn(Optional.of(pngImage));
-            given(imageUrlDataRepository.findById(gifImageId)).willReturn(Optional.of(gifImage));
+            given(imageUrlDataRepository.findAll()).willReturn(List.of(jpgImage, pngImage, gifImage));
             
             // when
             ImageUrl jpgResult = imageUrlService.findById(jpgImageId);
@@ -128,4 +128,80 @@ public class ImageUrlServiceTest {
             assertThat(gifResult.getImageUrl()).endsWith(".gif");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("이미지 레지스트리 테스트")
+    class registryTest {
+
+        @Test
+        @DisplayName("한 번 읽은 뒤에는 조회마다 DB 를 읽지 않는다")
+        void loadOnce() {
+            // given
+            given(imageUrlDataRepository.findAll()).willReturn(List.of(new ImageUrl(1L, "여자교수", "https://example.com/professor.png")));
+
+            // when
+            imageUrlService.findById(1L);
+            imageUrlService.findById(1L);
+            imageUrlService.manifest();
+
+            // then
+            verify(imageUrlDataRepository, times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("이미지 이름별로 주소를 imageNumber 순서로 묶는다")
+        void groupByName() {
+            // given
+            given(imageUrlDataRepository.findAll()).willReturn(List.of(
+                    new ImageUrl(3L, "main-banner", "https://example.com/main-banner2.png"),
+                    new ImageUrl(2L, "main-banner", "https://example.com/main-banner.png"),
+                    new ImageUrl(5L, "banner", "https://example.com/banner.png"),
+                    new ImageUrl(8L, "icon", "https://example.com/icon.png")));
+
+            // when
+            List<String> banners = imageUrlService.findUrlsByName("main-banner", "banner");
+
+            // then
+            assertThat(banners).containsExactly(
+                    "https://example.com/main-banner.png", "https://example.com/main-banner2.png", "https://example.com/banner.png");
+            assertThat(imageUrlService.manifest()).containsOnlyKeys("main-banner", "banner", "icon");
+            assertThatThrownBy(() -> imageUrlService.manifest().put("icon", List.of()))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("다시 읽으면 스냅샷과 버전이 바뀐다")
+        void reload() {
+            // given
+            given(imageUrlDataRepository.findAll())
+                    .willReturn(List.of(new ImageUrl(1L, "icon", "https://example.com/icon.png")))
+                    .willReturn(List.of(new ImageUrl(1L, "icon", "https://example.com/icon2.png")));
+            String before = imageUrlService.version();
+
+            // when
+            int size = imageUrlService.reload();
+
+            // then
+            assertThat(size).isEqualTo(1);
+            assertThat(imageUrlService.version()).isNotEqualTo(before);
+            assertThat(imageUrlService.findUrlsByName("icon")).containsExactly("https://example.com/icon2.png");
+        }
+
+        @Test
+        @DisplayName("내용이 같으면 다시 읽거나 재기동해도 버전이 같다")
+        void versionFollowsContent() {
+            // given
+            given(imageUrlDataRepository.findAll())
+                    .willReturn(List.of(new ImageUrl(2L, "banner", "https://example.com/banner.png"), new ImageUrl(1L, "icon", "https://example.com/icon.png")))
+                    .willReturn(List.of(new ImageUrl(1L, "icon", "https://example.com/icon.png"), new ImageUrl(2L, "banner", "https://example.com/banner.png")));
+            String before = imageUrlService.version();
+            ImageUrlService restarted = new ImageUrlService(imageUrlDataRepository);
+
+            // when
+            String after = restarted.version();
+
+            // then
+            assertThat(after).isEqualTo(before).hasSize(16);
+        }
+    }
+}
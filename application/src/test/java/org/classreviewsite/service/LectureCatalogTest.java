@@ -0,0 +1,236 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.DepartmentDataRepository;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.domain.lecture.University;
+import org.classreviewsite.domain.lecture.UniversityDataRepository;
+import org.classreviewsite.handler.exception.LectureNotFoundException;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureRatingChangedEvent;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureDataService;
+import org.classreviewsite.lecture.service.LectureDictionary;
+import org.classreviewsite.lecture.service.LectureDictionaryBackfill;
+import org.classreviewsite.lecture.service.LectureRatingBuffer;
+import org.classreviewsite.lecture.service.RatingPrior;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureCatalogTest {
+
+    private static final String UNIVERSITY = "한국대학교";
+    private static final Integer UNIVERSITY_ID = 1;
+
+    @Mock LectureDataService lectureDataService;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock UniversityDataRepository universityDataRepository;
+    @Mock DepartmentDataRepository departmentDataRepository;
+
+    LectureRatingBuffer lectureRatingBuffer;
+    LectureCatalog lectureCatalog;
+
+    @BeforeEach
+    void setUp() {
+        given(universityDataRepository.findAll()).willReturn(List.of(new University(UNIVERSITY_ID, UNIVERSITY)));
+        LectureDictionary lectureDictionary = new LectureDictionary(universityDataRepository, departmentDataRepository);
+        lectureDictionary.load();
+        LectureDictionaryBackfill lectureDictionaryBackfill = new LectureDictionaryBackfill(lectureDictionary, lectureDataService);
+        lectureRatingBuffer = new LectureRatingBuffer(true, 10000, 1.0);
+        lectureCatalog = new LectureCatalog(lectureDataService, lectureDictionary, lectureDictionaryBackfill, lectureRatingBuffer, eventPublisher, 600);
+    }
+
+    @Test
+    @DisplayName("대학 카탈로그는 처음 조회할 때 한 번만 DB 에서 읽는다.")
+    void loadOnce() {
+        // given
+        given(lectureDataService.findSummariesByUniversityId(UNIVERSITY_ID))
+                .willReturn(List.of(lecture(1L, 0.0), lecture(2L, 0.0)));
+
+        // when
+        lectureCatalog.findByUniversity(UNIVERSITY);
+        List<LectureSummary> result = lectureCatalog.findByUniversity(UNIVERSITY);
+
+        // then
+        assertThat(result).hasSize(2);
+        verify(lectureDataService, times(1)).findSummariesByUniversityId(UNIVERSITY_ID);
+    }
+
+    @Test
+    @DisplayName("lectureId 이후의 강의를 페이지 크기만큼 반환한다.")
+    void findPage() {
+        // given
+        given(lectureDataService.findSummariesByUniversityId(UNIVERSITY_ID))
+                .willReturn(List.of(lecture(1L, 0.0), lecture(3L, 0.0), lecture(5L, 0.0), lecture(7L, 0.0)));
+
+        // when
+        List<LectureSummary> page = lectureCatalog.findPageByUniversity(UNIVERSITY, 3L, 2);
+
+        // then
+        assertThat(page).extracting(LectureSummary::getLectureId).containsExactly(5L, 7L);
+    }
+
+    @Test
+    @DisplayName("별점이 변경되면 해당 강의만 다시 읽어 스냅샷을 교체한다.")
+    void patchOnRatingChanged() {
+        // given
+        given(lectureDataService.findSummariesByUniversityId(UNIVERSITY_ID))
+                .willReturn(List.of(lecture(1L, 0.0), lecture(2L, 0.0)));
+        given(lectureDataService.findSummaryByLectureId(2L)).willReturn(lecture(2L, 4.5));
+        lectureCatalog.findByUniversity(UNIVERSITY);
+
+        // when
+        lectureCatalog.onRatingChanged(new LectureRatingChangedEvent(2L));
+
+        // then
+        assertThat(lectureCatalog.findByLectureId(2L).getAverageRating()).isEqualTo(4.5);
+        verify(lectureDataService, times(1)).findSummariesByUniversityId(UNIVERSITY_ID);
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 버퍼에 남은 별점 변화량을 더해 스냅샷을 만든다.")
+    void mergePendingRating() {
+        // given
+        given(lectureDataService.findSummariesByUniversityId(UNIVERSITY_ID))
+                .willReturn(List.of(lecture(1L, 4.0), lecture(2L, 0.0)));
+        lectureRatingBuffer.add(1L, 2.0, null, RatingPrior.DEFAULT, null);
+
+        // when
+        List<LectureSummary> lectures = lectureCatalog.findByUniversity(UNIVERSITY);
+
+        // then
+        assertThat(lectures.get(0).getReviewCount()).isEqualTo(2L);
+        assertThat(lectures.get(0).getAverageRating()).isEqualTo(3.0);
+        assertThat(lectures.get(1).getReviewCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("다시 읽기를 요청하면 TTL 과 관계없이 바로 다시 읽고 로딩 이벤트를 발행한다.")
+    void reload() {
+        // given
+        given(lectureDataService.findSummariesByUniversityId(UNIVERSITY_ID))
+                .willReturn(List.of(lecture(1L, 4.0)), List.of(lecture(1L, 3.5)));
+        lectureCatalog.findByUniversity(UNIVERSITY);
+
+        // when
+        lectureCatalog.reload(UNIVERSITY);
+
+        // then
+        assertThat(lectureCatalog.findByUniversity(UNIVERSITY).get(0).getWeightedRating()).isEqualTo(3.5);
+        verify(lectureDataService, times(2)).findSummariesByUniversityId(UNIVERSITY_ID);
+        verify(eventPublisher, times(2)).publishEvent(any(LectureCatalogLoadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("적재하는 동안 별점 변경이 스냅샷에 반영되면 적재 결과로 덮어쓰지 않고 다시 읽는다.")
+    void staleLoadDoesNotOverwriteRatingChange() {
+        // given
+        given(lectureDataService.findSummariesByUniversityId(UNIVERSITY_ID))
+                .willReturn(List.of(lecture(1L, 0.0), lecture(2L, 0.0)))
+                .willAnswer(invocation -> {
+                    lectureCatalog.onRatingChanged(new LectureRatingChangedEvent(2L));
+                    return List.of(lecture(1L, 0.0), lecture(2L, 0.0));
+                })
+                .willReturn(List.of(lecture(1L, 0.0), lecture(2L, 4.5)));
+        given(lectureDataService.findSummaryByLectureId(2L)).willReturn(lecture(2L, 4.5));
+        lectureCatalog.findByUniversity(UNIVERSITY);
+
+        // when
+        lectureCatalog.reload(UNIVERSITY);
+
+        // then
+        assertThat(lectureCatalog.findByLectureId(2L).getAverageRating()).isEqualTo(4.5);
+        verify(lectureDataService, times(3)).findSummariesByUniversityId(UNIVERSITY_ID);
+        verify(eventPublisher, times(2)).publishEvent(any(LectureCatalogLoadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 대학을 동시에 적재하면 DB 는 한 번만 읽고 로딩 이벤트도 한 번만 발행한다.")
+    void coalesceConcurrentLoads() throws Exception {
+        // given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        given(lectureDataService.findSummariesByUniversityId(UNIVERSITY_ID)).willAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return List.of(lecture(1L, 0.0));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // when
+            Future<List<LectureSummary>> first = executor.submit(() -> lectureCatalog.findByUniversity(UNIVERSITY));
+            loadStarted.await(5, TimeUnit.SECONDS);
+            List<Future<List<LectureSummary>>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(executor.submit(() -> lectureCatalog.findByUniversity(UNIVERSITY)));
+            }
+            Thread.sleep(100);
+            releaseLoad.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).hasSize(1);
+            for (Future<List<LectureSummary>> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS)).hasSize(1);
+            }
+            verify(lectureDataService, times(1)).findSummariesByUniversityId(UNIVERSITY_ID);
+            verify(eventPublisher, times(1)).publishEvent(any(LectureCatalogLoadedEvent.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("기동 이후 SQL 로 들어온 대학은 사전에 등록하고 id 를 채운 뒤 다시 찾는다.")
+    void resolveUniversityLoadedAfterStartup() {
+        // given
+        given(lectureDataService.existsByUniversity("서울대학교")).willReturn(true);
+        given(lectureDataService.findUniversities()).willReturn(List.of(UNIVERSITY, "서울대학교"));
+        given(universityDataRepository.findByName("서울대학교")).willReturn(Optional.empty());
+        given(universityDataRepository.save(any())).willReturn(new University(2, "서울대학교"));
+        given(lectureDataService.findSummariesByUniversityId(2)).willReturn(List.of(lecture(10L, 4.0)));
+
+        // when
+        List<LectureSummary> lectures = lectureCatalog.findByUniversity("서울대학교");
+
+        // then
+        assertThat(lectures).extracting(LectureSummary::getLectureId).containsExactly(10L);
+        verify(lectureDataService).assignUniversityId("서울대학교", 2);
+    }
+
+    @Test
+    @DisplayName("강의가 없는 대학은 사전에 등록하지 않고 예외를 발생한다.")
+    void unknownUniversity() {
+        assertThatThrownBy(() -> lectureCatalog.findByUniversity("없는대학교"))
+                .isInstanceOf(LectureNotFoundException.class);
+        verify(universityDataRepository, never()).save(any());
+    }
+
+    private LectureSummary lecture(Long lectureId, Double averageRating) {
+        return new LectureSummary(lectureId, "강의" + lectureId, "소프트웨어학과", UNIVERSITY, "김교수",
+                LectureType.전공필수, averageRating, averageRating, averageRating > 0 ? 1L : 0L, averageRating);
+    }
+}
@@ -14,8 +14,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -132,85 +130,6 @@ public class LectureDataServiceTest {
         }
     }
 
-    @Nested
-    @DisplayName("대학명으로 강의 목록 조회 테스트")
-    class findByUniversityTest {
-        
-        @Test
-        @DisplayName("존재하는 대학명으로 조회 시, 강의 목록을 반환한다")
-        void findByUniversitySuccess() {
-            // given
-            String university = "한국대학교";
-            Lecture lecture1 = new Lecture(1L, "자바프로그래밍", StarRating.createRatingBuilder(),
-                                         "소프트웨어학과", university, "김교수", LectureType.전공필수, 0L);
-            Lecture lecture2 = new Lecture(2L, "데이터베이스", StarRating.createRatingBuilder(),
-                                         "소프트웨어학과", university, "이교수", LectureType.전공선택, 0L);
-            
-            List<Lecture> expectedLectures = Arrays.asList(lecture1, lecture2);
-            
-            given(lectureDataRepository.findByUniversity(university)).willReturn(expectedLectures);
-            
-            // when
-            List<Lecture> result = lectureDataService.findByUniversity(university);
-            
-            // then
-            assertThat(result).isNotNull();
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).getUniversity()).isEqualTo(university);
-            assertThat(result.get(1).getUniversity()).isEqualTo(university);
-        }
-        
-        @Test
-        @DisplayName("강의가 없는 대학명으로 조회 시, LectureNotFoundException을 발생한다")
-        void findByUniversityNotFound() {
-            // given
-            String university = "존재하지않는대학교";
-            given(lectureDataRepository.findByUniversity(university)).willReturn(List.of());
-            
-            // when & then
-            assertThatThrownBy(() -> lectureDataService.findByUniversity(university))
-                    .isInstanceOf(LectureNotFoundException.class)
-                    .hasMessage("해당 대학의 강의가 존재하지 않습니다.");
-        }
-        
-        @Test
-        @DisplayName("null 대학명으로 조회 시, LectureNotFoundException을 발생한다")
-        void findByUniversityWithNull() {
-            // given
-            String university = null;
-            given(lectureDataRepository.findByUniversity(university)).willReturn(List.of());
-            
-            // when & then
-            assertThatThrownBy(() -> lectureDataService.findByUniversity(university))
-                    .isInstanceOf(LectureNotFoundException.class)
-                    .hasMessage("해당 대학의 강의가 존재하지 않습니다.");
-        }
-        
-        @Test
-        @DisplayName("여러 학과의 강의가 있는 대학 조회 시, 모든 강의를 반환한다")
-        void findByUniversityMultipleDepartments() {
-            // given
-            String university = "한국대학교";
-            Lecture lecture1 = new Lecture(1L, "자바프로그래밍", StarRating.createRatingBuilder(),
-                                         "소프트웨어학과", university, "김교수", LectureType.전공필수, 0L);
-            Lecture lecture2 = new Lecture(2L, "수학", StarRating.createRatingBuilder(),
-                                         "수학과", university, "박교수", LectureType.교양필수, 0L);
-            
-            List<Lecture> expectedLectures = Arrays.asList(lecture1, lecture2);
-            
-            given(lectureDataRepository.findByUniversity(university)).willReturn(expectedLectures);
-            
-            // when
-            List<Lecture> result = lectureDataService.findByUniversity(university);
-            
-            // then
-            assertThat(result).isNotNull();
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).getDepartment()).isEqualTo("소프트웨어학과");
-            assertThat(result.get(1).getDepartment()).isEqualTo("수학과");
-        }
-    }
-
     @Nested
     @DisplayName("강의 ID로 강의 조회 테스트 (findByLectureId)")
     class findByLectureIdTest {
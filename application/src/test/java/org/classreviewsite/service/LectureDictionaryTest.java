@@ -0,0 +1,99 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.Department;
+import org.classreviewsite.domain.lecture.DepartmentDataRepository;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.domain.lecture.University;
+import org.classreviewsite.domain.lecture.UniversityDataRepository;
+import org.classreviewsite.lecture.service.LectureDataService;
+import org.classreviewsite.lecture.service.LectureDictionary;
+import org.classreviewsite.lecture.service.LectureDictionaryBackfill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureDictionaryTest {
+
+    @Mock UniversityDataRepository universityDataRepository;
+    @Mock DepartmentDataRepository departmentDataRepository;
+    @Mock LectureDataService lectureDataService;
+
+    LectureDictionary lectureDictionary;
+
+    @BeforeEach
+    void setUp() {
+        given(universityDataRepository.findAll()).willReturn(List.of(new University(1, "한국대학교")));
+        given(departmentDataRepository.findAll()).willReturn(List.of(new Department(7, "소프트웨어학과")));
+        lectureDictionary = new LectureDictionary(universityDataRepository, departmentDataRepository);
+        lectureDictionary.load();
+    }
+
+    @Test
+    @DisplayName("이미 사전에 있는 이름은 DB 를 조회하지 않고 id 를 반환한다.")
+    void registerExisting() {
+        assertThat(lectureDictionary.registerUniversity("한국대학교")).isEqualTo(1);
+        verify(universityDataRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("사전에 없는 이름은 새로 등록한다.")
+    void registerNew() {
+        // given
+        given(universityDataRepository.findByName("서울대학교")).willReturn(Optional.empty());
+        given(universityDataRepository.save(any())).willReturn(new University(2, "서울대학교"));
+
+        // when
+        Integer universityId = lectureDictionary.registerUniversity("서울대학교");
+
+        // then
+        assertThat(universityId).isEqualTo(2);
+        assertThat(lectureDictionary.findUniversityId("서울대학교")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("강의의 대학명과 학과명을 사전의 문자열 인스턴스로 바꾼다.")
+    void intern() {
+        // given
+        String university = new String("한국대학교");
+        String department = new String("소프트웨어학과");
+        LectureSummary lecture = new LectureSummary(1L, "자료구조", department, university, "김교수",
+                LectureType.전공필수, 0.0, 0.0, 0L, 0.0);
+
+        // when
+        LectureSummary interned = lectureDictionary.intern(lecture);
+
+        // then
+        assertThat(interned.getUniversity()).isSameAs(lectureDictionary.universityName(1));
+        assertThat(interned.getDepartment()).isNotSameAs(department).isEqualTo(department);
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 Lectures 를 훑지 않고 트리거가 만든 대학/학과 행만 사전에 올린다.")
+    void refreshLoadsDictionaryOnly() {
+        // given
+        given(universityDataRepository.findAll()).willReturn(List.of(new University(1, "한국대학교"), new University(3, "부산대학교")));
+        LectureDictionaryBackfill lectureDictionaryBackfill = new LectureDictionaryBackfill(lectureDictionary, lectureDataService);
+
+        // when
+        lectureDictionaryBackfill.refresh();
+
+        // then
+        assertThat(lectureDictionary.findUniversityId("부산대학교")).isEqualTo(3);
+        verifyNoInteractions(lectureDataService);
+    }
+}
@@ -0,0 +1,108 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureFacet;
+import org.classreviewsite.lecture.service.LectureFacetIndex;
+import org.classreviewsite.lecture.service.LectureFacetResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureFacetIndexTest {
+
+    private static final String UNIVERSITY = "한국대학교";
+
+    @Mock LectureCatalog lectureCatalog;
+
+    LectureFacetIndex lectureFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        lectureFacetIndex = new LectureFacetIndex(lectureCatalog);
+        lectureFacetIndex.onCatalogLoaded(new LectureCatalogLoadedEvent(UNIVERSITY, List.of(
+                lecture(1L, "소프트웨어학과", LectureType.전공필수, 4.5),
+                lecture(2L, "소프트웨어학과", LectureType.전공선택, 3.2),
+                lecture(3L, "컴퓨터공학과", LectureType.전공필수, 4.0),
+                lecture(4L, "경영학과", LectureType.교양선택, 2.1)
+        )));
+    }
+
+    @Test
+    @DisplayName("같은 패싯은 OR, 다른 패싯은 AND 로 결합한다.")
+    void filter() {
+        // given
+        Map<LectureFacet, Set<String>> selected = Map.of(
+                LectureFacet.DEPARTMENT, Set.of("소프트웨어학과", "컴퓨터공학과"),
+                LectureFacet.LECTURE_TYPE, Set.of(LectureType.전공필수.name()));
+
+        // when
+        LectureFacetResult result = lectureFacetIndex.filter(UNIVERSITY, selected, 0L, Integer.MAX_VALUE);
+
+        // then
+        assertThat(result.getLectures()).extracting(LectureSummary::getLectureId).containsExactly(1L, 3L);
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("패싯별 개수는 해당 패싯의 선택을 제외한 조건으로 센다.")
+    void counts() {
+        // given
+        Map<LectureFacet, Set<String>> selected = Map.of(LectureFacet.DEPARTMENT, Set.of("소프트웨어학과"));
+
+        // when
+        LectureFacetResult result = lectureFacetIndex.filter(UNIVERSITY, selected, 0L, Integer.MAX_VALUE);
+
+        // then
+        assertThat(result.getCounts().get(LectureFacet.DEPARTMENT))
+                .containsEntry("소프트웨어학과", 2).containsEntry("컴퓨터공학과", 1).containsEntry("경영학과", 1);
+        assertThat(result.getCounts().get(LectureFacet.LECTURE_TYPE))
+                .containsEntry(LectureType.전공필수.name(), 1).containsEntry(LectureType.교양선택.name(), 0);
+    }
+
+    @Test
+    @DisplayName("lectureId 다음부터 count 개씩 페이지로 나눈다.")
+    void page() {
+        LectureFacetResult first = lectureFacetIndex.filter(UNIVERSITY, Map.of(), 0L, 2);
+        LectureFacetResult second = lectureFacetIndex.filter(UNIVERSITY, Map.of(), 2L, 2);
+
+        assertThat(first.getLectures()).extracting(LectureSummary::getLectureId).containsExactly(1L, 2L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getLectures()).extracting(LectureSummary::getLectureId).containsExactly(3L, 4L);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("강의 별점이 바뀌면 별점 구간 비트맵이 갱신된다.")
+    void ratingBandUpdated() {
+        // given
+        lectureFacetIndex.onLectureUpdated(new LectureUpdatedEvent(lecture(4L, "경영학과", LectureType.교양선택, 4.2)));
+
+        // when
+        LectureFacetResult result = lectureFacetIndex.filter(UNIVERSITY,
+                Map.of(LectureFacet.RATING_BAND, Set.of("4")), 0L, Integer.MAX_VALUE);
+
+        // then
+        assertThat(result.getLectures()).extracting(LectureSummary::getLectureId).containsExactly(1L, 3L, 4L);
+        assertThat(result.getCounts().get(LectureFacet.RATING_BAND)).doesNotContainKey("2");
+    }
+
+    private LectureSummary lecture(Long lectureId, String department, LectureType lectureType, Double averageRating) {
+        return new LectureSummary(lectureId, "강의" + lectureId, department, UNIVERSITY, "김교수",
+                lectureType, averageRating, 0.0, 0L, averageRating);
+    }
+}
@@ -0,0 +1,68 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.EnrollmentCheck;
+import org.classreviewsite.handler.exception.AlreadyWritePostException;
+import org.classreviewsite.handler.exception.NoPermissionReviewException;
+import org.classreviewsite.lecture.service.EnrollmentDataService;
+import org.classreviewsite.review.service.LectureHistoryValidator;
+import org.classreviewsite.review.vo.LectureHistoryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureHistoryValidatorTest {
+
+    @InjectMocks LectureHistoryValidator lectureHistoryValidator;
+
+    @Mock EnrollmentDataService enrollmentDataService;
+
+    @Test
+    @DisplayName("수강했고 아직 후기를 쓰지 않은 강의면 강의 id 와 학번을 돌려준다.")
+    void validate() {
+        // given
+        given(enrollmentDataService.findWriteCheck(20230857, "자료구조"))
+                .willReturn(Optional.of(new EnrollmentCheck(1L, 20230857, null)));
+
+        // when
+        LectureHistoryResponse response = lectureHistoryValidator.validate(20230857, "자료구조");
+
+        // then
+        assertThat(response.getLectureId()).isEqualTo(1L);
+        assertThat(response.getUserNumber()).isEqualTo(20230857);
+    }
+
+    @Test
+    @DisplayName("수강 내역이 없으면 NoPermissionReviewException 을 발생한다.")
+    void notEnrolled() {
+        // given
+        given(enrollmentDataService.findWriteCheck(20230857, "자료구조")).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> lectureHistoryValidator.validate(20230857, "자료구조"))
+                .isInstanceOf(NoPermissionReviewException.class)
+                .hasMessage("내역이 존재하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("같은 강의에 이미 쓴 후기가 있으면 AlreadyWritePostException 을 발생한다.")
+    void alreadyWritten() {
+        // given
+        given(enrollmentDataService.findWriteCheck(20230857, "자료구조"))
+                .willReturn(Optional.of(new EnrollmentCheck(1L, 20230857, 10L)));
+
+        // when & then
+        assertThatThrownBy(() -> lectureHistoryValidator.validate(20230857, "자료구조"))
+                .isInstanceOf(AlreadyWritePostException.class)
+                .hasMessage("이미 작성한 강의입니다.");
+    }
+}
@@ -0,0 +1,147 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.domain.review.ReviewSummary;
+import org.classreviewsite.handler.exception.LectureNotFoundException;
+import org.classreviewsite.handler.exception.ReviewNotFoundException;
+import org.classreviewsite.lecture.controller.data.response.LecturePageResponse;
+import org.classreviewsite.lecture.service.LecturePageService;
+import org.classreviewsite.review.controller.data.Response.ClassListWithProfessorResponse;
+import org.classreviewsite.review.service.ClassListAndDetailService;
+import org.classreviewsite.review.service.LikeHistoryManager;
+import org.classreviewsite.review.controller.data.Response.ReviewResponse;
+import org.classreviewsite.review.service.ReviewFinder;
+import org.classreviewsite.review.service.ReviewSort;
+import org.classreviewsite.util.CursorPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LecturePageServiceTest {
+
+    @Mock ClassListAndDetailService classListAndDetailService;
+    @Mock ReviewFinder reviewFinder;
+    @Mock LikeHistoryManager likeHistoryManager;
+
+    LecturePageService lecturePageService;
+
+    @BeforeEach
+    void setUp() {
+        lecturePageService = new LecturePageService(classListAndDetailService, reviewFinder, likeHistoryManager, 3, 4, 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lecturePageService.shutdown();
+    }
+
+    @Test
+    @DisplayName("강의 상세, 수강후기 첫 페이지, 좋아요 목록을 동시에 조회해 하나로 합친다.")
+    void page() throws Exception {
+        // given
+        CountDownLatch allStarted = new CountDownLatch(3);
+        given(classListAndDetailService.detail(1L)).willAnswer(invocation -> {
+            awaitOthers(allStarted);
+            return detail();
+        });
+        given(reviewFinder.findPage(1L, ReviewSort.RECENT, null, 2)).willAnswer(invocation -> {
+            awaitOthers(allStarted);
+            return CursorPage.of(reviews(5L, 4L), "next");
+        });
+        given(likeHistoryManager.findLikedReviewIds(20191434, 1L)).willAnswer(invocation -> {
+            awaitOthers(allStarted);
+            return List.of(4L);
+        });
+
+        // when
+        LecturePageResponse response = lecturePageService.page(1L, 20191434, 2);
+
+        // then
+        assertThat(response.getLecture().getLectureName()).isEqualTo("강의명");
+        assertThat(response.getReviews().getItems()).extracting("postId").containsExactly(5L, 4L);
+        assertThat(response.getReviews().isHasNext()).isTrue();
+        assertThat(response.getLikedReviewIds()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("학번을 주지 않으면 좋아요 목록은 조회하지 않는다.")
+    void withoutUser() {
+        // given
+        given(classListAndDetailService.detail(1L)).willReturn(detail());
+        given(reviewFinder.findPage(1L, ReviewSort.RECENT, null, 20)).willReturn(CursorPage.last(reviews(2L, 1L)));
+
+        // when
+        LecturePageResponse response = lecturePageService.page(1L, null, null);
+
+        // then
+        assertThat(response.getReviews().isHasNext()).isFalse();
+        assertThat(response.getLikedReviewIds()).isEmpty();
+        verify(likeHistoryManager, never()).findLikedReviewIds(anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("하위 조회에서 난 예외는 감싸지 않고 그대로 던진다.")
+    void lectureNotFound() {
+        // given
+        given(classListAndDetailService.detail(999L)).willThrow(new LectureNotFoundException("존재하지 않는 강의입니다."));
+        given(reviewFinder.findPage(999L, ReviewSort.RECENT, null, 20)).willThrow(new ReviewNotFoundException("수강 후기가 어디에도 없습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> lecturePageService.page(999L, null, null))
+                .isInstanceOf(LectureNotFoundException.class)
+                .hasMessage("존재하지 않는 강의입니다.");
+    }
+
+    @Test
+    @DisplayName("수강후기가 없는 강의는 예외 대신 빈 후기 페이지를 돌려준다.")
+    void withoutReviews() {
+        // given
+        given(classListAndDetailService.detail(1L)).willReturn(detail());
+        given(reviewFinder.findPage(1L, ReviewSort.RECENT, null, 20)).willThrow(new ReviewNotFoundException("수강 후기가 어디에도 없습니다."));
+
+        // when
+        LecturePageResponse response = lecturePageService.page(1L, null, null);
+
+        // then
+        assertThat(response.getReviews().getItems()).isEmpty();
+        assertThat(response.getReviews().isHasNext()).isFalse();
+    }
+
+    private void awaitOthers(CountDownLatch allStarted) throws InterruptedException {
+        allStarted.countDown();
+        if (!allStarted.await(500, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("하위 조회가 동시에 실행되지 않았습니다.");
+        }
+    }
+
+    private ClassListWithProfessorResponse.ClassListWithProfessorNameInDetail detail() {
+        LectureSummary lecture = new LectureSummary(1L, "강의명", "학과명", "학교명", "교수명", LectureType.전공선택, 4.0, 8.0, 2L, 3.8);
+        return ClassListWithProfessorResponse.ClassListWithProfessorNameInDetail.from(lecture, "imageurl");
+    }
+
+    private List<ReviewResponse> reviews(long... reviewIds) {
+        return LongStream.of(reviewIds)
+                .mapToObj(reviewId -> ReviewResponse.from(new ReviewSummary(reviewId, "제목", "내용", 4.0, 0, LocalDateTime.now(), 20191434, "닉네임")))
+                .toList();
+    }
+}
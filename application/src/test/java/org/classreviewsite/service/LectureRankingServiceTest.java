@@ -0,0 +1,77 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureRankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureRankingServiceTest {
+
+    private static final String UNIVERSITY = "한국대학교";
+
+    @Mock LectureCatalog lectureCatalog;
+
+    LectureRankingService lectureRankingService;
+
+    @BeforeEach
+    void setUp() {
+        lectureRankingService = new LectureRankingService(lectureCatalog);
+        lectureRankingService.onCatalogLoaded(new LectureCatalogLoadedEvent(UNIVERSITY, List.of(
+                lecture(1L, "소프트웨어학과", LectureType.전공필수, 4.5, 10L),
+                lecture(2L, "소프트웨어학과", LectureType.전공선택, 4.5, 20L),
+                lecture(3L, "컴퓨터공학과", LectureType.전공필수, 3.0, 5L),
+                lecture(4L, "소프트웨어학과", LectureType.전공필수, 3.5, 0L)
+        )));
+    }
+
+    @Test
+    @DisplayName("가중 별점, 후기 수 순으로 정렬하고 후기가 없는 강의는 제외한다.")
+    void top() {
+        // when
+        List<LectureSummary> result = lectureRankingService.top(UNIVERSITY, null, null, 10);
+
+        // then
+        assertThat(result).extracting(LectureSummary::getLectureId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("학과와 강의 유형으로 그룹을 좁힌다.")
+    void topByGroup() {
+        assertThat(lectureRankingService.top(UNIVERSITY, "소프트웨어학과", LectureType.전공필수, 10))
+                .extracting(LectureSummary::getLectureId).containsExactly(1L);
+        assertThat(lectureRankingService.top(UNIVERSITY, null, LectureType.전공필수, 1))
+                .extracting(LectureSummary::getLectureId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("별점이 바뀐 강의는 모든 그룹에서 순위가 갱신된다.")
+    void update() {
+        // given
+        lectureRankingService.onLectureUpdated(new LectureUpdatedEvent(
+                lecture(3L, "컴퓨터공학과", LectureType.전공필수, 5.0, 6L)));
+
+        // then
+        assertThat(lectureRankingService.top(UNIVERSITY, null, null, 10))
+                .extracting(LectureSummary::getLectureId).containsExactly(3L, 2L, 1L);
+        assertThat(lectureRankingService.top(UNIVERSITY, "컴퓨터공학과", null, 10))
+                .extracting(LectureSummary::getWeightedRating).containsExactly(5.0);
+    }
+
+    private LectureSummary lecture(Long lectureId, String department, LectureType lectureType, Double weightedRating, Long reviewCount) {
+        return new LectureSummary(lectureId, "강의" + lectureId, department, UNIVERSITY, "김교수",
+                lectureType, weightedRating, weightedRating * reviewCount, reviewCount, weightedRating);
+    }
+}
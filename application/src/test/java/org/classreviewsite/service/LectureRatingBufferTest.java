@@ -0,0 +1,122 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.AcademicTerm;
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.service.LectureRatingBuffer;
+import org.classreviewsite.lecture.service.RatingPrior;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class LectureRatingBufferTest {
+
+    LectureRatingBuffer lectureRatingBuffer;
+
+    @BeforeEach
+    void setUp() {
+        lectureRatingBuffer = new LectureRatingBuffer(true, 2, 1.0);
+    }
+
+    @Test
+    @DisplayName("같은 강의의 변화량은 후기 수와 별점 합을 함께 누적한다.")
+    void accumulate() throws InterruptedException {
+        // given
+        ExecutorService writers = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            writers.execute(() -> lectureRatingBuffer.add(1L, 4.0, null, RatingPrior.DEFAULT, null));
+        }
+        writers.shutdown();
+        writers.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        List<LectureRatingBuffer.Delta> deltas = lectureRatingBuffer.drain();
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0).getCount()).isEqualTo(1000L);
+        assertThat(deltas.get(0).getTotal()).isEqualTo(4000.0);
+        assertThat(deltas.get(0).getHistogram()).containsExactly(0L, 0L, 0L, 1000L, 0L);
+        assertThat(lectureRatingBuffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 전 조회에는 대기 중인 변화량을 더해 평균, 가중 별점, 별점 분포를 다시 계산한다.")
+    void merge() {
+        // given
+        LectureSummary lecture = new LectureSummary(1L, "강의명", "학과명", "한국대학교", "교수명",
+                LectureType.전공선택, 4.0, 8.0, 2L, 4.0, 0L, 0L, 1L, 0L, 1L);
+        lectureRatingBuffer.add(1L, 1.0, null, new RatingPrior(1.0, 3.0), null);
+        lectureRatingBuffer.add(1L, 3.0, 1.0, null, null);
+
+        // when
+        LectureSummary merged = lectureRatingBuffer.merge(lecture);
+
+        // then
+        assertThat(merged.getReviewCount()).isEqualTo(3L);
+        assertThat(merged.getTotalRating()).isEqualTo(11.0);
+        assertThat(merged.getAverageRating()).isEqualTo(3.7);
+        assertThat(merged.getWeightedRating()).isEqualTo((3.0 + 11.0) / 4);
+        assertThat(merged.getRatingHistogram()).containsExactly(0L, 0L, 2L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("대기 중인 강의 수가 상한에 다다르면 바로 반영해야 한다고 알린다.")
+    void underPressure() {
+        lectureRatingBuffer.add(1L, 4.0, null, RatingPrior.DEFAULT, null);
+        assertThat(lectureRatingBuffer.isUnderPressure()).isFalse();
+
+        lectureRatingBuffer.add(2L, 4.0, null, RatingPrior.DEFAULT, null);
+        assertThat(lectureRatingBuffer.isUnderPressure()).isTrue();
+    }
+
+    @Test
+    @DisplayName("되돌린 변화량은 그 사이 새로 들어온 변화량과 합쳐진다.")
+    void restore() {
+        // given
+        lectureRatingBuffer.add(1L, 5.0, null, RatingPrior.DEFAULT, null);
+        LectureRatingBuffer.Delta drained = lectureRatingBuffer.drain().get(0);
+        lectureRatingBuffer.add(1L, 3.0, null, RatingPrior.DEFAULT, null);
+
+        // when
+        lectureRatingBuffer.restore(drained);
+
+        // then
+        LectureRatingBuffer.Delta delta = lectureRatingBuffer.drain().get(0);
+        assertThat(delta.getCount()).isEqualTo(2L);
+        assertThat(delta.getTotal()).isEqualTo(8.0);
+        assertThat(delta.getHistogram()).containsExactly(0L, 0L, 1L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("후기가 작성된 학기별 추이 변화량도 강의 변화량과 함께 학기별로 누적한다.")
+    void accumulateTerms() {
+        // given
+        LocalDateTime fall = LocalDateTime.of(2024, 1, 15, 10, 0);
+        LocalDateTime spring = LocalDateTime.of(2024, 4, 1, 10, 0);
+
+        // when
+        lectureRatingBuffer.add(1L, 4.0, null, RatingPrior.DEFAULT, fall);
+        lectureRatingBuffer.add(1L, 5.0, null, RatingPrior.DEFAULT, fall);
+        lectureRatingBuffer.add(1L, 3.0, 2.0, RatingPrior.DEFAULT, spring);
+        lectureRatingBuffer.add(1L, 1.0, null, RatingPrior.DEFAULT, null);
+
+        // then
+        LectureRatingBuffer.Delta delta = lectureRatingBuffer.drain().get(0);
+        assertThat(delta.getCount()).isEqualTo(3L);
+        assertThat(delta.getTerms())
+                .extracting(LectureRatingBuffer.TermDelta::getTerm, LectureRatingBuffer.TermDelta::getCount, LectureRatingBuffer.TermDelta::getTotalTenths)
+                .containsExactlyInAnyOrder(
+                        tuple(AcademicTerm.of(fall), 2L, 90L),
+                        tuple(AcademicTerm.of(spring), 0L, 10L));
+    }
+}
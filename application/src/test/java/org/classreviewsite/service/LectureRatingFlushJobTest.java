@@ -0,0 +1,81 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.handler.exception.UpdateFailedException;
+import org.classreviewsite.lecture.service.LectureRatingBuffer;
+import org.classreviewsite.lecture.service.LectureRatingFlushJob;
+import org.classreviewsite.lecture.service.LectureRatingService;
+import org.classreviewsite.lecture.service.RatingPrior;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureRatingFlushJobTest {
+
+    @Mock LectureRatingService lectureRatingService;
+
+    LectureRatingBuffer lectureRatingBuffer;
+    LectureRatingFlushJob lectureRatingFlushJob;
+
+    @BeforeEach
+    void setUp() {
+        lectureRatingBuffer = new LectureRatingBuffer(true, 10000, 1.0);
+        lectureRatingFlushJob = new LectureRatingFlushJob(lectureRatingBuffer, lectureRatingService);
+    }
+
+    @Test
+    @DisplayName("강의마다 모인 변화량을 한 번씩 반영하고 버퍼를 비운다.")
+    void flush() {
+        // given
+        lectureRatingBuffer.add(1L, 4.0, null, RatingPrior.DEFAULT, null);
+        lectureRatingBuffer.add(1L, 5.0, null, RatingPrior.DEFAULT, null);
+        lectureRatingBuffer.add(2L, null, 3.0, RatingPrior.DEFAULT, null);
+
+        // when
+        lectureRatingFlushJob.flush();
+
+        // then
+        verify(lectureRatingService, times(2)).applyDelta(any());
+        verify(lectureRatingService).applyDelta(argThat(delta -> delta.getLectureId() == 1L && delta.getCount() == 2L && delta.getTotal() == 9.0));
+        assertThat(lectureRatingBuffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 강의의 변화량은 버퍼로 되돌린다.")
+    void restoreOnFailure() {
+        // given
+        lectureRatingBuffer.add(1L, 4.0, null, RatingPrior.DEFAULT, null);
+        willThrow(new UpdateFailedException("별점 반영에 실패했습니다.")).given(lectureRatingService).applyDelta(any());
+
+        // when
+        lectureRatingFlushJob.flush();
+
+        // then
+        assertThat(lectureRatingBuffer.drain()).singleElement()
+                .satisfies(delta -> assertThat(delta.getTotal()).isEqualTo(4.0));
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 모드가 꺼져 있으면 아무것도 반영하지 않는다.")
+    void disabled() {
+        // given
+        LectureRatingFlushJob job = new LectureRatingFlushJob(new LectureRatingBuffer(false, 10000, 1.0), lectureRatingService);
+
+        // when
+        job.flush();
+
+        // then
+        verify(lectureRatingService, never()).applyDelta(any());
+    }
+}
@@ -0,0 +1,111 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureDataRepository;
+import org.classreviewsite.domain.lecture.LectureRatingAggregate;
+import org.classreviewsite.domain.lecture.University;
+import org.classreviewsite.domain.lecture.UniversityDataRepository;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureRatingPriorJob;
+import org.classreviewsite.lecture.service.LectureRatingPriors;
+import org.classreviewsite.lecture.service.LectureRatingService;
+import org.classreviewsite.lecture.service.RatingPrior;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureRatingPriorJobTest {
+
+    private static final String UNIVERSITY = "한국대학교";
+
+    @Mock LectureDataRepository lectureDataRepository;
+    @Mock LectureRatingService lectureRatingService;
+    @Mock LectureCatalog lectureCatalog;
+    @Mock UniversityDataRepository universityDataRepository;
+
+    LectureRatingPriors lectureRatingPriors;
+    LectureRatingPriorJob lectureRatingPriorJob;
+
+    @BeforeEach
+    void setUp() {
+        lectureRatingPriors = new LectureRatingPriors(lectureCatalog, universityDataRepository);
+        lectureRatingPriorJob = new LectureRatingPriorJob(lectureDataRepository, lectureRatingPriors, lectureRatingService, lectureCatalog);
+    }
+
+    @Test
+    @DisplayName("대학 평균 별점과 강의당 평균 후기 수로 사전값을 계산하고 가중 별점을 재계산한다.")
+    void refresh() {
+        // given
+        given(lectureDataRepository.findRatingAggregates())
+                .willReturn(List.of(new LectureRatingAggregate(UNIVERSITY, 400.0, 100L, 10L)));
+
+        // when
+        lectureRatingPriorJob.refresh();
+
+        // then
+        RatingPrior prior = new RatingPrior(10.0, 4.0);
+        assertThat(lectureRatingPriors.of(UNIVERSITY)).isEqualTo(prior);
+        verify(lectureRatingService).refreshWeightedRatings(UNIVERSITY, prior);
+        verify(lectureCatalog).reload(UNIVERSITY);
+    }
+
+    @Test
+    @DisplayName("사전값이 바뀌지 않았으면 다시 계산하지 않는다.")
+    void unchanged() {
+        // given
+        given(lectureDataRepository.findRatingAggregates())
+                .willReturn(List.of(new LectureRatingAggregate(UNIVERSITY, 400.0, 100L, 10L)));
+
+        // when
+        lectureRatingPriorJob.refresh();
+        lectureRatingPriorJob.refresh();
+
+        // then
+        verify(lectureRatingService, times(1)).refreshWeightedRatings(UNIVERSITY, new RatingPrior(10.0, 4.0));
+    }
+
+    @Test
+    @DisplayName("저장된 사전값과 같으면 재기동 직후에도 가중 별점을 다시 계산하지 않는다.")
+    void storedPriorUnchanged() {
+        // given
+        given(universityDataRepository.findAll()).willReturn(List.of(new University(1, UNIVERSITY, 10.0, 4.0)));
+        given(lectureDataRepository.findRatingAggregates())
+                .willReturn(List.of(new LectureRatingAggregate(UNIVERSITY, 400.0, 100L, 10L)));
+
+        // when
+        lectureRatingPriorJob.refresh();
+
+        // then
+        assertThat(lectureRatingPriors.of(UNIVERSITY)).isEqualTo(new RatingPrior(10.0, 4.0));
+        verify(lectureRatingService, never()).refreshWeightedRatings(any(), any());
+        verify(lectureCatalog, never()).reload(any());
+    }
+
+    @Test
+    @DisplayName("저장된 사전값과 반올림한 값이 다를 때만 다시 계산한다.")
+    void storedPriorChanged() {
+        // given
+        given(universityDataRepository.findAll()).willReturn(List.of(new University(1, UNIVERSITY, 10.0, 3.9)));
+        given(lectureDataRepository.findRatingAggregates())
+                .willReturn(List.of(new LectureRatingAggregate(UNIVERSITY, 400.0, 100L, 10L)));
+
+        // when
+        lectureRatingPriorJob.refresh();
+
+        // then
+        verify(lectureRatingService).refreshWeightedRatings(UNIVERSITY, new RatingPrior(10.0, 4.0));
+        verify(lectureCatalog).reload(UNIVERSITY);
+    }
+}
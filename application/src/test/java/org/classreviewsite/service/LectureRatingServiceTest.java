@@ -0,0 +1,111 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.AcademicTerm;
+import org.classreviewsite.domain.lecture.LectureDataRepository;
+import org.classreviewsite.lecture.service.LectureRatingBuffer;
+import org.classreviewsite.lecture.service.LectureRatingPriors;
+import org.classreviewsite.lecture.service.LectureRatingService;
+import org.classreviewsite.lecture.service.LectureTrendService;
+import org.classreviewsite.lecture.service.RatingPrior;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureRatingServiceTest {
+
+    private static final LocalDateTime WRITTEN_AT = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Mock LectureDataRepository lectureDataRepository;
+    @Mock LectureRatingPriors lectureRatingPriors;
+    @Mock LectureTrendService lectureTrendService;
+    @Mock ApplicationEventPublisher eventPublisher;
+
+    private LectureRatingService lectureRatingService(LectureRatingBuffer buffer) {
+        return new LectureRatingService(lectureDataRepository, lectureRatingPriors, buffer, lectureTrendService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 모드에서는 학기별 추이도 UPDATE 하지 않고 강의 변화량과 함께 버퍼에 쌓는다.")
+    void bufferTrendWithLectureDelta() {
+        // given
+        LectureRatingBuffer buffer = new LectureRatingBuffer(true, 10000, 1.0);
+        given(lectureRatingPriors.forLecture(1L)).willReturn(RatingPrior.DEFAULT);
+        LectureRatingService lectureRatingService = lectureRatingService(buffer);
+
+        // when
+        lectureRatingService.addRating(1L, 4.5, WRITTEN_AT);
+        lectureRatingService.addRatings(1L, List.of(4.0, 5.0), WRITTEN_AT);
+
+        // then
+        verifyNoInteractions(lectureTrendService, lectureDataRepository);
+        LectureRatingBuffer.TermDelta term = buffer.drain().get(0).getTerms().iterator().next();
+        assertThat(term.getCount()).isEqualTo(3L);
+        assertThat(term.getTotalTenths()).isEqualTo(135L);
+    }
+
+    @Test
+    @DisplayName("버퍼의 변화량은 학기별 추이와 강의 별점을 한 번에 반영한다.")
+    void applyDeltaWithTerms() {
+        // given
+        LectureRatingBuffer buffer = new LectureRatingBuffer(true, 10000, 1.0);
+        buffer.add(1L, 4.0, null, RatingPrior.DEFAULT, WRITTEN_AT);
+        buffer.add(1L, 5.0, null, RatingPrior.DEFAULT, WRITTEN_AT);
+        given(lectureRatingPriors.forLecture(1L)).willReturn(RatingPrior.DEFAULT);
+        given(lectureDataRepository.applyStarRatingDelta(eq(1L), eq(2L), eq(90L), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyDouble(), anyDouble()))
+                .willReturn(1);
+
+        // when
+        lectureRatingService(buffer).applyDelta(buffer.drain().get(0));
+
+        // then
+        verify(lectureTrendService).apply(1L, AcademicTerm.of(WRITTEN_AT), 2L, 90L);
+        verify(lectureTrendService, never()).apply(any(), any(LocalDateTime.class), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("가중 별점을 일괄 재계산하면 사용한 사전값을 같은 트랜잭션에서 저장한다.")
+    void refreshWeightedRatingsStoresPrior() {
+        // given
+        RatingPrior prior = new RatingPrior(10.0, 4.0);
+        given(lectureDataRepository.refreshWeightedRatings("한국대학교", 10.0, 4.0)).willReturn(3);
+
+        // when
+        int updated = lectureRatingService(new LectureRatingBuffer(false, 10000, 1.0)).refreshWeightedRatings("한국대학교", prior);
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        verify(lectureRatingPriors).save("한국대학교", prior);
+    }
+
+    @Test
+    @DisplayName("쓰기 지연 모드가 꺼져 있으면 학기별 추이와 강의 별점을 바로 반영한다.")
+    void applyImmediatelyWithoutWriteBehind() {
+        // given
+        given(lectureRatingPriors.forLecture(1L)).willReturn(RatingPrior.DEFAULT);
+        given(lectureDataRepository.addStarRatingAtomic(eq(1L), eq(45L), anyInt(), anyDouble(), anyDouble())).willReturn(1);
+
+        // when
+        lectureRatingService(new LectureRatingBuffer(false, 10000, 1.0)).addRating(1L, 4.5, WRITTEN_AT);
+
+        // then
+        verify(lectureTrendService).apply(1L, WRITTEN_AT, 1L, 45L);
+    }
+}
@@ -0,0 +1,75 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureSearchIndexTest {
+
+    private static final String UNIVERSITY = "한국대학교";
+
+    @Mock LectureCatalog lectureCatalog;
+
+    LectureSearchIndex lectureSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        lectureSearchIndex = new LectureSearchIndex(lectureCatalog);
+        lectureSearchIndex.onCatalogLoaded(new LectureCatalogLoadedEvent(UNIVERSITY, List.of(
+                lecture(1L, "자료구조", "김교수", "소프트웨어학과"),
+                lecture(2L, "자료구조실습", "이교수", "소프트웨어학과"),
+                lecture(3L, "운영체제", "김철수", "컴퓨터공학과"),
+                lecture(4L, "데이터베이스", "박교수", "자료정보학과")
+        )));
+    }
+
+    @Test
+    @DisplayName("강의명 부분 일치로 검색하고, 가중치가 높은 강의명 일치를 먼저 반환한다.")
+    void searchByLectureName() {
+        List<LectureSummary> result = lectureSearchIndex.search(UNIVERSITY, "자료구조");
+
+        assertThat(result).extracting(LectureSummary::getLectureId).startsWith(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("교수명으로 검색한다.")
+    void searchByProfessor() {
+        List<LectureSummary> result = lectureSearchIndex.search(UNIVERSITY, "김철수");
+
+        assertThat(result).extracting(LectureSummary::getLectureId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("강의가 교체되면 새 강의명으로 검색된다.")
+    void upsert() {
+        lectureSearchIndex.onLectureUpdated(new LectureUpdatedEvent(lecture(3L, "알고리즘", "김철수", "컴퓨터공학과")));
+
+        assertThat(lectureSearchIndex.search(UNIVERSITY, "운영체제")).isEmpty();
+        assertThat(lectureSearchIndex.search(UNIVERSITY, "알고리즘")).extracting(LectureSummary::getLectureId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("공백뿐인 검색어는 빈 결과를 반환한다.")
+    void blankQuery() {
+        assertThat(lectureSearchIndex.search(UNIVERSITY, "   ")).isEmpty();
+    }
+
+    private LectureSummary lecture(Long lectureId, String lectureName, String professor, String department) {
+        return new LectureSummary(lectureId, lectureName, department, UNIVERSITY, professor,
+                LectureType.전공선택, 0.0, 0.0, 0L, 0.0);
+    }
+}
@@ -0,0 +1,87 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureSuggester;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureSuggesterTest {
+
+    private static final String UNIVERSITY = "한국대학교";
+
+    @Mock LectureCatalog lectureCatalog;
+
+    LectureSuggester lectureSuggester;
+
+    @BeforeEach
+    void setUp() {
+        lectureSuggester = new LectureSuggester(lectureCatalog);
+        given(lectureCatalog.findByUniversity(UNIVERSITY)).willReturn(List.of(
+                lecture(1L, "자료구조", 3L),
+                lecture(2L, "자료구조실습", 10L),
+                lecture(3L, "운영체제", 5L),
+                lecture(4L, "컴퓨터 프로그래밍", 1L)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        lectureSuggester.shutdown();
+    }
+
+    @Test
+    @DisplayName("강의명 접두사로 후기 많은 순으로 추천한다.")
+    void suggestByPrefix() {
+        // when
+        List<LectureSummary> result = lectureSuggester.suggest(UNIVERSITY, "자료", 10);
+
+        // then
+        assertThat(result).extracting(LectureSummary::getLectureId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("받침이 붙은 조합 중인 글자로도 추천한다.")
+    void suggestWhileComposing() {
+        assertThat(lectureSuggester.suggest(UNIVERSITY, "잘", 10))
+                .extracting(LectureSummary::getLectureId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성으로 추천한다.")
+    void suggestByChosung() {
+        assertThat(lectureSuggester.suggest(UNIVERSITY, "ㅇㅇㅊ", 10))
+                .extracting(LectureSummary::getLectureId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("강의명 중간 단어의 시작으로도 추천한다.")
+    void suggestByWordStart() {
+        assertThat(lectureSuggester.suggest(UNIVERSITY, "프로", 10))
+                .extracting(LectureSummary::getLectureId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("limit 만큼만 반환한다.")
+    void limit() {
+        assertThat(lectureSuggester.suggest(UNIVERSITY, "ㅈ", 1))
+                .extracting(LectureSummary::getLectureId).containsExactly(2L);
+    }
+
+    private LectureSummary lecture(Long lectureId, String lectureName, Long reviewCount) {
+        return new LectureSummary(lectureId, lectureName, "소프트웨어학과", UNIVERSITY, "김교수",
+                LectureType.전공선택, 0.0, 0.0, reviewCount, 0.0);
+    }
+}
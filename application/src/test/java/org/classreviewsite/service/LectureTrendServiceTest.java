@@ -0,0 +1,87 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureSemesterRating;
+import org.classreviewsite.domain.lecture.LectureSemesterRatingDataRepository;
+import org.classreviewsite.handler.exception.LectureNotFoundException;
+import org.classreviewsite.lecture.controller.data.response.LectureTrendResponse;
+import org.classreviewsite.lecture.service.LectureCatalog;
+import org.classreviewsite.lecture.service.LectureTrendService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class LectureTrendServiceTest {
+
+    @InjectMocks LectureTrendService lectureTrendService;
+
+    @Mock LectureSemesterRatingDataRepository lectureSemesterRatingDataRepository;
+    @Mock LectureCatalog lectureCatalog;
+
+    private static final LocalDateTime WRITTEN_AT = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Test
+    @DisplayName("후기가 작성된 학기의 집계 행에 변화량을 Upsert 로 더한다.")
+    void applyToWrittenTerm() {
+        // when
+        lectureTrendService.apply(1L, WRITTEN_AT, 1L, 45L);
+
+        // then
+        verify(lectureSemesterRatingDataRepository).upsertRating(1L, 2023, 2, 1L, 45L);
+    }
+
+    @Test
+    @DisplayName("작성 시각이 없는 후기는 추이에 반영하지 않는다.")
+    void ignoreWithoutWrittenAt() {
+        // when
+        lectureTrendService.apply(1L, (LocalDateTime) null, 1L, 45L);
+
+        // then
+        verify(lectureSemesterRatingDataRepository, never()).upsertRating(any(), anyInt(), anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("학기별 집계를 후기 수와 평균 별점으로 변환한다.")
+    void trend() {
+        // given
+        given(lectureSemesterRatingDataRepository.findTrendByLectureId(1L)).willReturn(List.of(
+                new LectureSemesterRating(1L, 1L, 2023, 2, 3L, 130L),
+                new LectureSemesterRating(2L, 1L, 2024, 1, 1L, 50L)
+        ));
+
+        // when
+        List<LectureTrendResponse> trend = lectureTrendService.trend(1L);
+
+        // then
+        assertThat(trend).extracting(LectureTrendResponse::getYear).containsExactly(2023, 2024);
+        assertThat(trend.get(0).getAverageRating()).isEqualTo(4.3);
+        assertThat(trend.get(1).getReviewCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 강의의 추이를 조회하면 예외가 발생한다.")
+    void trendOfUnknownLecture() {
+        // given
+        given(lectureCatalog.findByLectureId(99L)).willThrow(new LectureNotFoundException("존재하지 않는 강의입니다."));
+
+        // when & then
+        assertThatThrownBy(() -> lectureTrendService.trend(99L)).isInstanceOf(LectureNotFoundException.class);
+        verifyNoInteractions(lectureSemesterRatingDataRepository);
+    }
+}
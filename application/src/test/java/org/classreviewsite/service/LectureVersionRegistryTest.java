@@ -0,0 +1,60 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.LectureSummary;
+import org.classreviewsite.domain.lecture.LectureType;
+import org.classreviewsite.lecture.event.LectureCatalogLoadedEvent;
+import org.classreviewsite.lecture.event.LectureUpdatedEvent;
+import org.classreviewsite.lecture.service.LectureVersionRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LectureVersionRegistryTest {
+
+    private static final String UNIVERSITY = "한국대학교";
+
+    @Test
+    @DisplayName("카탈로그가 로딩되기 전에는 ETag 가 없다.")
+    void notLoaded() {
+        LectureVersionRegistry registry = new LectureVersionRegistry(600);
+
+        assertThat(registry.universityETag(UNIVERSITY)).isNull();
+        assertThat(registry.lectureETag(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("강의가 교체되면 해당 강의와 대학의 ETag 만 바뀐다.")
+    void lectureUpdated() {
+        // given
+        LectureVersionRegistry registry = new LectureVersionRegistry(600);
+        registry.onCatalogLoaded(new LectureCatalogLoadedEvent(UNIVERSITY, List.of(lecture(1L), lecture(2L))));
+        String universityETag = registry.universityETag(UNIVERSITY);
+        String otherLectureETag = registry.lectureETag(2L);
+
+        // when
+        registry.onLectureUpdated(new LectureUpdatedEvent(lecture(1L)));
+
+        // then
+        assertThat(registry.universityETag(UNIVERSITY)).isNotEqualTo(universityETag);
+        assertThat(registry.lectureETag(1L)).isNotEqualTo(otherLectureETag);
+        assertThat(registry.lectureETag(2L)).isEqualTo(otherLectureETag);
+    }
+
+    @Test
+    @DisplayName("카탈로그 TTL 이 지나면 ETag 를 내주지 않는다.")
+    void expired() {
+        LectureVersionRegistry registry = new LectureVersionRegistry(0);
+        registry.onCatalogLoaded(new LectureCatalogLoadedEvent(UNIVERSITY, List.of(lecture(1L))));
+
+        assertThat(registry.universityETag(UNIVERSITY)).isNull();
+        assertThat(registry.lectureETag(1L)).isNull();
+    }
+
+    private LectureSummary lecture(Long lectureId) {
+        return new LectureSummary(lectureId, "강의" + lectureId, "소프트웨어학과", UNIVERSITY, "김교수",
+                LectureType.전공선택, 0.0, 0.0, 0L, 0.0);
+    }
+}
@@ -0,0 +1,181 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.lecture.EnrollmentDataRepository;
+import org.classreviewsite.domain.lecture.EnrollmentKey;
+import org.classreviewsite.domain.lecture.Lecture;
+import org.classreviewsite.domain.lecture.LectureDataRepository;
+import org.classreviewsite.domain.review.ClassReview;
+import org.classreviewsite.domain.review.ClassReviewDataRepository;
+import org.classreviewsite.lecture.service.LectureRatingService;
+import org.classreviewsite.review.controller.data.Request.ClassReviewRequest;
+import org.classreviewsite.review.controller.data.Response.BulkReviewResponse;
+import org.classreviewsite.review.service.ReviewBulkWriter;
+import org.classreviewsite.review.service.ReviewViewCache;
+import org.classreviewsite.util.EntityIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewBulkWriterTest {
+
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock PlatformTransactionManager transactionManager;
+    @Mock EntityIdGenerator entityIdGenerator;
+    @Mock LectureDataRepository lectureDataRepository;
+    @Mock EnrollmentDataRepository enrollmentDataRepository;
+    @Mock ClassReviewDataRepository classReviewDataRepository;
+    @Mock LectureRatingService lectureRatingService;
+    @Mock ReviewViewCache reviewViewCache;
+
+    ReviewBulkWriter reviewBulkWriter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityIdGenerator.next(eq(ClassReview.class), anyInt()))
+                .thenAnswer(invocation -> new long[invocation.<Integer>getArgument(1)]);
+        reviewBulkWriter = new ReviewBulkWriter(jdbcTemplate, new TransactionTemplate(transactionManager), entityIdGenerator,
+                lectureDataRepository, enrollmentDataRepository, classReviewDataRepository, lectureRatingService, reviewViewCache, 500, 5);
+    }
+
+    @Test
+    @DisplayName("검사를 통과한 후기는 한 번의 batch INSERT 로 넣고 별점은 강의별로 합쳐 반영한다.")
+    void writeInOneBatch() {
+        // given
+        givenLectures(lecture(1L, "자료구조"), lecture(2L, "운영체제"));
+        given(enrollmentDataRepository.findKeysByUserNumbersAndLectureIds(any(), any()))
+                .willReturn(List.of(new EnrollmentKey(20191434, 1L), new EnrollmentKey(20191435, 1L), new EnrollmentKey(20191434, 2L)));
+        given(classReviewDataRepository.findWrittenKeys(any(), any())).willReturn(List.of());
+
+        // when
+        BulkReviewResponse response = reviewBulkWriter.write(List.of(
+                review("자료구조", 20191434, 4.0),
+                review("자료구조", 20191435, 5.0),
+                review("운영체제", 20191434, 3.0)));
+
+        // then
+        assertThat(response.getInserted()).isEqualTo(3);
+        assertThat(response.getFailures()).isEmpty();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), ArgumentMatchers.<Collection<Object>>argThat(rows -> rows.size() == 3), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(lectureRatingService).addRatings(eq(1L), eq(List.of(4.0, 5.0)), any());
+        verify(lectureRatingService).addRatings(eq(2L), eq(List.of(3.0)), any());
+        verify(reviewViewCache).lectureChanged(1L);
+        verify(reviewViewCache).lectureChanged(2L);
+    }
+
+    @Test
+    @DisplayName("등록할 수 없는 후기는 목록 위치와 사유를 남기고 나머지만 등록한다.")
+    void reportFailuresPerRow() {
+        // given
+        givenLectures(lecture(1L, "자료구조"));
+        given(enrollmentDataRepository.findKeysByUserNumbersAndLectureIds(any(), any()))
+                .willReturn(List.of(new EnrollmentKey(20191434, 1L), new EnrollmentKey(20191435, 1L)));
+        given(classReviewDataRepository.findWrittenKeys(any(), any())).willReturn(List.of(new EnrollmentKey(20191435, 1L)));
+
+        // when
+        BulkReviewResponse response = reviewBulkWriter.write(List.of(
+                review("자료구조", 20191434, 4.0),
+                review("자료구조", 20191435, 5.0),
+                review("없는강의", 20191434, 3.0),
+                review("자료구조", 20191434, 2.0),
+                review("자료구조", 20191436, null)));
+
+        // then
+        assertThat(response.getRequested()).isEqualTo(5);
+        assertThat(response.getInserted()).isEqualTo(1);
+        assertThat(response.getFailures())
+                .extracting(BulkReviewResponse.Failure::getIndex, BulkReviewResponse.Failure::getMessage)
+                .containsExactly(
+                        tuple(1, "이미 작성한 강의입니다."),
+                        tuple(2, "강의가 존재하지 않습니다."),
+                        tuple(3, "같은 요청에 같은 강의의 후기가 중복되어 있습니다."),
+                        tuple(4, "필수 항목이 비어 있습니다."));
+        verify(lectureRatingService).addRatings(eq(1L), eq(List.of(4.0)), any());
+    }
+
+    @Test
+    @DisplayName("batch 가 실패하면 한 건씩 다시 넣어 실패한 후기만 결과에 남긴다.")
+    void retryRowByRowWhenBatchFails() {
+        // given
+        givenLectures(lecture(1L, "자료구조"));
+        given(enrollmentDataRepository.findKeysByUserNumbersAndLectureIds(any(), any()))
+                .willReturn(List.of(new EnrollmentKey(20191434, 1L), new EnrollmentKey(20191435, 1L)));
+        given(classReviewDataRepository.findWrittenKeys(any(), any())).willReturn(List.of());
+        List<Integer> batchSizes = new ArrayList<>();
+        willAnswer(invocation -> {
+            Collection<?> rows = invocation.getArgument(1);
+            batchSizes.add(rows.size());
+            if (batchSizes.size() != 2) {
+                throw new DuplicateKeyException("uk_class_review_user_lecture");
+            }
+            return new int[][]{{1}};
+        }).given(jdbcTemplate).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        // when
+        BulkReviewResponse response = reviewBulkWriter.write(List.of(
+                review("자료구조", 20191434, 4.0),
+                review("자료구조", 20191435, 5.0)));
+
+        // then
+        assertThat(batchSizes).containsExactly(2, 1, 1);
+        assertThat(response.getInserted()).isEqualTo(1);
+        assertThat(response.getFailures())
+                .extracting(BulkReviewResponse.Failure::getIndex, BulkReviewResponse.Failure::getMessage)
+                .containsExactly(tuple(1, "이미 작성한 강의입니다."));
+        verify(lectureRatingService, times(1)).addRatings(eq(1L), eq(List.of(4.0)), any());
+    }
+
+    @Test
+    @DisplayName("한 번에 등록할 수 있는 개수를 넘으면 아무것도 등록하지 않는다.")
+    void rejectTooManyRows() {
+        // given
+        List<ClassReviewRequest> reviews = List.of(
+                review("자료구조", 1, 4.0), review("자료구조", 2, 4.0), review("자료구조", 3, 4.0),
+                review("자료구조", 4, 4.0), review("자료구조", 5, 4.0), review("자료구조", 6, 4.0));
+
+        // when & then
+        assertThatThrownBy(() -> reviewBulkWriter.write(reviews))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(lectureDataRepository, never()).findByLectureNameIn(any());
+    }
+
+    private void givenLectures(Lecture... lectures) {
+        given(lectureDataRepository.findByLectureNameIn(any())).willReturn(List.of(lectures));
+    }
+
+    private Lecture lecture(Long lectureId, String lectureName) {
+        return Lecture.builder().lectureId(lectureId).lectureName(lectureName).build();
+    }
+
+    private ClassReviewRequest review(String lectureName, Integer userNumber, Double starLating) {
+        return ClassReviewRequest.of("제목", "내용", userNumber, starLating, lectureName);
+    }
+}
@@ -0,0 +1,188 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.review.ClassReviewDataRepository;
+import org.classreviewsite.domain.review.ReviewSortKey;
+import org.classreviewsite.domain.review.ReviewSummary;
+import org.classreviewsite.handler.exception.ReviewNotFoundException;
+import org.classreviewsite.review.controller.data.Response.ReviewResponse;
+import org.classreviewsite.review.service.ReviewDataService;
+import org.classreviewsite.review.service.ReviewFinder;
+import org.classreviewsite.review.service.ReviewSort;
+import org.classreviewsite.review.service.ReviewViewCache;
+import org.classreviewsite.util.CursorPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewFinderTest {
+
+    @Mock ClassReviewDataRepository classReviewDataRepository;
+
+    ReviewFinder reviewFinder;
+
+    @BeforeEach
+    void setUp() {
+        reviewFinder = new ReviewFinder(new ReviewDataService(classReviewDataRepository), new ReviewViewCache(classReviewDataRepository, false, 200000, 20000, 60));
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 size + 1 개를 읽고, 남는 후기가 있으면 마지막 후기의 별점과 id 로 커서를 만든다.")
+    void firstPage() {
+        // given
+        given(classReviewDataRepository.findSummaryPageOrderByStarLatingDesc(1L, Double.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .willReturn(List.of(review(9L, 5.0, 0), review(7L, 4.5, 0), review(8L, 4.0, 0)));
+
+        // when
+        CursorPage<ReviewResponse> page = reviewFinder.findPage(1L, ReviewSort.STAR_DESC, null, 2);
+
+        // then
+        assertThat(page.getItems()).extracting(ReviewResponse::getPostId).containsExactly(9L, 7L);
+        assertThat(page.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 커서의 정렬 값과 reviewId 뒤부터 읽는다.")
+    void nextPage() {
+        // given
+        given(classReviewDataRepository.findSummaryPageOrderByLikesDesc(1L, Integer.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .willReturn(List.of(review(4L, 3.0, 10), review(2L, 3.0, 10)));
+        String cursor = reviewFinder.findPage(1L, ReviewSort.LIKES_DESC, null, 1).getNextCursor();
+        given(classReviewDataRepository.findSummaryPageOrderByLikesDesc(1L, 10, 4L, PageRequest.of(0, 2)))
+                .willReturn(List.of(review(2L, 3.0, 10)));
+
+        // when
+        CursorPage<ReviewResponse> page = reviewFinder.findPage(1L, ReviewSort.LIKES_DESC, cursor, 1);
+
+        // then
+        assertThat(page.getItems()).extracting(ReviewResponse::getPostId).containsExactly(2L);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 정렬에서 받은 커서는 거부한다.")
+    void rejectCursorOfOtherSort() {
+        // given
+        given(classReviewDataRepository.findSummaryPageOrderByStarLatingAsc(1L, -Double.MAX_VALUE, 0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(review(1L, 1.0, 0), review(2L, 1.5, 0)));
+        String cursor = reviewFinder.findPage(1L, ReviewSort.STAR_ASC, null, 1).getNextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> reviewFinder.findPage(1L, ReviewSort.LIKES_ASC, cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+        assertThatThrownBy(() -> reviewFinder.findPage(1L, ReviewSort.RECENT, cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("후기가 없는 강의의 첫 페이지는 예외가 발생한다.")
+    void noReviews() {
+        // given
+        given(classReviewDataRepository.findSummaryPageOrderByCreatedDateDesc(any(), any())).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> reviewFinder.findPage(1L, ReviewSort.RECENT, null, null))
+                .isInstanceOf(ReviewNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 쿼리 전에 거부한다.")
+    void rejectTamperedCursor() {
+        // when & then
+        assertThatThrownBy(() -> reviewFinder.findPage(1L, ReviewSort.STAR_DESC, "not-a-cursor", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(classReviewDataRepository);
+    }
+
+    @Test
+    @DisplayName("정렬 순서 캐시를 쓰면 첫 페이지는 캐시의 id 순서대로 id 묶음 조회 한 번으로 읽는다.")
+    void firstPageFromView() {
+        // given
+        ReviewFinder cachedFinder = new ReviewFinder(new ReviewDataService(classReviewDataRepository), new ReviewViewCache(classReviewDataRepository, true, 200000, 20000, 60));
+        given(classReviewDataRepository.findSortKeysByLectureId(any(), any()))
+                .willReturn(List.of(key(1L, 3.0, 0), key(2L, 5.0, 0), key(3L, 4.0, 0)));
+        given(classReviewDataRepository.findSummariesByReviewIds(List.of(2L, 3L)))
+                .willReturn(List.of(review(3L, 4.0, 0), review(2L, 5.0, 0)));
+
+        // when
+        CursorPage<ReviewResponse> page = cachedFinder.findPage(1L, ReviewSort.STAR_DESC, null, 1);
+
+        // then
+        assertThat(page.getItems()).extracting(ReviewResponse::getPostId).containsExactly(2L);
+        assertThat(page.isHasNext()).isTrue();
+        verify(classReviewDataRepository, never()).findSummaryPageOrderByStarLatingDesc(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시의 후기가 그사이 삭제되었으면 캐시를 버리고 정렬 인덱스로 읽는다.")
+    void fallBackWhenViewIsStale() {
+        // given
+        ReviewFinder cachedFinder = new ReviewFinder(new ReviewDataService(classReviewDataRepository), new ReviewViewCache(classReviewDataRepository, true, 200000, 20000, 60));
+        given(classReviewDataRepository.findSortKeysByLectureId(any(), any()))
+                .willReturn(List.of(key(1L, 3.0, 0), key(2L, 5.0, 0)));
+        given(classReviewDataRepository.findSummariesByReviewIds(List.of(2L, 1L))).willReturn(List.of(review(1L, 3.0, 0)));
+        given(classReviewDataRepository.findSummaryPageOrderByCreatedDateDesc(1L, PageRequest.of(0, 3)))
+                .willReturn(List.of(review(1L, 3.0, 0)));
+
+        // when
+        CursorPage<ReviewResponse> page = cachedFinder.findPage(1L, ReviewSort.RECENT, null, 2);
+
+        // then
+        assertThat(page.getItems()).extracting(ReviewResponse::getPostId).containsExactly(1L);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최신순은 작성 시각 순으로 읽고, 다음 페이지는 마지막 후기의 작성 시각과 reviewId 뒤부터 읽는다.")
+    void recentPagesByCreatedDate() {
+        // given
+        LocalDateTime createdDate = LocalDateTime.of(2024, 3, 5, 9, 0, 0, 123456000);
+        ReviewSummary last = new ReviewSummary(3L, "제목", "내용", 4.0, 0, createdDate, 20230857, "닉네임");
+        given(classReviewDataRepository.findSummaryPageOrderByCreatedDateDesc(1L, PageRequest.of(0, 3)))
+                .willReturn(List.of(review(60L, 5.0, 0), last, review(55L, 3.0, 0)));
+        given(classReviewDataRepository.findSummaryPageOrderByCreatedDateDesc(1L, createdDate, 3L, PageRequest.of(0, 3)))
+                .willReturn(List.of(review(55L, 3.0, 0)));
+
+        // when
+        CursorPage<ReviewResponse> first = reviewFinder.findPage(1L, ReviewSort.RECENT, null, 2);
+        CursorPage<ReviewResponse> next = reviewFinder.findPage(1L, ReviewSort.RECENT, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getItems()).extracting(ReviewResponse::getPostId).containsExactly(60L, 3L);
+        assertThat(next.getItems()).extracting(ReviewResponse::getPostId).containsExactly(55L);
+        assertThat(next.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 없으면 이전 조회 플래그로 정렬을 고른다.")
+    void fromFlags() {
+        assertThat(ReviewSort.fromFlags(false, false, false)).isEqualTo(ReviewSort.STAR_DESC);
+        assertThat(ReviewSort.fromFlags(true, true, false)).isEqualTo(ReviewSort.STAR_ASC);
+        assertThat(ReviewSort.fromFlags(false, true, true)).isEqualTo(ReviewSort.LIKES_DESC);
+        assertThat(ReviewSort.fromFlags(false, false, true)).isEqualTo(ReviewSort.RECENT);
+    }
+
+    private ReviewSortKey key(Long reviewId, Double starLating, int likes) {
+        return new ReviewSortKey(reviewId, starLating, likes, LocalDateTime.of(2024, 3, 5, 9, 0).plusMinutes(reviewId));
+    }
+
+    private ReviewSummary review(Long reviewId, Double starLating, int likes) {
+        return new ReviewSummary(reviewId, "제목", "내용", starLating, likes, LocalDateTime.of(2024, 3, 5, 9, 0), 20230857, "닉네임");
+    }
+}
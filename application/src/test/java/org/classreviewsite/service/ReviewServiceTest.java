@@ -6,12 +6,12 @@ import org.classreviewsite.domain.lecture.LectureType;
 import org.classreviewsite.domain.lecture.StarRating;
 import org.classreviewsite.lecture.service.EnrollmentDataService;
 import org.classreviewsite.lecture.service.LectureDataService;
+import org.classreviewsite.lecture.service.LectureRatingService;
 import org.classreviewsite.review.controller.data.Request.ClassReviewRequest;
 import org.classreviewsite.review.controller.data.Request.DeleteReviewRequest;
 import org.classreviewsite.review.controller.data.Request.LikeRequest;
 import org.classreviewsite.review.controller.data.Request.UpdateReviewRequest;
 import org.classreviewsite.review.controller.data.Response.ReviewMeResponse;
-import org.classreviewsite.review.controller.data.Response.ReviewResponse;
 import org.classreviewsite.domain.review.ClassReview;
 import org.classreviewsite.domain.review.ClassReviewDataRepository;
 import org.classreviewsite.domain.review.LikesDataRepository;
@@ -20,6 +20,8 @@ import org.classreviewsite.review.service.LikeStateGenerator;
 import org.classreviewsite.review.service.LikedStatus;
 import org.classreviewsite.review.service.ReviewDataService;
 import org.classreviewsite.review.service.ReviewService;
+import org.classreviewsite.review.service.ReviewViewCache;
+import org.classreviewsite.review.service.ReviewWriter;
 import org.classreviewsite.review.service.LectureHistoryValidator;
 import org.classreviewsite.review.service.ReviewHistoryValidator;
 import org.classreviewsite.review.vo.LectureHistoryResponse;
@@ -55,6 +57,9 @@ public class ReviewServiceTest {
     @Mock ReviewHistoryValidator reviewHistoryValidator;
     @Mock ReviewDataService reviewDataService;
     @Mock UserService userService;
+    @Mock LectureRatingService lectureRatingService;
+    @Mock ReviewWriter reviewWriter;
+    @Mock ReviewViewCache reviewViewCache;
     @Mock
     LikeStatusCheckor likeStatusCheckor;
     @Mock
@@ -123,107 +128,37 @@ public class ReviewServiceTest {
         }
     }
 
-    @Nested
-    @DisplayName("수강후기 전체 조회 테스트")
-    class findAllTest {
-        
-        @Test
-        @DisplayName("강의 ID로 전체 조회 시, 수강후기 목록을 반환한다")
-        void shouldReturnReviewListWhenValidLectureIdProvided() {
-            // given
-            Long lectureId = 1L;
-            User user = User.builder()
-                    .userNumber(20230857)
-                    .userName("홍길동")
-                    .department("소프트웨어학과")
-                    .nickname("hong123")
-                    .password("password")
-                    .authorities(Set.of())
-                    .build();
-            
-            Lecture lecture = new Lecture(1L, "강의명", StarRating.createRatingBuilder(),
-                                        "소프트웨어학과", "한국대학교", "교수명", LectureType.교양선택, 0L);
-            
-            ClassReview review1 = ClassReview.builder()
-                    .lecId(lecture)
-                    .userNumber(user)
-                    .starLating(4.5)
-                    .likes(0)
-                    .postTitle("제목1")
-                    .postContent("내용1")
-                    .build();
-            ClassReview review2 = ClassReview.builder()
-                    .lecId(lecture)
-                    .userNumber(user)
-                    .starLating(3.0)
-                    .likes(0)
-                    .postTitle("제목2")
-                    .postContent("내용2")
-                    .build();
-            
-            List<ClassReview> reviews = Arrays.asList(review1, review2);
-            
-            given(reviewDataService.getAll(lectureId)).willReturn(reviews);
-            
-            // when
-            List<ReviewResponse> result = reviewService.findAll(lectureId);
-            
-            // then
-            assertThat(result).isNotNull();
-            assertThat(result).hasSize(2);
-        }
-        
-        @Test
-        @DisplayName("강의 ID로 전체 조회 시 결과가 없으면, ReviewNotFoundException을 발생한다")
-        void shouldThrowExceptionWhenNoReviewsExist() {
-            // given
-            Long lectureId = 1L;
-            given(reviewDataService.getAll(lectureId)).willReturn(List.of());
-            
-            // when & then
-            assertThatThrownBy(() -> reviewService.findAll(lectureId))
-                    .isInstanceOf(ReviewNotFoundException.class)
-                    .hasMessage("수강 후기가 존재하지 않습니다.");
-        }
-    }
-
     @Nested
     @DisplayName("수강후기 작성 테스트")
     class writeTest {
         
         @Test
-        @DisplayName("유효한 요청으로 수강후기 작성 시, 정상적으로 저장된다")
+        @DisplayName("유효한 요청으로 수강후기 작성 시, 검사한 강의 id 로 저장하고 별점을 반영한다")
         void shouldSaveReviewWhenValidRequestProvided() {
             // given
             ClassReviewRequest request = new ClassReviewRequest(
                     "강의명", 20230857, 4.5, "제목", "내용"
             );
-            
-            User user = User.builder()
-                    .userNumber(20230857)
-                    .userName("홍길동")
-                    .department("소프트웨어학과")
-                    .nickname("hong123")
-                    .password("password")
-                    .authorities(Set.of())
+            LectureHistoryResponse history = LectureHistoryResponse.of(1L, 20230857);
+            ClassReview written = ClassReview.builder()
+                    .reviewId(10L)
+                    .starLating(4.5)
+                    .likes(0)
+                    .postTitle("제목")
+                    .postContent("내용")
                     .build();
-            
-            Lecture lecture = new Lecture(1L, "강의명", StarRating.createRatingBuilder(),
-                                        "소프트웨어학과", "한국대학교", "교수명", LectureType.교양선택, 0L);
-            
-            LectureHistoryResponse response = LectureHistoryResponse.of(lecture, user);
-            
-            given(lectureHistoryValidator.validate(20230857, "강의명")).willReturn(response);
-            doNothing().when(reviewHistoryValidator).validateHistory(user, lecture);
-            doNothing().when(reviewDataService).save(any(ClassReview.class));
+
+            given(lectureHistoryValidator.validate(20230857, "강의명")).willReturn(history);
+            given(reviewWriter.write(history, request)).willReturn(written);
             
             // when
             reviewService.write(request);
             
             // then
-            verify(lectureHistoryValidator).validate(20230857, "강의명");
-            verify(reviewHistoryValidator).validateHistory(user, lecture);
-            verify(reviewDataService).save(any(ClassReview.class));
+            verify(reviewWriter).write(history, request);
+            verify(lectureRatingService).addRating(eq(1L), eq(4.5), any());
+            verify(reviewViewCache).reviewAdded(eq(1L), eq(10L), eq(4.5), eq(0), any());
+            verifyNoInteractions(lectureDataService, userService);
         }
         
         @Test
@@ -234,28 +169,14 @@ public class ReviewServiceTest {
                     "강의명", 20230857 , 4.5, "제목", "내용"
             );
             
-            User user = User.builder()
-                    .userNumber(20230857)
-                    .userName("홍길동")
-                    .department("소프트웨어학과")
-                    .nickname("hong123")
-                    .password("password")
-                    .authorities(Set.of())
-                    .build();
-            
-            Lecture lecture = new Lecture(1L, "강의명", StarRating.createRatingBuilder(),
-                                        "소프트웨어학과", "한국대학교", "교수명", LectureType.교양선택, 0L);
-            
-            LectureHistoryResponse response = LectureHistoryResponse.of(lecture, user);
-            
-            given(lectureHistoryValidator.validate(20230857, "강의명")).willReturn(response);
-            doThrow(new AlreadyWritePostException("이미 작성한 강의입니다."))
-                    .when(reviewHistoryValidator).validateHistory(user, lecture);
+            given(lectureHistoryValidator.validate(20230857, "강의명"))
+                    .willThrow(new AlreadyWritePostException("이미 작성한 강의입니다."));
             
             // when & then
             assertThatThrownBy(() -> reviewService.write(request))
                     .isInstanceOf(AlreadyWritePostException.class)
                     .hasMessage("이미 작성한 강의입니다.");
+            verifyNoInteractions(reviewWriter, lectureRatingService);
         }
     }
 
@@ -0,0 +1,251 @@
+package org.classreviewsite.service;
+
+import org.classreviewsite.domain.review.ClassReviewDataRepository;
+import org.classreviewsite.domain.review.ReviewSortKey;
+import org.classreviewsite.review.service.ReviewSort;
+import org.classreviewsite.review.service.ReviewViewCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewViewCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 5, 9, 0);
+
+    @Mock ClassReviewDataRepository classReviewDataRepository;
+
+    private ReviewViewCache cache(long maxCachedReviews, int maxReviews) {
+        return new ReviewViewCache(classReviewDataRepository, true, maxCachedReviews, maxReviews, 600);
+    }
+
+    /**
+     * 작성 시각은 reviewId 분 뒤로 두어 id 순서와 같게 한다.
+     */
+    private ReviewSortKey key(Long reviewId, Double starLating, int likes) {
+        return new ReviewSortKey(reviewId, starLating, likes, BASE.plusMinutes(reviewId));
+    }
+
+    private void givenReviews(Long lectureId, ReviewSortKey... keys) {
+        given(classReviewDataRepository.findSortKeysByLectureId(eq(lectureId), any())).willReturn(List.of(keys));
+    }
+
+    @Test
+    @DisplayName("정렬별 순서는 같은 값이면 키셋 쿼리와 같은 방향의 reviewId 로 정한다.")
+    void ordersMatchKeysetQueries() {
+        // given
+        ReviewViewCache cache = cache(1000, 100);
+        givenReviews(1L,
+                key(1L, 4.0, 3),
+                key(2L, 5.0, 3),
+                key(3L, 4.0, 7),
+                key(4L, 2.5, 0));
+
+        // when & then
+        assertThat(cache.head(1L, ReviewSort.STAR_DESC, 10)).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(cache.head(1L, ReviewSort.STAR_ASC, 10)).containsExactly(4L, 1L, 3L, 2L);
+        assertThat(cache.head(1L, ReviewSort.LIKES_DESC, 10)).containsExactly(3L, 2L, 1L, 4L);
+        assertThat(cache.head(1L, ReviewSort.LIKES_ASC, 10)).containsExactly(4L, 1L, 2L, 3L);
+        assertThat(cache.head(1L, ReviewSort.RECENT, 2)).containsExactly(4L, 3L);
+        verify(classReviewDataRepository, times(1)).findSortKeysByLectureId(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("최신순은 reviewId 가 아니라 작성 시각 순이며, 새 후기도 작성 시각 자리에 넣는다.")
+    void recentFollowsCreatedDate() {
+        // given
+        ReviewViewCache cache = cache(1000, 100);
+        givenReviews(1L,
+                new ReviewSortKey(51L, 4.0, 0, BASE.plusMinutes(1)),
+                new ReviewSortKey(2L, 4.0, 0, BASE.plusMinutes(2)),
+                new ReviewSortKey(52L, 4.0, 0, BASE.plusMinutes(3)));
+        cache.head(1L, ReviewSort.RECENT, 10);
+
+        // when
+        cache.reviewAdded(1L, 3L, 4.0, 0, BASE.plusMinutes(4));
+
+        // then
+        assertThat(cache.head(1L, ReviewSort.RECENT, 10)).containsExactly(3L, 52L, 2L, 51L);
+    }
+
+    @Test
+    @DisplayName("작성, 별점 수정, 좋아요, 삭제는 DB 를 다시 읽지 않고 해당 후기 자리만 바꾼다.")
+    void incrementalUpdates() {
+        // given
+        ReviewViewCache cache = cache(1000, 100);
+        givenReviews(1L, key(1L, 4.0, 0), key(2L, 3.0, 1));
+        cache.head(1L, ReviewSort.RECENT, 10);
+
+        // when
+        cache.reviewAdded(1L, 3L, 4.5, 0, BASE.plusMinutes(3));
+        cache.ratingChanged(1L, 2L, 5.0);
+        cache.likesChanged(1L, 1L, 4);
+        cache.reviewRemoved(1L, 3L);
+
+        // then
+        assertThat(cache.head(1L, ReviewSort.STAR_DESC, 10)).containsExactly(2L, 1L);
+        assertThat(cache.head(1L, ReviewSort.LIKES_DESC, 10)).containsExactly(1L, 2L);
+        assertThat(cache.head(1L, ReviewSort.RECENT, 10)).containsExactly(2L, 1L);
+        verify(classReviewDataRepository, times(1)).findSortKeysByLectureId(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("적재 결과에 이미 있는 후기가 다시 추가되어도 한 번만 들어간다.")
+    void addIsIdempotent() {
+        // given
+        ReviewViewCache cache = cache(1000, 100);
+        givenReviews(1L, key(1L, 4.0, 0));
+        cache.head(1L, ReviewSort.RECENT, 10);
+
+        // when
+        cache.reviewAdded(1L, 1L, 4.0, 0, BASE.plusMinutes(1));
+
+        // then
+        assertThat(cache.head(1L, ReviewSort.STAR_DESC, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 후기의 별점이 바뀌면 강의 정렬 순서를 버리고 다시 적재한다.")
+    void evictOnUnknownReview() {
+        // given
+        ReviewViewCache cache = cache(1000, 100);
+        givenReviews(1L, key(1L, 4.0, 0));
+        cache.head(1L, ReviewSort.RECENT, 10);
+
+        // when
+        cache.ratingChanged(1L, 9L, 1.0);
+        cache.head(1L, ReviewSort.RECENT, 10);
+
+        // then
+        verify(classReviewDataRepository, times(2)).findSortKeysByLectureId(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("올린 후기 수가 상한을 넘으면 가장 오래 조회되지 않은 강의부터 내린다.")
+    void boundedResidency() {
+        // given
+        // 후기 하나인 강의는 무게가 2 이므로 두 강의까지 올라간다.
+        ReviewViewCache cache = cache(4, 100);
+        givenReviews(1L, key(1L, 4.0, 0));
+        givenReviews(2L, key(2L, 4.0, 0));
+        givenReviews(3L, key(3L, 4.0, 0));
+
+        // when
+        cache.head(1L, ReviewSort.RECENT, 1);
+        cache.head(2L, ReviewSort.RECENT, 1);
+        cache.head(1L, ReviewSort.RECENT, 1);
+        cache.head(3L, ReviewSort.RECENT, 1);
+        cache.head(1L, ReviewSort.RECENT, 1);
+        cache.head(2L, ReviewSort.RECENT, 1);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        verify(classReviewDataRepository, times(1)).findSortKeysByLectureId(eq(1L), any());
+        verify(classReviewDataRepository, times(2)).findSortKeysByLectureId(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("강의 수가 적어도 후기가 많은 강의가 올라오면 후기 수 상한에 맞춰 다른 강의를 내린다.")
+    void boundedByReviews() {
+        // given
+        ReviewViewCache cache = cache(6, 100);
+        givenReviews(1L, key(1L, 4.0, 0));
+        givenReviews(2L, key(2L, 4.0, 0), key(3L, 4.0, 0), key(4L, 4.0, 0));
+
+        // when
+        cache.head(1L, ReviewSort.RECENT, 1);
+        cache.head(2L, ReviewSort.RECENT, 1);
+        cache.reviewAdded(2L, 5L, 4.0, 0, BASE.plusMinutes(5));
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.head(2L, ReviewSort.RECENT, 10)).containsExactly(5L, 4L, 3L, 2L);
+        verify(classReviewDataRepository, times(1)).findSortKeysByLectureId(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("후기가 상한보다 많은 강의는 캐시를 쓰지 않는다.")
+    void oversizedLecture() {
+        // given
+        ReviewViewCache cache = cache(1000, 2);
+        givenReviews(1L, key(1L, 4.0, 0), key(2L, 4.0, 0), key(3L, 4.0, 0));
+
+        // when
+        long[] head = cache.head(1L, ReviewSort.RECENT, 10);
+
+        // then
+        assertThat(head).isNull();
+    }
+
+    @Test
+    @DisplayName("적재한 지 TTL 이 지난 정렬 순서는 다른 인스턴스의 변경을 반영하도록 다시 적재한다.")
+    void reloadAfterTimeToLive() {
+        // given
+        ReviewViewCache cache = new ReviewViewCache(classReviewDataRepository, true, 1000, 100, 0);
+        given(classReviewDataRepository.findSortKeysByLectureId(eq(1L), any()))
+                .willReturn(List.of(key(1L, 4.0, 0)),
+                        List.of(key(1L, 4.0, 0), key(2L, 5.0, 0)));
+
+        // when
+        cache.head(1L, ReviewSort.RECENT, 10);
+        long[] head = cache.head(1L, ReviewSort.RECENT, 10);
+
+        // then
+        assertThat(head).containsExactly(2L, 1L);
+        verify(classReviewDataRepository, times(2)).findSortKeysByLectureId(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("같은 강의를 동시에 적재하면 DB 는 한 번만 읽고 나머지 요청은 그 결과를 쓴다.")
+    void coalesceConcurrentLoads() throws Exception {
+        // given
+        ReviewViewCache cache = cache(1000, 100);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        given(classReviewDataRepository.findSortKeysByLectureId(eq(1L), any())).willAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return List.of(key(1L, 4.0, 0));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // when
+            Future<long[]> first = executor.submit(() -> cache.head(1L, ReviewSort.RECENT, 10));
+            loadStarted.await(5, TimeUnit.SECONDS);
+            List<Future<long[]>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(executor.submit(() -> cache.head(1L, ReviewSort.RECENT, 10)));
+            }
+            Thread.sleep(100);
+            releaseLoad.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(1L);
+            for (Future<long[]> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS)).containsExactly(1L);
+            }
+            verify(classReviewDataRepository, times(1)).findSortKeysByLectureId(eq(1L), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
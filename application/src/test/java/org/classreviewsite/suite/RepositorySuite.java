@@ -10,6 +10,7 @@ import org.junit.platform.suite.api.Suite;
         EnrollmentDataRepositoryTest.class,
         ImageUrlDataRepositoryTest.class,
         LectureDataRepositoryTest.class,
+        LectureSemesterRatingDataRepositoryTest.class,
         LikesDataRepositoryTest.class,
         UserDataRepositoryTest.class,
         ReviewLogicTest.class
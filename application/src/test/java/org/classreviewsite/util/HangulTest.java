@@ -0,0 +1,38 @@
+package org.classreviewsite.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HangulTest {
+
+    @Test
+    @DisplayName("음절을 자모로 분해하고 공백은 버린다.")
+    void decompose() {
+        assertThat(Hangul.decompose("자료 구조")).isEqualTo("ㅈㅏㄹㅛㄱㅜㅈㅗ");
+    }
+
+    @Test
+    @DisplayName("겹모음과 겹받침도 낱자로 분해한다.")
+    void decomposeCompound() {
+        assertThat(Hangul.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(Hangul.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(Hangul.decompose("ㄺ")).isEqualTo("ㄹㄱ");
+    }
+
+    @Test
+    @DisplayName("초성을 추출한다.")
+    void chosung() {
+        assertThat(Hangul.chosung("자료 구조")).isEqualTo("ㅈㄹㄱㅈ");
+        assertThat(Hangul.chosung("C언어")).isEqualTo("cㅇㅇ");
+    }
+
+    @Test
+    @DisplayName("자음으로만 이루어진 검색어를 초성 검색어로 판단한다.")
+    void isChosungQuery() {
+        assertThat(Hangul.isChosungQuery("ㅈㄹ ㄱㅈ")).isTrue();
+        assertThat(Hangul.isChosungQuery("자ㄹ")).isFalse();
+        assertThat(Hangul.isChosungQuery("  ")).isFalse();
+    }
+}
@@ -0,0 +1,55 @@
+package org.classreviewsite.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 원래 정렬 키를 반환한다.")
+    void encodeAndDecode() {
+        // given
+        String cursor = KeysetCursor.encode(4.5, 120L);
+
+        // when
+        String[] keys = KeysetCursor.decode(cursor, 2);
+
+        // then
+        assertThat(keys).containsExactly("4.5", "120");
+    }
+
+    @Test
+    @DisplayName("단일 Long 커서를 디코딩한다.")
+    void decodeLong() {
+        assertThat(KeysetCursor.decodeLong(KeysetCursor.encode(42L))).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 IllegalArgumentException 을 발생한다.")
+    void invalidCursor() {
+        assertThatThrownBy(() -> KeysetCursor.decodeLong("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("키 개수가 다른 커서는 거부한다.")
+    void keyCountMismatch() {
+        String cursor = KeysetCursor.encode(1L, 2L);
+
+        assertThatThrownBy(() -> KeysetCursor.decodeLong(cursor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 기본값과 최대값으로 보정된다.")
+    void limit() {
+        assertThat(CursorPage.limit(null)).isEqualTo(CursorPage.DEFAULT_SIZE);
+        assertThat(CursorPage.limit(0)).isEqualTo(CursorPage.DEFAULT_SIZE);
+        assertThat(CursorPage.limit(10_000)).isEqualTo(CursorPage.MAX_SIZE);
+        assertThat(CursorPage.limit(30)).isEqualTo(30);
+    }
+}
@@ -1,10 +1,13 @@
 package org.classreviewsite.util;
 
 import org.assertj.core.api.Assertions;
+import org.classreviewsite.domain.util.DateFormat;
 import org.classreviewsite.domain.util.NumberFormat;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+
 public class UtilsTest {
 
     @Test
@@ -22,4 +25,34 @@ public class UtilsTest {
         Assertions.assertThat(translatedNumber).isEqualTo(1.5);
     }
 
+    @Test
+    @DisplayName("소수점 둘째 자리에서 반올림하고, 이미 첫째 자리까지인 값은 그대로 돌려준다.")
+    void numberFormatRounding() {
+        // given
+        Double stored = 4.5;
+
+        // when & then
+        Assertions.assertThat(NumberFormat.format(1.45)).isEqualTo(1.5);
+        Assertions.assertThat(NumberFormat.format(3.3333333)).isEqualTo(3.3);
+        Assertions.assertThat(NumberFormat.format(stored)).isSameAs(stored);
+        Assertions.assertThat(NumberFormat.format(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("작성일을 연-월-일 문자열로 바꾸고, 같은 날짜는 같은 문자열을 재사용한다.")
+    void dateFormat() {
+        // given
+        LocalDateTime morning = LocalDateTime.of(2024, 3, 5, 9, 0);
+        LocalDateTime evening = LocalDateTime.of(2024, 3, 5, 21, 30);
+
+        // when
+        String formatted = DateFormat.format(morning);
+
+        // then
+        Assertions.assertThat(formatted).isEqualTo("2024-3-5");
+        Assertions.assertThat(DateFormat.format(evening)).isSameAs(formatted);
+        Assertions.assertThat(DateFormat.format(LocalDateTime.of(2021, 12, 31, 0, 0))).isEqualTo("2021-12-31");
+        Assertions.assertThat(DateFormat.format(null)).isNull();
+    }
+
 }
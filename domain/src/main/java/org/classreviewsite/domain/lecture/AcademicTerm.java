@@ -0,0 +1,34 @@
+package org.classreviewsite.domain.lecture;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학년도와 학기. 수강후기는 학기가 끝날 무렵부터 다음 학기 시작 전까지 주로 작성되므로
+ * 3~8월에 쓴 후기는 그해 1학기, 9~12월은 그해 2학기, 1~2월은 전년도 2학기로 본다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class AcademicTerm {
+
+    private final int year;
+    private final int semester;
+
+    private AcademicTerm(int year, int semester) {
+        this.year = year;
+        this.semester = semester;
+    }
+
+    public static AcademicTerm of(LocalDateTime writtenAt) {
+        int month = writtenAt.getMonthValue();
+        if (month <= 2) {
+            return new AcademicTerm(writtenAt.getYear() - 1, 2);
+        }
+        return new AcademicTerm(writtenAt.getYear(), month <= 8 ? 1 : 2);
+    }
+
+}
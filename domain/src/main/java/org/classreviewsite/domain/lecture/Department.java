@@ -0,0 +1,33 @@
+package org.classreviewsite.domain.lecture;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학과명 사전. 강의마다 반복되던 학과명 문자열 대신 이 테이블의 정수 id 를 함께 저장한다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "Department")
+public class Department {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer departmentId;
+
+    @Column(nullable = false, length = 45, unique = true)
+    private String name;
+
+    public static Department of(String name) {
+        return Department.builder()
+                .name(name)
+                .build();
+    }
+
+}
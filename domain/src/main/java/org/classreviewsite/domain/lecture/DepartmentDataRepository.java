@@ -0,0 +1,13 @@
+package org.classreviewsite.domain.lecture;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DepartmentDataRepository extends JpaRepository<Department, Integer> {
+
+    Optional<Department> findByName(String name);
+
+}
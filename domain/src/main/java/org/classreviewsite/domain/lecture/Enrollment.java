@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.classreviewsite.domain.user.User;
+import org.classreviewsite.domain.util.IdSequences;
 
 /**
  * @see @변경할점.
@@ -12,11 +13,14 @@ import org.classreviewsite.domain.user.User;
  */
 @Getter @NoArgsConstructor @AllArgsConstructor
 @Entity
+@Table(name = "Enrollment", indexes = @Index(name = "idx_enrollment_user_lecture", columnList = "userNumber, lecture_lectureId"))
 public class Enrollment {
 
     // 수강한 고유 번호
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "EnrollmentId")
+    @TableGenerator(name = "EnrollmentId", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "Enrollment", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long completionNumber;
 
     // 이수 구분
@@ -0,0 +1,25 @@
+package org.classreviewsite.domain.lecture;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 수강후기 작성 검사 프로젝션. 수강 내역의 강의 id, 학번과 같은 강의에 이미 쓴 후기 id 를 함께 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class EnrollmentCheck {
+
+    private final Long lectureId;
+    private final int userNumber;
+
+    /**
+     * 이미 쓴 후기가 없으면 null
+     */
+    private final Long writtenReviewId;
+
+    public boolean isWritten() {
+        return writtenReviewId != null;
+    }
+
+}
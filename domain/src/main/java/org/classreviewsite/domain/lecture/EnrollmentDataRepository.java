@@ -1,8 +1,12 @@
 package org.classreviewsite.domain.lecture;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +15,27 @@ public interface EnrollmentDataRepository extends JpaRepository<Enrollment, Long
     Optional<Enrollment> findByUserNumber_UserNumberAndLecture_LectureId(int userNumber, Long lectureId);
     Optional<List<Enrollment>> findByUserNumber_UserNumber(int userNumber);
     Optional<Enrollment> findByUserNumber_UserNumberAndLecture_LectureName(int userNumber, String lectureName);
+
+    /**
+     * 수강후기 작성 검사 - 수강 내역, 강의 id, 같은 강의에 이미 쓴 후기를 한 번의 조인 쿼리로 읽는다.
+     * 재수강으로 수강 내역이 여러 건일 수 있으므로 호출 측에서 한 건으로 제한한다.
+     */
+    @Query("select new org.classreviewsite.domain.lecture.EnrollmentCheck(l.lectureId, u.userNumber, r.reviewId) " +
+           "from Enrollment e join e.lecture l join e.userNumber u " +
+           "left join ClassReview r on r.userNumber.userNumber = u.userNumber and r.lecId.lectureId = l.lectureId " +
+           "where u.userNumber = :userNumber and l.lectureName = :lectureName")
+    List<EnrollmentCheck> findWriteCheck(@Param("userNumber") int userNumber,
+                                         @Param("lectureName") String lectureName,
+                                         Pageable pageable);
+
+    /**
+     * 수강 내역 묶음 조회 - 학번 목록과 강의 id 목록의 조합 중 실제 수강한 쌍만 돌려준다.
+     * (userNumber, lecture_lectureId) 인덱스로 읽는다.
+     */
+    @Query("select distinct new org.classreviewsite.domain.lecture.EnrollmentKey(e.userNumber.userNumber, e.lecture.lectureId) " +
+           "from Enrollment e where e.userNumber.userNumber in :userNumbers and e.lecture.lectureId in :lectureIds")
+    List<EnrollmentKey> findKeysByUserNumbersAndLectureIds(@Param("userNumbers") Collection<Integer> userNumbers,
+                                                          @Param("lectureIds") Collection<Long> lectureIds);
 }
 
 
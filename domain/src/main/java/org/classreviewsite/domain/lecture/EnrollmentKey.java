@@ -0,0 +1,18 @@
+package org.classreviewsite.domain.lecture;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * (학번, 강의 id) 쌍만 읽는 프로젝션. 여러 후기의 수강 내역, 작성 내역을 한 번의 쿼리로 확인할 때 쓴다.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EnrollmentKey {
+
+    private final int userNumber;
+    private final Long lectureId;
+
+}
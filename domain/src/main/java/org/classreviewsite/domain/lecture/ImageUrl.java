@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.classreviewsite.domain.util.IdSequences;
 
 /**
  * @see @삭제 예정
@@ -19,7 +20,9 @@ import lombok.NoArgsConstructor;
 public class ImageUrl {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ImageUrlId")
+    @TableGenerator(name = "ImageUrlId", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "ImageUrl", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long imageNumber;
 
     @Column(nullable = true, length = 255, unique = false)
@@ -12,7 +12,11 @@ import org.classreviewsite.domain.util.NumberFormat;
 @Builder
 @Getter
 @Entity
-@Table(name = "Lectures")
+@Table(name = "Lectures", indexes = {
+        @Index(name = "idx_lectures_university_id_lecture_id", columnList = "universityId, lectureId"),
+        @Index(name = "idx_lectures_university_weighted_rating", columnList = "university, weighted_rating"),
+        @Index(name = "idx_lectures_lecture_name", columnList = "lectureName")
+})
 public class Lecture {
 
     @Id
@@ -32,6 +36,18 @@ public class Lecture {
     @Column(nullable = false, length = 45, unique = false)
     private String university;
 
+    /**
+     * University 사전 id. 목록 조회는 문자열 university 대신 이 컬럼으로 거른다.
+     */
+    @Column(name = "universityId", nullable = true)
+    private Integer universityId;
+
+    /**
+     * Department 사전 id.
+     */
+    @Column(name = "departmentId", nullable = true)
+    private Integer departmentId;
+
     @Column(nullable = false)
     private String professor;
 
@@ -47,8 +63,7 @@ public class Lecture {
     }
 
     public void updateStarRating(Double postStar, Double requestStar) {
-        removeStarRating(postStar);
-        addStarRating(requestStar);
+        this.starRating.updateRating(postStar, requestStar);
     }
 
     public void updateProfessorName(String professorName) {
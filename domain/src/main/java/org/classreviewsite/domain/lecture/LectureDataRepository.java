@@ -6,66 +6,238 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LectureDataRepository extends JpaRepository<Lecture, Long> {
     Optional<Lecture> findByLectureName(@Param("lectureName") String lectureName);
-    List<Lecture> findByUniversity(@Param("university") String university);
     Optional<Lecture> findByLectureId(Long lectureId);
+    List<Lecture> findByLectureNameIn(Collection<String> lectureNames);
+    boolean existsByUniversity(String university);
+
+    @Query("SELECT DISTINCT l.university FROM Lecture l")
+    List<String> findUniversities();
+
+    @Query("SELECT DISTINCT l.department FROM Lecture l")
+    List<String> findDepartments();
+
+    /**
+     * 대학 사전 id 반영 - Bulk Update
+     * 사전 도입 이전 행과 사전 id 없이 들어온 행에 universityId 를 채운다.
+     *
+     * @param university 대학명
+     * @param universityId University 사전 id
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Lecture l SET l.universityId = :universityId " +
+           "WHERE l.university = :university AND (l.universityId IS NULL OR l.universityId <> :universityId)")
+    int assignUniversityId(@Param("university") String university, @Param("universityId") Integer universityId);
+
+    /**
+     * 학과 사전 id 반영 - Bulk Update
+     *
+     * @param department 학과명
+     * @param departmentId Department 사전 id
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Lecture l SET l.departmentId = :departmentId " +
+           "WHERE l.department = :department AND (l.departmentId IS NULL OR l.departmentId <> :departmentId)")
+    int assignDepartmentId(@Param("department") String department, @Param("departmentId") Integer departmentId);
+
+    /**
+     * 대학별 강의 목록 조회 - DTO 프로젝션
+     * 엔티티 대신 목록 응답에 필요한 컬럼만 LectureSummary 로 바로 조회한다.
+     * (universityId, lectureId) 인덱스로 문자열 비교 없이 읽는다.
+     *
+     * @param universityId University 사전 id
+     * @return lectureId 오름차순 강의 요약 목록
+     */
+    @Query("SELECT new org.classreviewsite.domain.lecture.LectureSummary(" +
+           "l.lectureId, l.lectureName, l.department, l.university, l.professor, l.lectureType, " +
+           "l.starRating.averageRating, l.starRating.totalRating, l.starRating.reviewCount, l.starRating.weightedRating, " +
+           "l.starRating.ratingCount1, l.starRating.ratingCount2, l.starRating.ratingCount3, l.starRating.ratingCount4, l.starRating.ratingCount5) " +
+           "FROM Lecture l WHERE l.universityId = :universityId " +
+           "ORDER BY l.lectureId ASC")
+    List<LectureSummary> findSummariesByUniversityId(@Param("universityId") Integer universityId);
+
+    /**
+     * 단일 강의 조회 - DTO 프로젝션
+     *
+     * @param lectureId 강의 ID
+     * @return 강의 요약
+     */
+    @Query("SELECT new org.classreviewsite.domain.lecture.LectureSummary(" +
+           "l.lectureId, l.lectureName, l.department, l.university, l.professor, l.lectureType, " +
+           "l.starRating.averageRating, l.starRating.totalRating, l.starRating.reviewCount, l.starRating.weightedRating, " +
+           "l.starRating.ratingCount1, l.starRating.ratingCount2, l.starRating.ratingCount3, l.starRating.ratingCount4, l.starRating.ratingCount5) " +
+           "FROM Lecture l WHERE l.lectureId = :lectureId")
+    Optional<LectureSummary> findSummaryByLectureId(@Param("lectureId") Long lectureId);
+
     
     /**
      * 별점 추가 - Atomic Update
-     * 단일 쿼리로 reviewCount 증가, totalRating 증가, averageRating 재계산을 원자적으로 수행
+     * 단일 쿼리로 reviewCount 증가, totalTenths 증가, averageRating, weightedRating 재계산, 별점 분포 증가를 원자적으로 수행
+     * MySQL 은 SET 절을 왼쪽부터 평가하며 앞에서 바뀐 값을 뒤에서 읽으므로, 파생 컬럼을 먼저 계산하고 누적 컬럼을 마지막에 바꾼다.
+     * 별점 합은 0.1점 단위 정수로 누적하고, averageRating 은 (2T + C - MOD(2T + C, 2C)) / 2C 의 정수 반올림으로 소수 첫째 자리까지만 저장한다.
      * 
      * @param lectureId 강의 ID
-     * @param rating 추가할 별점
+     * @param ratingTenths 추가할 별점 (0.1점 단위, StarRating.toTenths)
+     * @param bucket 별점 분포 구간 (StarRating.bucketOf)
+     * @param priorWeight 베이지안 사전값 가중치 C
+     * @param priorMean 베이지안 사전값 평균 m
      * @return 업데이트된 행 수
      */
     @Modifying
     @Query("UPDATE Lecture l SET " +
-           "l.starRating.reviewCount = l.starRating.reviewCount + 1, " +
-           "l.starRating.totalRating = l.starRating.totalRating + :rating, " +
-           "l.starRating.averageRating = (l.starRating.totalRating + :rating) / (l.starRating.reviewCount + 1) " +
+           "l.starRating.averageRating = ((2 * (COALESCE(l.starRating.totalTenths, 0) + :ratingTenths) + (l.starRating.reviewCount + 1)) - MOD(2 * (COALESCE(l.starRating.totalTenths, 0) + :ratingTenths) + (l.starRating.reviewCount + 1), 2 * (l.starRating.reviewCount + 1))) / (20.0 * (l.starRating.reviewCount + 1)), " +
+           "l.starRating.weightedRating = (:priorWeight * :priorMean + (COALESCE(l.starRating.totalTenths, 0) + :ratingTenths) / 10.0) / (:priorWeight + (l.starRating.reviewCount + 1)), " +
+           "l.starRating.totalRating = (COALESCE(l.starRating.totalTenths, 0) + :ratingTenths) / 10.0, " +
+           "l.starRating.totalTenths = (COALESCE(l.starRating.totalTenths, 0) + :ratingTenths), " +
+           "l.starRating.ratingCount1 = COALESCE(l.starRating.ratingCount1, 0) + CASE WHEN :bucket = 1 THEN 1 ELSE 0 END, " +
+           "l.starRating.ratingCount2 = COALESCE(l.starRating.ratingCount2, 0) + CASE WHEN :bucket = 2 THEN 1 ELSE 0 END, " +
+           "l.starRating.ratingCount3 = COALESCE(l.starRating.ratingCount3, 0) + CASE WHEN :bucket = 3 THEN 1 ELSE 0 END, " +
+           "l.starRating.ratingCount4 = COALESCE(l.starRating.ratingCount4, 0) + CASE WHEN :bucket = 4 THEN 1 ELSE 0 END, " +
+           "l.starRating.ratingCount5 = COALESCE(l.starRating.ratingCount5, 0) + CASE WHEN :bucket = 5 THEN 1 ELSE 0 END, " +
+           "l.starRating.reviewCount = l.starRating.reviewCount + 1 " +
            "WHERE l.lectureId = :lectureId")
     int addStarRatingAtomic(@Param("lectureId") Long lectureId, 
-                            @Param("rating") Double rating);
+                            @Param("ratingTenths") Long ratingTenths,
+                            @Param("bucket") Integer bucket,
+                            @Param("priorWeight") Double priorWeight,
+                            @Param("priorMean") Double priorMean);
     
     /**
      * 별점 제거 - Atomic Update
-     * 단일 쿼리로 reviewCount 감소, totalRating 감소, averageRating 재계산을 원자적으로 수행
+     * 단일 쿼리로 reviewCount 감소, totalTenths 감소, averageRating, weightedRating 재계산, 별점 분포 감소를 원자적으로 수행
+     * 마지막 후기가 지워지면 weightedRating 은 사전값 평균이 된다.
      * 
      * @param lectureId 강의 ID
-     * @param rating 제거할 별점
+     * @param ratingTenths 제거할 별점 (0.1점 단위)
+     * @param bucket 별점 분포 구간 (StarRating.bucketOf)
+     * @param priorWeight 베이지안 사전값 가중치 C
+     * @param priorMean 베이지안 사전값 평균 m
      * @return 업데이트된 행 수
      */
     @Modifying
     @Query("UPDATE Lecture l SET " +
-           "l.starRating.reviewCount = CASE WHEN l.starRating.reviewCount > 0 THEN l.starRating.reviewCount - 1 ELSE 0 END, " +
-           "l.starRating.totalRating = CASE WHEN l.starRating.totalRating >= :rating THEN l.starRating.totalRating - :rating ELSE 0.0 END, " +
-           "l.starRating.averageRating = CASE WHEN (l.starRating.reviewCount - 1) > 0 THEN (l.starRating.totalRating - :rating) / (l.starRating.reviewCount - 1) ELSE 0.0 END " +
+           "l.starRating.averageRating = CASE WHEN (l.starRating.reviewCount - 1) > 0 AND (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) > 0 THEN ((2 * (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) + (l.starRating.reviewCount - 1)) - MOD(2 * (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) + (l.starRating.reviewCount - 1), 2 * (l.starRating.reviewCount - 1))) / (20.0 * (l.starRating.reviewCount - 1)) ELSE 0.0 END, " +
+           "l.starRating.weightedRating = CASE WHEN (l.starRating.reviewCount - 1) > 0 AND (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) > 0 THEN (:priorWeight * :priorMean + (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) / 10.0) / (:priorWeight + (l.starRating.reviewCount - 1)) ELSE :priorMean END, " +
+           "l.starRating.totalRating = CASE WHEN (l.starRating.reviewCount - 1) > 0 AND (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) > 0 THEN (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) / 10.0 ELSE 0.0 END, " +
+           "l.starRating.totalTenths = CASE WHEN (l.starRating.reviewCount - 1) > 0 AND (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) > 0 THEN (COALESCE(l.starRating.totalTenths, 0) - :ratingTenths) ELSE 0 END, " +
+           "l.starRating.ratingCount1 = CASE WHEN :bucket = 1 AND l.starRating.ratingCount1 > 0 THEN l.starRating.ratingCount1 - 1 ELSE COALESCE(l.starRating.ratingCount1, 0) END, " +
+           "l.starRating.ratingCount2 = CASE WHEN :bucket = 2 AND l.starRating.ratingCount2 > 0 THEN l.starRating.ratingCount2 - 1 ELSE COALESCE(l.starRating.ratingCount2, 0) END, " +
+           "l.starRating.ratingCount3 = CASE WHEN :bucket = 3 AND l.starRating.ratingCount3 > 0 THEN l.starRating.ratingCount3 - 1 ELSE COALESCE(l.starRating.ratingCount3, 0) END, " +
+           "l.starRating.ratingCount4 = CASE WHEN :bucket = 4 AND l.starRating.ratingCount4 > 0 THEN l.starRating.ratingCount4 - 1 ELSE COALESCE(l.starRating.ratingCount4, 0) END, " +
+           "l.starRating.ratingCount5 = CASE WHEN :bucket = 5 AND l.starRating.ratingCount5 > 0 THEN l.starRating.ratingCount5 - 1 ELSE COALESCE(l.starRating.ratingCount5, 0) END, " +
+           "l.starRating.reviewCount = CASE WHEN l.starRating.reviewCount > 0 THEN l.starRating.reviewCount - 1 ELSE 0 END " +
            "WHERE l.lectureId = :lectureId AND l.starRating.reviewCount > 0")
     int removeStarRatingAtomic(@Param("lectureId") Long lectureId, 
-                               @Param("rating") Double rating);
+                               @Param("ratingTenths") Long ratingTenths,
+                               @Param("bucket") Integer bucket,
+                               @Param("priorWeight") Double priorWeight,
+                               @Param("priorMean") Double priorMean);
     
     /**
      * 별점 수정 - Atomic Update
-     * 기존 별점 제거 후 새 별점 추가를 단일 쿼리로 수행
+     * 기존 별점 제거 후 새 별점 추가를 단일 쿼리로 수행. 별점 분포도 기존 구간에서 새 구간으로 옮긴다.
      * 
      * @param lectureId 강의 ID
-     * @param oldRating 기존 별점
-     * @param newRating 새 별점
+     * @param oldRatingTenths 기존 별점 (0.1점 단위)
+     * @param newRatingTenths 새 별점 (0.1점 단위)
+     * @param oldBucket 기존 별점의 분포 구간
+     * @param newBucket 새 별점의 분포 구간
+     * @param priorWeight 베이지안 사전값 가중치 C
+     * @param priorMean 베이지안 사전값 평균 m
      * @return 업데이트된 행 수
      */
     @Modifying
     @Query("UPDATE Lecture l SET " +
-           "l.starRating.totalRating = l.starRating.totalRating - :oldRating + :newRating, " +
-           "l.starRating.averageRating = (l.starRating.totalRating - :oldRating + :newRating) / l.starRating.reviewCount " +
+           "l.starRating.averageRating = ((2 * (COALESCE(l.starRating.totalTenths, 0) - :oldRatingTenths + :newRatingTenths) + l.starRating.reviewCount) - MOD(2 * (COALESCE(l.starRating.totalTenths, 0) - :oldRatingTenths + :newRatingTenths) + l.starRating.reviewCount, 2 * l.starRating.reviewCount)) / (20.0 * l.starRating.reviewCount), " +
+           "l.starRating.weightedRating = (:priorWeight * :priorMean + (COALESCE(l.starRating.totalTenths, 0) - :oldRatingTenths + :newRatingTenths) / 10.0) / (:priorWeight + l.starRating.reviewCount), " +
+           "l.starRating.totalRating = (COALESCE(l.starRating.totalTenths, 0) - :oldRatingTenths + :newRatingTenths) / 10.0, " +
+           "l.starRating.totalTenths = (COALESCE(l.starRating.totalTenths, 0) - :oldRatingTenths + :newRatingTenths), " +
+           "l.starRating.ratingCount1 = COALESCE(l.starRating.ratingCount1, 0) + CASE WHEN :newBucket = 1 THEN 1 ELSE 0 END - CASE WHEN :oldBucket = 1 AND l.starRating.ratingCount1 > 0 THEN 1 ELSE 0 END, " +
+           "l.starRating.ratingCount2 = COALESCE(l.starRating.ratingCount2, 0) + CASE WHEN :newBucket = 2 THEN 1 ELSE 0 END - CASE WHEN :oldBucket = 2 AND l.starRating.ratingCount2 > 0 THEN 1 ELSE 0 END, " +
+           "l.starRating.ratingCount3 = COALESCE(l.starRating.ratingCount3, 0) + CASE WHEN :newBucket = 3 THEN 1 ELSE 0 END - CASE WHEN :oldBucket = 3 AND l.starRating.ratingCount3 > 0 THEN 1 ELSE 0 END, " +
+           "l.starRating.ratingCount4 = COALESCE(l.starRating.ratingCount4, 0) + CASE WHEN :newBucket = 4 THEN 1 ELSE 0 END - CASE WHEN :oldBucket = 4 AND l.starRating.ratingCount4 > 0 THEN 1 ELSE 0 END, " +
+           "l.starRating.ratingCount5 = COALESCE(l.starRating.ratingCount5, 0) + CASE WHEN :newBucket = 5 THEN 1 ELSE 0 END - CASE WHEN :oldBucket = 5 AND l.starRating.ratingCount5 > 0 THEN 1 ELSE 0 END " +
            "WHERE l.lectureId = :lectureId AND l.starRating.reviewCount > 0")
     int updateStarRatingAtomic(@Param("lectureId") Long lectureId,
-                               @Param("oldRating") Double oldRating,
-                               @Param("newRating") Double newRating);
+                               @Param("oldRatingTenths") Long oldRatingTenths,
+                               @Param("newRatingTenths") Long newRatingTenths,
+                               @Param("oldBucket") Integer oldBucket,
+                               @Param("newBucket") Integer newBucket,
+                               @Param("priorWeight") Double priorWeight,
+                               @Param("priorMean") Double priorMean);
+
+    /**
+     * 별점 변화량 일괄 반영 - Atomic Update
+     * 쓰기 지연 모드에서 모아 둔 (후기 수, 별점 합, 별점 분포) 변화량을 강의당 한 번의 UPDATE 로 반영한다.
+     *
+     * @param lectureId 강의 ID
+     * @param countDelta 후기 수 변화량
+     * @param totalTenthsDelta 별점 합 변화량 (0.1점 단위)
+     * @param histogram1 1점 구간 후기 수 변화량 (histogram2~5 도 같은 방식)
+     * @param priorWeight 베이지안 사전값 가중치 C
+     * @param priorMean 베이지안 사전값 평균 m
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Lecture l SET " +
+           "l.starRating.averageRating = CASE WHEN (COALESCE(l.starRating.reviewCount, 0) + :countDelta) > 0 AND (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) > 0 THEN ((2 * (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) + (COALESCE(l.starRating.reviewCount, 0) + :countDelta)) - MOD(2 * (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) + (COALESCE(l.starRating.reviewCount, 0) + :countDelta), 2 * (COALESCE(l.starRating.reviewCount, 0) + :countDelta))) / (20.0 * (COALESCE(l.starRating.reviewCount, 0) + :countDelta)) ELSE 0.0 END, " +
+           "l.starRating.weightedRating = CASE WHEN (COALESCE(l.starRating.reviewCount, 0) + :countDelta) > 0 AND (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) > 0 THEN (:priorWeight * :priorMean + (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) / 10.0) / (:priorWeight + (COALESCE(l.starRating.reviewCount, 0) + :countDelta)) ELSE :priorMean END, " +
+           "l.starRating.totalRating = CASE WHEN (COALESCE(l.starRating.reviewCount, 0) + :countDelta) > 0 AND (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) > 0 THEN (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) / 10.0 ELSE 0.0 END, " +
+           "l.starRating.totalTenths = CASE WHEN (COALESCE(l.starRating.reviewCount, 0) + :countDelta) > 0 AND (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) > 0 THEN (COALESCE(l.starRating.totalTenths, 0) + :totalTenthsDelta) ELSE 0 END, " +
+           "l.starRating.ratingCount1 = CASE WHEN (COALESCE(l.starRating.ratingCount1, 0) + :histogram1) > 0 THEN COALESCE(l.starRating.ratingCount1, 0) + :histogram1 ELSE 0 END, " +
+           "l.starRating.ratingCount2 = CASE WHEN (COALESCE(l.starRating.ratingCount2, 0) + :histogram2) > 0 THEN COALESCE(l.starRating.ratingCount2, 0) + :histogram2 ELSE 0 END, " +
+           "l.starRating.ratingCount3 = CASE WHEN (COALESCE(l.starRating.ratingCount3, 0) + :histogram3) > 0 THEN COALESCE(l.starRating.ratingCount3, 0) + :histogram3 ELSE 0 END, " +
+           "l.starRating.ratingCount4 = CASE WHEN (COALESCE(l.starRating.ratingCount4, 0) + :histogram4) > 0 THEN COALESCE(l.starRating.ratingCount4, 0) + :histogram4 ELSE 0 END, " +
+           "l.starRating.ratingCount5 = CASE WHEN (COALESCE(l.starRating.ratingCount5, 0) + :histogram5) > 0 THEN COALESCE(l.starRating.ratingCount5, 0) + :histogram5 ELSE 0 END, " +
+           "l.starRating.reviewCount = CASE WHEN (COALESCE(l.starRating.reviewCount, 0) + :countDelta) > 0 THEN (COALESCE(l.starRating.reviewCount, 0) + :countDelta) ELSE 0 END " +
+           "WHERE l.lectureId = :lectureId")
+    int applyStarRatingDelta(@Param("lectureId") Long lectureId,
+                             @Param("countDelta") Long countDelta,
+                             @Param("totalTenthsDelta") Long totalTenthsDelta,
+                             @Param("histogram1") Long histogram1,
+                             @Param("histogram2") Long histogram2,
+                             @Param("histogram3") Long histogram3,
+                             @Param("histogram4") Long histogram4,
+                             @Param("histogram5") Long histogram5,
+                             @Param("priorWeight") Double priorWeight,
+                             @Param("priorMean") Double priorMean);
+
+    /**
+     * 대학별 별점 집계 - DTO 프로젝션
+     * 베이지안 사전값(대학 평균 별점, 강의당 평균 후기 수) 계산용. 후기가 있는 강의만 집계한다.
+     *
+     * @return 대학별 totalRating 합, reviewCount 합, 후기가 있는 강의 수
+     */
+    @Query("SELECT new org.classreviewsite.domain.lecture.LectureRatingAggregate(" +
+           "l.university, SUM(l.starRating.totalRating), SUM(l.starRating.reviewCount), COUNT(l)) " +
+           "FROM Lecture l WHERE l.starRating.reviewCount > 0 " +
+           "GROUP BY l.university")
+    List<LectureRatingAggregate> findRatingAggregates();
+
+    /**
+     * 대학 단위 weightedRating 일괄 재계산 - Bulk Update
+     * 사전값이 바뀌면 해당 대학의 모든 강의 점수가 바뀌므로 한 번의 UPDATE 로 다시 계산한다.
+     *
+     * @param university 대학명
+     * @param priorWeight 베이지안 사전값 가중치 C
+     * @param priorMean 베이지안 사전값 평균 m
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Lecture l SET " +
+           "l.starRating.weightedRating = (:priorWeight * :priorMean + COALESCE(l.starRating.totalRating, 0.0)) / (:priorWeight + COALESCE(l.starRating.reviewCount, 0)) " +
+           "WHERE l.university = :university")
+    int refreshWeightedRatings(@Param("university") String university,
+                               @Param("priorWeight") Double priorWeight,
+                               @Param("priorMean") Double priorMean);
 }
 
 
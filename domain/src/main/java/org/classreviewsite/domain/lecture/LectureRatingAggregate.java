@@ -0,0 +1,18 @@
+package org.classreviewsite.domain.lecture;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대학별 별점 집계 프로젝션.
+ */
+@Getter
+@AllArgsConstructor
+public class LectureRatingAggregate {
+
+    private final String university;
+    private final Double totalRating;
+    private final Long reviewCount;
+    private final Long lectureCount;
+
+}
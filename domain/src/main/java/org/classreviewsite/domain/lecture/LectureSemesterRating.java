@@ -0,0 +1,46 @@
+package org.classreviewsite.domain.lecture;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 강의별, 학기별 별점 집계. 별점 추이 조회가 ClassReview 를 훑지 않도록 후기 작성, 수정, 삭제 때마다 함께 갱신한다.
+ * 별점 합은 StarRating 과 같이 0.1점 단위 정수로 누적한다.
+ * 행 생성이 Lectures 행 잠금을 기다리지 않도록 외래 키는 두지 않는다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "LectureSemesterRating",
+        uniqueConstraints = @UniqueConstraint(name = "uk_lecture_semester_rating", columnNames = {"lectureId", "ratingYear", "semester"}))
+public class LectureSemesterRating {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long semesterRatingId;
+
+    @Column(nullable = false)
+    private Long lectureId;
+
+    @Column(nullable = false)
+    private Integer ratingYear;
+
+    @Column(nullable = false)
+    private Integer semester;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "total_star_tenths", nullable = false)
+    private Long totalTenths;
+
+    public Double getAverageRating() {
+        return StarRating.averageOf(totalTenths, reviewCount);
+    }
+
+}
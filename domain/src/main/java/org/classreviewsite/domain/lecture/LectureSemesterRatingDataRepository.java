@@ -0,0 +1,50 @@
+package org.classreviewsite.domain.lecture;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LectureSemesterRatingDataRepository extends JpaRepository<LectureSemesterRating, Long> {
+
+    /**
+     * 강의 별점 추이 조회
+     * (lectureId, ratingYear, semester) 유니크 인덱스 순서대로 읽는다.
+     *
+     * @param lectureId 강의 ID
+     * @return 후기가 남아 있는 학기의 오래된 순 집계
+     */
+    @Query("SELECT r FROM LectureSemesterRating r " +
+           "WHERE r.lectureId = :lectureId AND r.reviewCount > 0 " +
+           "ORDER BY r.ratingYear ASC, r.semester ASC")
+    List<LectureSemesterRating> findTrendByLectureId(@Param("lectureId") Long lectureId);
+
+    /**
+     * 학기별 별점 반영 - Upsert
+     * 학기의 첫 후기면 행을 만들고, 이미 있으면 유니크 키 충돌 시 변화량을 더한다. 호출한 트랜잭션 안에서 한 문장으로 끝나므로 커넥션을 더 잡지 않는다.
+     * 새 행은 후기가 늘어날 때만 별점 합을 채우며, 수정이나 삭제로 먼저 만들어진 행은 0 으로 남아 추이에 나오지 않는다.
+     *
+     * @param lectureId 강의 ID
+     * @param ratingYear 학년도
+     * @param semester 학기
+     * @param countDelta 후기 수 변화량
+     * @param tenthsDelta 별점 합 변화량 (0.1점 단위)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO LectureSemesterRating (lectureId, ratingYear, semester, review_count, total_star_tenths) " +
+                   "VALUES (:lectureId, :ratingYear, :semester, GREATEST(:countDelta, 0), CASE WHEN :countDelta > 0 THEN GREATEST(:tenthsDelta, 0) ELSE 0 END) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "review_count = GREATEST(review_count + :countDelta, 0), " +
+                   "total_star_tenths = GREATEST(total_star_tenths + :tenthsDelta, 0)",
+           nativeQuery = true)
+    void upsertRating(@Param("lectureId") Long lectureId,
+                      @Param("ratingYear") Integer ratingYear,
+                      @Param("semester") Integer semester,
+                      @Param("countDelta") Long countDelta,
+                      @Param("tenthsDelta") Long tenthsDelta);
+
+}
@@ -0,0 +1,52 @@
+package org.classreviewsite.domain.lecture;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 강의 목록/상세 조회용 읽기 전용 프로젝션.
+ * 영속성 컨텍스트에 올라가지 않으므로 스냅샷, dirty checking 비용 없이 필요한 컬럼만 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class LectureSummary {
+
+    private final Long lectureId;
+    private final String lectureName;
+    private final String department;
+    private final String university;
+    private final String professor;
+    private final LectureType lectureType;
+    private final Double averageRating;
+    private final Double totalRating;
+    private final Long reviewCount;
+    private final Double weightedRating;
+    private final Long ratingCount1;
+    private final Long ratingCount2;
+    private final Long ratingCount3;
+    private final Long ratingCount4;
+    private final Long ratingCount5;
+
+    /**
+     * 별점 분포 없이 만드는 요약. 분포는 모두 0 으로 둔다.
+     */
+    public LectureSummary(Long lectureId, String lectureName, String department, String university, String professor,
+                          LectureType lectureType, Double averageRating, Double totalRating, Long reviewCount, Double weightedRating) {
+        this(lectureId, lectureName, department, university, professor, lectureType, averageRating, totalRating, reviewCount,
+                weightedRating, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * @return 1점부터 5점까지 별 개수별 후기 수
+     */
+    public List<Long> getRatingHistogram() {
+        return List.of(orZero(ratingCount1), orZero(ratingCount2), orZero(ratingCount3), orZero(ratingCount4), orZero(ratingCount5));
+    }
+
+    private static Long orZero(Long count) {
+        return count == null ? 0L : count;
+    }
+
+}
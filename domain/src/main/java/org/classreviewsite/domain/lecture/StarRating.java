@@ -7,28 +7,65 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Embeddable
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class StarRating {
+    /**
+     * 소수 첫째 자리까지 반올림해 저장한 평균 별점. totalTenths 와 reviewCount 로 정수 연산해 구한다.
+     */
     @Column(name = "average_star_rating", nullable = true)
     private Double averageRating;
 
+    /**
+     * totalTenths / 10 을 그대로 옮겨 둔 조회용 값. 누적 연산은 totalTenths 로만 한다.
+     */
     @Column(name = "total_star_rating", nullable = true)
     private Double totalRating;
 
+    /**
+     * 별점 합을 0.1점 단위 정수로 센 값. Double 을 더하고 빼면 오차가 쌓이므로 별점 누적은 이 컬럼이 기준이다.
+     */
+    @Column(name = "total_star_tenths", nullable = true)
+    private Long totalTenths;
+
     @Column(name = "review_count", nullable = true)
     private Long reviewCount;
 
-    public StarRating addRating(Double rating) {
-        if (this.reviewCount == null) this.reviewCount = 0L;
-        if (this.totalRating == null) this.totalRating = 0.0;
+    /**
+     * 베이지안 가중 평균 (C * m + totalRating) / (C + reviewCount).
+     * m 은 대학 전체 평균 별점, C 는 후기가 있는 강의의 평균 후기 수로, 후기가 적은 강의일수록 대학 평균 쪽으로 당겨진다.
+     * 순위 정렬용이며 Atomic Update 와 주기적인 사전값 갱신 작업에서만 계산한다.
+     */
+    @Column(name = "weighted_rating", nullable = true)
+    private Double weightedRating;
+
+    /**
+     * 별점 분포. 별점을 반올림한 별 개수(1~5)별 후기 수로, 별점 Atomic Update 와 같은 쿼리에서 함께 센다.
+     */
+    @Column(name = "rating_count_1", nullable = true)
+    private Long ratingCount1;
+
+    @Column(name = "rating_count_2", nullable = true)
+    private Long ratingCount2;
+
+    @Column(name = "rating_count_3", nullable = true)
+    private Long ratingCount3;
+
+    @Column(name = "rating_count_4", nullable = true)
+    private Long ratingCount4;
+
+    @Column(name = "rating_count_5", nullable = true)
+    private Long ratingCount5;
 
-        this.reviewCount++;
-        this.totalRating += rating;
-        this.averageRating = this.totalRating / this.reviewCount;
+    public StarRating addRating(Double rating) {
+        long count = (this.reviewCount == null ? 0L : this.reviewCount) + 1;
+        applyTenths(currentTenths() + toTenths(rating), count);
+        countBucket(bucketOf(rating), 1);
 
         return this;
     }
@@ -36,24 +73,92 @@ public class StarRating {
     public StarRating removeRating(Double rating) {
         if (this.reviewCount == null || this.reviewCount <= 0) return this;
 
-        this.reviewCount--;
-        this.totalRating -= rating;
+        long count = this.reviewCount - 1;
+        applyTenths(count == 0 ? 0L : Math.max(currentTenths() - toTenths(rating), 0L), count);
+        countBucket(bucketOf(rating), -1);
 
-        if (this.reviewCount == 0) {
-            this.averageRating = 0.0;
-            this.totalRating = 0.0;
-        }else {
-            this.averageRating = this.totalRating / this.reviewCount;
-        }
+        return this;
+    }
+
+    public StarRating updateRating(Double oldRating, Double newRating) {
+        if (this.reviewCount == null || this.reviewCount <= 0) return this;
+
+        applyTenths(Math.max(currentTenths() - toTenths(oldRating) + toTenths(newRating), 0L), this.reviewCount);
+        countBucket(bucketOf(oldRating), -1);
+        countBucket(bucketOf(newRating), 1);
 
         return this;
     }
 
+    /**
+     * @return 0.1점 단위 정수로 바꾼 별점
+     */
+    public static long toTenths(Double rating) {
+        return Math.round(rating * 10);
+    }
+
+    /**
+     * 별점 합(0.1점 단위)을 후기 수로 나눠 소수 첫째 자리에서 반올림한 평균.
+     * (2 * total + count) / (2 * count) 를 정수 나눗셈해 반올림하므로 부동소수점 연산을 거치지 않는다.
+     */
+    public static double averageOf(long totalTenths, long count) {
+        if (count <= 0) return 0.0;
+        return ((2 * totalTenths + count) / (2 * count)) / 10.0;
+    }
+
+    private long currentTenths() {
+        if (this.totalTenths != null) return this.totalTenths;
+        return this.totalRating == null ? 0L : toTenths(this.totalRating);
+    }
+
+    private void applyTenths(long totalTenths, long count) {
+        this.reviewCount = count;
+        this.totalTenths = totalTenths;
+        this.totalRating = totalTenths / 10.0;
+        this.averageRating = averageOf(totalTenths, count);
+    }
+
+    /**
+     * @return 1점부터 5점까지 별 개수별 후기 수
+     */
+    public List<Long> getRatingHistogram() {
+        return List.of(orZero(ratingCount1), orZero(ratingCount2), orZero(ratingCount3), orZero(ratingCount4), orZero(ratingCount5));
+    }
+
+    /**
+     * @return 별점을 반올림한 별 개수. 1 미만은 1, 5 초과는 5 로 센다.
+     */
+    public static int bucketOf(Double rating) {
+        int bucket = (int) Math.floor(rating + 0.5);
+        return Math.min(Math.max(bucket, 1), 5);
+    }
+
+    private void countBucket(int bucket, long delta) {
+        switch (bucket) {
+            case 1 -> this.ratingCount1 = Math.max(orZero(this.ratingCount1) + delta, 0L);
+            case 2 -> this.ratingCount2 = Math.max(orZero(this.ratingCount2) + delta, 0L);
+            case 3 -> this.ratingCount3 = Math.max(orZero(this.ratingCount3) + delta, 0L);
+            case 4 -> this.ratingCount4 = Math.max(orZero(this.ratingCount4) + delta, 0L);
+            default -> this.ratingCount5 = Math.max(orZero(this.ratingCount5) + delta, 0L);
+        }
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
     public static StarRating createRatingBuilder() {
         return StarRating.builder()
                 .averageRating(0.0)
                 .totalRating(0.0)
+                .totalTenths(0L)
                 .reviewCount(0L)
+                .weightedRating(0.0)
+                .ratingCount1(0L)
+                .ratingCount2(0L)
+                .ratingCount3(0L)
+                .ratingCount4(0L)
+                .ratingCount5(0L)
                 .build();
     }
 }
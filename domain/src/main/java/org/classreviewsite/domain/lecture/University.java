@@ -0,0 +1,42 @@
+package org.classreviewsite.domain.lecture;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대학명 사전. Lectures 는 대학명 문자열 대신 이 테이블의 정수 id 로 조회한다.
+ * 마지막으로 weightedRating 을 일괄 재계산할 때 쓴 베이지안 사전값도 함께 둔다. 아직 계산한 적 없는 대학은 null 이다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "University")
+public class University {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer universityId;
+
+    @Column(nullable = false, length = 45, unique = true)
+    private String name;
+
+    private Double priorWeight;
+
+    private Double priorMean;
+
+    public University(Integer universityId, String name) {
+        this(universityId, name, null, null);
+    }
+
+    public static University of(String name) {
+        return University.builder()
+                .name(name)
+                .build();
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.classreviewsite.domain.lecture;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UniversityDataRepository extends JpaRepository<University, Integer> {
+
+    Optional<University> findByName(String name);
+
+    /**
+     * 대학 사전값 저장
+     * weightedRating 일괄 재계산과 같은 트랜잭션에서 저장해, 재기동 후 같은 사전값으로 다시 계산하지 않게 한다.
+     *
+     * @param name 대학명
+     * @param priorWeight 베이지안 사전값 가중치 C
+     * @param priorMean 베이지안 사전값 평균 m
+     * @return 업데이트된 행 수 (사전에 없는 대학이면 0)
+     */
+    @Modifying
+    @Query("UPDATE University u SET u.priorWeight = :priorWeight, u.priorMean = :priorMean WHERE u.name = :name")
+    int updatePrior(@Param("name") String name,
+                    @Param("priorWeight") Double priorWeight,
+                    @Param("priorMean") Double priorMean);
+
+}
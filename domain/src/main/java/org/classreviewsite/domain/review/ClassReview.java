@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import org.classreviewsite.domain.util.BaseTimeEntity;
 import org.classreviewsite.domain.lecture.Lecture;
 import org.classreviewsite.domain.user.User;
+import org.classreviewsite.domain.util.IdSequences;
 
 /**
  * @see @변경할것
@@ -19,10 +20,17 @@ import org.classreviewsite.domain.user.User;
 @Builder
 @Getter
 @Entity
+@Table(name = "ClassReview", indexes = {
+        @Index(name = "idx_class_review_lec_star", columnList = "lecId, starLating"),
+        @Index(name = "idx_class_review_lec_likes", columnList = "lecId, likes"),
+        @Index(name = "idx_class_review_lec_create_date", columnList = "lecId, createDate")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_class_review_user_lecture", columnNames = {"userNumber", "lecId"}))
 public class ClassReview extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ClassReviewId")
+    @TableGenerator(name = "ClassReviewId", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "ClassReview", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long reviewId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -48,6 +56,17 @@ public class ClassReview extends BaseTimeEntity {
     @Version
     private Long version;
 
+    public static ClassReview create(Lecture lecture, User user, Double starLating, String postContent, String postTitle){
+        return ClassReview.builder()
+                .lecId(lecture)
+                .userNumber(user)
+                .starLating(starLating)
+                .postContent(postContent)
+                .postTitle(postTitle)
+                .likes(0)
+                .build();
+    }
+
     public int like(){
         this.likes += 1;
         return this.likes;
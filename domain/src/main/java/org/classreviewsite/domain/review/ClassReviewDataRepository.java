@@ -1,38 +1,138 @@
 package org.classreviewsite.domain.review;
 
+import org.classreviewsite.domain.lecture.EnrollmentKey;
 import org.classreviewsite.domain.lecture.Lecture;
 import org.classreviewsite.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ClassReviewDataRepository extends JpaRepository<ClassReview, Long> {
 
-    @Query("select m from ClassReview m join fetch m.lecId join fetch m.userNumber where m.lecId.lectureId = :lectureId")
-    List<ClassReview> findAll(@Param("lectureId") Long lectureId);
-
     Optional<ClassReview> findByUserNumberAndLecId(@Param("userNumber") User userNumber, @Param("lecId") Lecture lecId);
 
-    List<ClassReview> findAllByLecIdOrderByStarLatingDesc(Lecture lecId);
-
-    List<ClassReview> findAllByLecIdOrderByStarLatingAsc(Lecture lecId);
-
-    List<ClassReview> findAllByLecIdOrderByLikesDesc(Lecture lecId );
-
-    List<ClassReview> findAllByLecIdOrderByLikesAsc(Lecture lecId);
-
-    List<ClassReview> findAllByLecIdOrderByCreatedDateDesc(Lecture lecId);
-
     @Query("select m from ClassReview m join fetch m.lecId join fetch m.userNumber where m.userNumber.userNumber = :userNumber")
     List<ClassReview> findByUserNumber(@Param("userNumber") int userNumber);
 
     Optional<ClassReview> findByReviewIdAndUserNumber(Long reviewId, User userNumber);
 
+    /**
+     * 강의별 수강후기 첫 페이지 - 최신순(createDate 내림차순, 같은 시각은 reviewId 내림차순). (lecId, createDate) 인덱스를 쓴다.
+     * reviewId 는 인스턴스마다 미리 받아 둔 구간에서 나오므로 작성 순서와 다를 수 있어 정렬 기준으로 쓰지 않는다.
+     */
+    @Query("select new org.classreviewsite.domain.review.ReviewSummary(" +
+           "m.reviewId, m.postTitle, m.postContent, m.starLating, m.likes, m.createdDate, u.userNumber, u.nickname) " +
+           "from ClassReview m join m.userNumber u where m.lecId.lectureId = :lectureId " +
+           "order by m.createdDate desc, m.reviewId desc")
+    List<ReviewSummary> findSummaryPageOrderByCreatedDateDesc(@Param("lectureId") Long lectureId,
+                                                              Pageable pageable);
+
+    /**
+     * 강의별 수강후기 키셋 페이지 - 최신순으로 (createdDate, reviewId) 보다 앞선 후기부터 읽는다.
+     */
+    @Query("select new org.classreviewsite.domain.review.ReviewSummary(" +
+           "m.reviewId, m.postTitle, m.postContent, m.starLating, m.likes, m.createdDate, u.userNumber, u.nickname) " +
+           "from ClassReview m join m.userNumber u where m.lecId.lectureId = :lectureId " +
+           "and (m.createdDate < :createdDate or (m.createdDate = :createdDate and m.reviewId < :reviewId)) " +
+           "order by m.createdDate desc, m.reviewId desc")
+    List<ReviewSummary> findSummaryPageOrderByCreatedDateDesc(@Param("lectureId") Long lectureId,
+                                                              @Param("createdDate") LocalDateTime createdDate,
+                                                              @Param("reviewId") Long reviewId,
+                                                              Pageable pageable);
+
+    /**
+     * 강의별 수강후기 키셋 페이지 - 별점 높은 순, 같은 별점은 reviewId 내림차순. (lecId, starLating) 인덱스 뒤에 붙는 기본 키 순서로 읽는다.
+     */
+    @Query("select new org.classreviewsite.domain.review.ReviewSummary(" +
+           "m.reviewId, m.postTitle, m.postContent, m.starLating, m.likes, m.createdDate, u.userNumber, u.nickname) " +
+           "from ClassReview m join m.userNumber u where m.lecId.lectureId = :lectureId " +
+           "and (m.starLating < :starLating or (m.starLating = :starLating and m.reviewId < :reviewId)) " +
+           "order by m.starLating desc, m.reviewId desc")
+    List<ReviewSummary> findSummaryPageOrderByStarLatingDesc(@Param("lectureId") Long lectureId,
+                                                             @Param("starLating") Double starLating,
+                                                             @Param("reviewId") Long reviewId,
+                                                             Pageable pageable);
+
+    /**
+     * 강의별 수강후기 키셋 페이지 - 별점 낮은 순, 같은 별점은 reviewId 오름차순.
+     */
+    @Query("select new org.classreviewsite.domain.review.ReviewSummary(" +
+           "m.reviewId, m.postTitle, m.postContent, m.starLating, m.likes, m.createdDate, u.userNumber, u.nickname) " +
+           "from ClassReview m join m.userNumber u where m.lecId.lectureId = :lectureId " +
+           "and (m.starLating > :starLating or (m.starLating = :starLating and m.reviewId > :reviewId)) " +
+           "order by m.starLating asc, m.reviewId asc")
+    List<ReviewSummary> findSummaryPageOrderByStarLatingAsc(@Param("lectureId") Long lectureId,
+                                                            @Param("starLating") Double starLating,
+                                                            @Param("reviewId") Long reviewId,
+                                                            Pageable pageable);
+
+    /**
+     * 강의별 수강후기 키셋 페이지 - 좋아요 많은 순, 같은 좋아요 수는 reviewId 내림차순. (lecId, likes) 인덱스를 쓴다.
+     */
+    @Query("select new org.classreviewsite.domain.review.ReviewSummary(" +
+           "m.reviewId, m.postTitle, m.postContent, m.starLating, m.likes, m.createdDate, u.userNumber, u.nickname) " +
+           "from ClassReview m join m.userNumber u where m.lecId.lectureId = :lectureId " +
+           "and (m.likes < :likes or (m.likes = :likes and m.reviewId < :reviewId)) " +
+           "order by m.likes desc, m.reviewId desc")
+    List<ReviewSummary> findSummaryPageOrderByLikesDesc(@Param("lectureId") Long lectureId,
+                                                        @Param("likes") Integer likes,
+                                                        @Param("reviewId") Long reviewId,
+                                                        Pageable pageable);
+
+    /**
+     * 강의별 수강후기 키셋 페이지 - 좋아요 적은 순, 같은 좋아요 수는 reviewId 오름차순.
+     */
+    @Query("select new org.classreviewsite.domain.review.ReviewSummary(" +
+           "m.reviewId, m.postTitle, m.postContent, m.starLating, m.likes, m.createdDate, u.userNumber, u.nickname) " +
+           "from ClassReview m join m.userNumber u where m.lecId.lectureId = :lectureId " +
+           "and (m.likes > :likes or (m.likes = :likes and m.reviewId > :reviewId)) " +
+           "order by m.likes asc, m.reviewId asc")
+    List<ReviewSummary> findSummaryPageOrderByLikesAsc(@Param("lectureId") Long lectureId,
+                                                       @Param("likes") Integer likes,
+                                                       @Param("reviewId") Long reviewId,
+                                                       Pageable pageable);
+
+    /**
+     * 강의별 수강후기 정렬 키 조회 - 제목, 본문, 작성자는 읽지 않는다.
+     * 너무 많은 강의는 메모리에 올리지 않도록 호출 측에서 상한 + 1 개로 제한한다.
+     */
+    @Query("select new org.classreviewsite.domain.review.ReviewSortKey(m.reviewId, m.starLating, m.likes, m.createdDate) " +
+           "from ClassReview m where m.lecId.lectureId = :lectureId")
+    List<ReviewSortKey> findSortKeysByLectureId(@Param("lectureId") Long lectureId, Pageable pageable);
+
+    /**
+     * 수강후기 id 묶음 조회 - DTO 프로젝션. 순서는 보장하지 않는다.
+     */
+    @Query("select new org.classreviewsite.domain.review.ReviewSummary(" +
+           "m.reviewId, m.postTitle, m.postContent, m.starLating, m.likes, m.createdDate, u.userNumber, u.nickname) " +
+           "from ClassReview m join m.userNumber u where m.reviewId in :reviewIds")
+    List<ReviewSummary> findSummariesByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    /**
+     * 학생별 수강후기 목록 조회 - DTO 프로젝션
+     */
+    @Query("select new org.classreviewsite.domain.review.UserReviewSummary(" +
+           "m.reviewId, m.postTitle, m.postContent, m.starLating, m.likes, m.createdDate, l.lectureName) " +
+           "from ClassReview m join m.lecId l where m.userNumber.userNumber = :userNumber")
+    List<UserReviewSummary> findSummariesByUserNumber(@Param("userNumber") int userNumber);
+
+    /**
+     * 작성 내역 묶음 조회 - 학번 목록과 강의 id 목록의 조합 중 이미 후기를 쓴 쌍만 돌려준다.
+     * (userNumber, lecId) 유니크 인덱스로 읽는다.
+     */
+    @Query("select new org.classreviewsite.domain.lecture.EnrollmentKey(m.userNumber.userNumber, m.lecId.lectureId) " +
+           "from ClassReview m where m.userNumber.userNumber in :userNumbers and m.lecId.lectureId in :lectureIds")
+    List<EnrollmentKey> findWrittenKeys(@Param("userNumbers") Collection<Integer> userNumbers,
+                                        @Param("lectureIds") Collection<Long> lectureIds);
+
 }
 
 
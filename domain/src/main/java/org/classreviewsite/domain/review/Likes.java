@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.classreviewsite.domain.user.User;
+import org.classreviewsite.domain.util.IdSequences;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +18,9 @@ public class Likes {
 
     // 좋아요를 한다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "LikesId")
+    @TableGenerator(name = "LikesId", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "Likes", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long likeId;
 
     // 해당 수강 후기 글에
@@ -2,8 +2,12 @@ package org.classreviewsite.domain.review;
 
 import org.classreviewsite.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface LikesDataRepository extends JpaRepository<Likes, Long> {
 
@@ -13,6 +17,12 @@ public interface LikesDataRepository extends JpaRepository<Likes, Long> {
 
     void deleteByClassReviewAndUser(ClassReview classReview, User user);
 
+    /**
+     * 학생이 해당 강의의 수강후기 중 좋아요한 후기 id 목록.
+     */
+    @Query("select l.classReview.reviewId from Likes l where l.user.userNumber = :userNumber and l.classReview.lecId.lectureId = :lectureId")
+    List<Long> findLikedReviewIds(@Param("userNumber") int userNumber, @Param("lectureId") Long lectureId);
+
 
 }
 
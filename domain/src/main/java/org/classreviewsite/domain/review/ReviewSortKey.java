@@ -0,0 +1,20 @@
+package org.classreviewsite.domain.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강의별 수강후기 정렬 키만 읽는 프로젝션. 본문 없이 정렬 순서를 메모리에 만들 때 쓴다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewSortKey {
+
+    private final Long reviewId;
+    private final Double starLating;
+    private final int likes;
+    private final LocalDateTime createdDate;
+
+}
@@ -0,0 +1,24 @@
+package org.classreviewsite.domain.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 강의별 수강후기 목록 조회용 읽기 전용 프로젝션.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewSummary {
+
+    private final Long reviewId;
+    private final String postTitle;
+    private final String postContent;
+    private final Double starLating;
+    private final int likes;
+    private final LocalDateTime createdDate;
+    private final int userNumber;
+    private final String nickname;
+
+}
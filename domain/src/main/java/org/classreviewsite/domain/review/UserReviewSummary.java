@@ -0,0 +1,23 @@
+package org.classreviewsite.domain.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학생별 수강후기 목록 조회용 읽기 전용 프로젝션.
+ */
+@Getter
+@AllArgsConstructor
+public class UserReviewSummary {
+
+    private final Long reviewId;
+    private final String postTitle;
+    private final String postContent;
+    private final Double starLating;
+    private final int likes;
+    private final LocalDateTime createdDate;
+    private final String lectureName;
+
+}
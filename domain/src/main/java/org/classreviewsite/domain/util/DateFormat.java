@@ -0,0 +1,41 @@
+package org.classreviewsite.domain.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응답에 쓰는 작성일 문자열(예: 2024-3-5).
+ * 한 페이지의 후기는 며칠 안에 몰려 있는 경우가 많아 날짜별 문자열을 작은 캐시에 두고 다시 쓴다.
+ * 캐시 칸은 불변 객체를 통째로 바꾸므로 잠금 없이 읽어도 되고, 다른 날짜와 칸이 겹치면 새로 만들어 덮어쓴다.
+ */
+public class DateFormat {
+
+    private static final int CACHE_SIZE = 1024;
+
+    private static final Entry[] CACHE = new Entry[CACHE_SIZE];
+
+    public static String format(LocalDateTime dateTime){
+        if (dateTime == null) {
+            return null;
+        }
+        long epochDay = dateTime.toLocalDate().toEpochDay();
+        int slot = (int) (epochDay & (CACHE_SIZE - 1));
+        Entry entry = CACHE[slot];
+        if (entry != null && entry.epochDay == epochDay) {
+            return entry.text;
+        }
+        String text = dateTime.getYear() + "-" + dateTime.getMonthValue() + "-" + dateTime.getDayOfMonth();
+        CACHE[slot] = new Entry(epochDay, text);
+        return text;
+    }
+
+    private static final class Entry {
+
+        private final long epochDay;
+        private final String text;
+
+        private Entry(long epochDay, String text) {
+            this.epochDay = epochDay;
+            this.text = text;
+        }
+    }
+}
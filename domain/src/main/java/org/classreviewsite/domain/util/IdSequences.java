@@ -0,0 +1,21 @@
+package org.classreviewsite.domain.util;
+
+/**
+ * 엔티티 id 를 나눠 주는 id_sequences 테이블 설정 (@TableGenerator).
+ * IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어 Hibernate 가 JDBC batch INSERT 를 하지 못하므로,
+ * 테이블 행 하나를 시퀀스처럼 써서 ALLOCATION_SIZE 개씩 미리 받아 둔다. MySQL 과 H2 모두 같은 테이블 구조로 동작한다.
+ * Hibernate pooled 최적화기는 읽은 값 v 에 대해 (v - ALLOCATION_SIZE, v] 구간의 id 를 쓰고 v + ALLOCATION_SIZE 로 올려 둔다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+
+    public static final String NAME_COLUMN = "sequence_name";
+
+    public static final String VALUE_COLUMN = "next_val";
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
@@ -1,20 +1,16 @@
 package org.classreviewsite.domain.util;
 
-import lombok.extern.slf4j.Slf4j;
-
-@Slf4j
 public class NumberFormat {
 
+    /**
+     * 소수점 첫째 자리로 반올림한다.
+     * 응답 매핑마다 불리므로 문자열을 거치지 않고 계산하며, 이미 첫째 자리까지인 값(저장된 별점 대부분)은 그대로 돌려준다.
+     */
     public static Double format(Double number){
-        log.info("data: {}", String.format("%.1f", number));
-        return Double.valueOf(String.format("%.1f", number));
+        if (number == null || number.isNaN() || number.isInfinite()) {
+            return number;
+        }
+        double rounded = Math.round(number * 10) / 10.0;
+        return rounded == number ? number : Double.valueOf(rounded);
     }
 }
-
-
-
-
-
-
-
-